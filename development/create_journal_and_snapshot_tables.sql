@@ -68,4 +68,34 @@ CREATE TABLE IF NOT EXISTS akka_projection_management (
     paused BOOLEAN NOT NULL,
     last_updated BIGINT NOT NULL,
     PRIMARY KEY(projection_name, projection_key)
-);
\ No newline at end of file
+);
+CREATE TABLE IF NOT EXISTS durable_state (
+    global_offset         BIGSERIAL,
+    persistence_id        VARCHAR(255) NOT NULL,
+    revision              BIGINT       NOT NULL,
+    state_payload         BYTEA        NOT NULL,
+    state_serial_id       INTEGER      NOT NULL,
+    state_serial_manifest VARCHAR(255),
+    tag                   VARCHAR,
+    state_timestamp       BIGINT       NOT NULL,
+    PRIMARY KEY (persistence_id)
+);
+
+CREATE INDEX IF NOT EXISTS state_tag_idx ON durable_state (tag);
+CREATE INDEX IF NOT EXISTS state_global_offset_idx ON durable_state (global_offset);
+
+CREATE TABLE IF NOT EXISTS show_view (
+    show_id UUID NOT NULL,
+    available_seats INTEGER NOT NULL,
+    PRIMARY KEY(show_id)
+);
+
+CREATE INDEX IF NOT EXISTS show_view_available_idx ON show_view (available_seats, show_id) WHERE available_seats > 0;
+
+CREATE TABLE IF NOT EXISTS show_seat_map (
+    show_id UUID NOT NULL,
+    show_payload BYTEA NOT NULL,
+    show_serial_id INTEGER NOT NULL,
+    show_serial_manifest VARCHAR(255),
+    PRIMARY KEY(show_id)
+);
@@ -0,0 +1,27 @@
+-- Tags show events stored before events were spread over tag slices with the slice tag of their show,
+-- so the show view and seat map projections, which consume only the slice tags, project them too.
+-- The slice is computed as ShowEntity.sliceOf does, Math.floorMod(UUID.hashCode(), slices).
+-- Run once, before the projections are started, with slices set to cinema.reservation.showEntity.eventTagSlices:
+--   psql -U admin -d postgres -v slices=4 -f retag_show_events.sql
+
+INSERT INTO event_tag (event_id, tag)
+SELECT legacy.event_id, 'ShowEvent-' || (((legacy.hash_code % :slices) + :slices) % :slices)
+FROM (
+    SELECT tagged.event_id,
+           CASE WHEN tagged.hash_bits >= 2147483648 THEN tagged.hash_bits - 4294967296 ELSE tagged.hash_bits END AS hash_code
+    FROM (
+        SELECT bits.event_id, ((bits.hilo >> 32) # bits.hilo) & 4294967295 AS hash_bits
+        FROM (
+            SELECT event_tag.event_id,
+                   ('x' || substr(replace(split_part(event_journal.persistence_id, '|', 2), '-', ''), 1, 16))::bit(64)::bigint
+                       # ('x' || substr(replace(split_part(event_journal.persistence_id, '|', 2), '-', ''), 17, 16))::bit(64)::bigint AS hilo
+            FROM event_tag
+            JOIN event_journal ON event_journal.ordering = event_tag.event_id
+            WHERE event_tag.tag = 'ShowEvent'
+        ) bits
+    ) tagged
+) legacy
+ON CONFLICT DO NOTHING;
+
+-- The show view was kept in memory before, its offset is not used by the projections per slice.
+DELETE FROM akka_projection_offset_store WHERE projection_name = 'show-events' AND projection_key = 'show-view';
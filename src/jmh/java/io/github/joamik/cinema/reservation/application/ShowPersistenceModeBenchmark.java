@@ -0,0 +1,171 @@
+package io.github.joamik.cinema.reservation.application;
+
+import akka.actor.testkit.typed.javadsl.ActorTestKit;
+import akka.actor.typed.ActorRef;
+import akka.actor.typed.Behavior;
+import akka.actor.typed.javadsl.AskPattern;
+import akka.japi.Pair;
+import akka.persistence.state.DurableStateStoreRegistry;
+import akka.persistence.state.javadsl.DurableStateUpdateStore;
+import akka.persistence.testkit.PersistenceTestKitDurableStateStorePlugin;
+import akka.persistence.testkit.PersistenceTestKitPlugin;
+import akka.persistence.testkit.PersistenceTestKitSnapshotPlugin;
+import akka.persistence.testkit.SnapshotMeta;
+import akka.persistence.testkit.javadsl.PersistenceTestKit;
+import akka.persistence.testkit.javadsl.SnapshotTestKit;
+import akka.persistence.testkit.state.javadsl.PersistenceTestKitDurableStateStore;
+import com.typesafe.config.ConfigFactory;
+import io.github.joamik.cinema.base.domain.Clock;
+import io.github.joamik.cinema.base.domain.Result.Success;
+import io.github.joamik.cinema.reservation.application.ShowEntityCommand.GetShow;
+import io.github.joamik.cinema.reservation.application.ShowEntityCommand.ShowCommandEnvelope;
+import io.github.joamik.cinema.reservation.domain.SeatNumber;
+import io.github.joamik.cinema.reservation.domain.Show;
+import io.github.joamik.cinema.reservation.domain.ShowCommand;
+import io.github.joamik.cinema.reservation.domain.ShowCommand.CancelSeatReservation;
+import io.github.joamik.cinema.reservation.domain.ShowCommand.CreateShow;
+import io.github.joamik.cinema.reservation.domain.ShowCommand.ReserveSeat;
+import io.github.joamik.cinema.reservation.domain.ShowCommandError;
+import io.github.joamik.cinema.reservation.domain.ShowCreator;
+import io.github.joamik.cinema.reservation.domain.ShowEvent;
+import io.github.joamik.cinema.reservation.domain.ShowEvent.SeatReservationCancelled;
+import io.github.joamik.cinema.reservation.domain.ShowEvent.SeatReserved;
+import io.github.joamik.cinema.reservation.domain.ShowEvent.ShowCreated;
+import io.github.joamik.cinema.reservation.domain.ShowId;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link ShowEntity} with {@link DurableShowEntity} on the serializing testkit persistence plugins:
+ * a reserve and cancel round trip on a running entity, and starting an entity whose show has a long history.
+ * The event sourced history is seeded together with the snapshot the default properties would have taken.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ShowPersistenceModeBenchmark {
+
+    private static final int SEATS = 1_000;
+    private static final int HISTORY = 1_000;
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    @Param({"EVENT_SOURCED", "DURABLE_STATE"})
+    private ShowPersistenceMode persistenceMode;
+
+    private final Clock clock = Clock.utc();
+    private ActorTestKit testKit;
+    private ShowId recoveredShowId;
+    private ActorRef<ShowEntityCommand> runningEntity;
+    private ReserveSeat reserveSeat;
+    private CancelSeatReservation cancelSeatReservation;
+
+    @Setup
+    public void setUp() {
+        testKit = ActorTestKit.create(PersistenceTestKitPlugin.config()
+                .withFallback(PersistenceTestKitSnapshotPlugin.config())
+                .withFallback(PersistenceTestKitDurableStateStorePlugin.config())
+                .withFallback(ConfigFactory.parseString("""
+                        akka.actor.allow-java-serialization = off
+                        akka.loglevel = WARNING
+                        """).withFallback(ConfigFactory.parseResources("serialization.conf"))));
+
+        recoveredShowId = ShowId.of(UUID.randomUUID());
+        seedHistory(recoveredShowId);
+
+        var runningShowId = ShowId.of(UUID.randomUUID());
+        runningEntity = testKit.spawn(entity(runningShowId));
+        ask(runningEntity, new CreateShow(runningShowId, "Benchmark", SEATS));
+        reserveSeat = new ReserveSeat(runningShowId, SeatNumber.of(1));
+        cancelSeatReservation = new CancelSeatReservation(runningShowId, SeatNumber.of(1));
+    }
+
+    private void seedHistory(ShowId showId) {
+        var persistenceId = ShowEntity.persistenceId(showId).id();
+        var showCreated = ((Success<ShowCommandError, ShowCreated>) ShowCreator.create(new CreateShow(showId, "Benchmark", SEATS), clock)).value();
+        var history = new ArrayList<Object>(HISTORY);
+        history.add(showCreated);
+        var show = Show.create(showCreated);
+        Show snapshot = null;
+        int snapshotEvery = ShowEntityProperties.DEFAULT.getSnapshotEvery();
+        for (int sequenceNr = 2; sequenceNr <= HISTORY; sequenceNr++) {
+            var seatNumber = SeatNumber.of(sequenceNr % SEATS + 1);
+            ShowEvent event = show.seats().isReserved(seatNumber)
+                    ? new SeatReservationCancelled(showId, clock.now(), seatNumber)
+                    : new SeatReserved(showId, clock.now(), seatNumber);
+            history.add(event);
+            show = show.apply(event);
+            if (sequenceNr % snapshotEvery == 0) {
+                snapshot = show;
+            }
+        }
+        switch (persistenceMode) {
+            case EVENT_SOURCED -> {
+                PersistenceTestKit.create(testKit.system()).persistForRecovery(persistenceId, history);
+                SnapshotTestKit.create(testKit.system())
+                        .persistForRecovery(persistenceId, List.of(Pair.create(SnapshotMeta.create(HISTORY / snapshotEvery * snapshotEvery), snapshot)));
+            }
+            case DURABLE_STATE -> durableStateStore().upsertObject(persistenceId, HISTORY, show, "").toCompletableFuture().join();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private DurableStateUpdateStore<Show> durableStateStore() {
+        return DurableStateStoreRegistry.get(testKit.system())
+                .getDurableStateStoreFor(DurableStateUpdateStore.class, PersistenceTestKitDurableStateStore.Identifier());
+    }
+
+    @TearDown
+    public void tearDown() {
+        testKit.shutdownTestKit();
+    }
+
+    @Benchmark
+    public ShowEntityResponse reserveAndCancel() {
+        ask(runningEntity, reserveSeat);
+        return ask(runningEntity, cancelSeatReservation);
+    }
+
+    @Benchmark
+    public Optional<Show> recover() {
+        var showEntity = testKit.spawn(entity(recoveredShowId));
+        Optional<Show> show = AskPattern.<ShowEntityCommand, ShowSnapshot>ask(showEntity, GetShow::new, TIMEOUT, testKit.scheduler())
+                .toCompletableFuture()
+                .join()
+                .show();
+        testKit.stop(showEntity);
+        return show;
+    }
+
+    private Behavior<ShowEntityCommand> entity(ShowId showId) {
+        return switch (persistenceMode) {
+            case EVENT_SOURCED -> ShowEntity.create(showId, clock);
+            case DURABLE_STATE -> DurableShowEntity.create(showId, clock);
+        };
+    }
+
+    private ShowEntityResponse ask(ActorRef<ShowEntityCommand> showEntity, ShowCommand command) {
+        return AskPattern.<ShowEntityCommand, ShowEntityResponse>ask(showEntity, replyTo -> new ShowCommandEnvelope(command, replyTo), TIMEOUT, testKit.scheduler())
+                .toCompletableFuture()
+                .join();
+    }
+}
@@ -0,0 +1,123 @@
+package io.github.joamik.cinema.reservation.application;
+
+import akka.actor.testkit.typed.javadsl.ActorTestKit;
+import akka.actor.typed.javadsl.AskPattern;
+import akka.japi.Pair;
+import akka.persistence.testkit.PersistenceTestKitPlugin;
+import akka.persistence.testkit.PersistenceTestKitSnapshotPlugin;
+import akka.persistence.testkit.SnapshotMeta;
+import akka.persistence.testkit.javadsl.PersistenceTestKit;
+import akka.persistence.testkit.javadsl.SnapshotTestKit;
+import com.typesafe.config.ConfigFactory;
+import io.github.joamik.cinema.base.domain.Clock;
+import io.github.joamik.cinema.base.domain.Result.Success;
+import io.github.joamik.cinema.reservation.application.ShowEntityCommand.GetShow;
+import io.github.joamik.cinema.reservation.domain.SeatNumber;
+import io.github.joamik.cinema.reservation.domain.Show;
+import io.github.joamik.cinema.reservation.domain.ShowCommand.CreateShow;
+import io.github.joamik.cinema.reservation.domain.ShowCommandError;
+import io.github.joamik.cinema.reservation.domain.ShowCreator;
+import io.github.joamik.cinema.reservation.domain.ShowEvent;
+import io.github.joamik.cinema.reservation.domain.ShowEvent.SeatReservationCancelled;
+import io.github.joamik.cinema.reservation.domain.ShowEvent.SeatReserved;
+import io.github.joamik.cinema.reservation.domain.ShowEvent.ShowCreated;
+import io.github.joamik.cinema.reservation.domain.ShowId;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Starts a {@link ShowEntity} with a long history and waits until it has recovered, with and without snapshots.
+ * The history is written straight into the serializing persistence testkit plugins, together with the latest
+ * snapshot the entity would have taken with the given {@code snapshotEvery}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ShowRecoveryBenchmark {
+
+    private static final int SEATS = 1_000;
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    @Param({"1000", "10000"})
+    private int events;
+
+    @Param({"0", "100"})
+    private int snapshotEvery;
+
+    private final Clock clock = Clock.utc();
+    private ActorTestKit testKit;
+    private ShowId showId;
+    private ShowEntityProperties properties;
+
+    @Setup
+    public void setUp() {
+        testKit = ActorTestKit.create(PersistenceTestKitPlugin.config()
+                .withFallback(PersistenceTestKitSnapshotPlugin.config())
+                .withFallback(ConfigFactory.parseString("""
+                        akka.actor.allow-java-serialization = off
+                        akka.loglevel = WARNING
+                        """).withFallback(ConfigFactory.parseResources("serialization.conf"))));
+        showId = ShowId.of(UUID.randomUUID());
+        properties = new ShowEntityProperties(snapshotEvery, 2, false, false);
+
+        var persistenceId = ShowEntity.persistenceId(showId).id();
+        var history = new ArrayList<Object>(events);
+        var showCreated = ((Success<ShowCommandError, ShowCreated>) ShowCreator.create(new CreateShow(showId, "Benchmark", SEATS), clock)).value();
+        history.add(showCreated);
+        var show = Show.create(showCreated);
+        Show snapshot = null;
+        for (int sequenceNr = 2; sequenceNr <= events; sequenceNr++) {
+            var seatNumber = SeatNumber.of((sequenceNr - 2) / 2 % SEATS + 1);
+            ShowEvent event = sequenceNr % 2 == 0
+                    ? new SeatReserved(showId, clock.now(), seatNumber)
+                    : new SeatReservationCancelled(showId, clock.now(), seatNumber);
+            history.add(event);
+            show = show.apply(event);
+            if (snapshotEvery > 0 && sequenceNr % snapshotEvery == 0) {
+                snapshot = show;
+            }
+        }
+        PersistenceTestKit.create(testKit.system()).persistForRecovery(persistenceId, history);
+        if (snapshot != null) {
+            long snapshotSequenceNr = events / snapshotEvery * snapshotEvery;
+            SnapshotTestKit.create(testKit.system())
+                    .persistForRecovery(persistenceId, List.of(Pair.create(SnapshotMeta.create(snapshotSequenceNr), snapshot)));
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        testKit.shutdownTestKit();
+    }
+
+    @Benchmark
+    public Optional<Show> recover() {
+        var showEntity = testKit.spawn(ShowEntity.create(showId, clock, properties));
+        Optional<Show> show = AskPattern.<ShowEntityCommand, ShowSnapshot>ask(showEntity, GetShow::new, TIMEOUT, testKit.scheduler())
+                .toCompletableFuture()
+                .join()
+                .show();
+        testKit.stop(showEntity);
+        return show;
+    }
+}
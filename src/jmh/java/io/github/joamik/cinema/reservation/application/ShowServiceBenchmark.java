@@ -0,0 +1,74 @@
+package io.github.joamik.cinema.reservation.application;
+
+import akka.actor.ActorSystem;
+import akka.actor.typed.javadsl.Adapter;
+import akka.cluster.sharding.typed.javadsl.ClusterSharding;
+import akka.persistence.testkit.PersistenceTestKitPlugin;
+import akka.persistence.testkit.PersistenceTestKitSnapshotPlugin;
+import com.typesafe.config.ConfigFactory;
+import io.github.joamik.cinema.base.domain.Clock;
+import io.github.joamik.cinema.reservation.domain.Show;
+import io.github.joamik.cinema.reservation.domain.ShowId;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reads of a single hot show by many threads, either each asking the show entity or sharing the ask in flight.
+ * Each thread waiting on its own ask keeps a {@code GetShow} in the entity mailbox, shared asks keep at most one there,
+ * compare the p99 of both with {@code -Djmh.args="ShowServiceBenchmark"}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(32)
+@Fork(1)
+public class ShowServiceBenchmark {
+
+    private ActorSystem system;
+    private ShowService showService;
+    private ShowId showId;
+
+    @Setup
+    public void setUp() {
+        system = ActorSystem.create("es-cinema", PersistenceTestKitPlugin.config()
+                .withFallback(PersistenceTestKitSnapshotPlugin.config())
+                .withFallback(ConfigFactory.parseString("akka.loglevel = WARNING"))
+                .withFallback(ConfigFactory.load()));
+        showService = new ShowService(ClusterSharding.get(Adapter.toTyped(system)), Clock.utc(), new ShowServiceProperties(5_000),
+                ShowEntityProperties.DEFAULT, ShowPersistenceMode.EVENT_SOURCED, ShowCache.disabled(),
+                new ShowAdmission(ShowAdmissionProperties.DEFAULT), ShowMetrics.NONE);
+        showId = ShowId.of(UUID.randomUUID());
+        showService.createShow(showId, "Hot show", 1_000).toCompletableFuture().join();
+    }
+
+    @TearDown
+    public void tearDown() {
+        system.terminate();
+    }
+
+    @Benchmark
+    public Optional<Show> sharedAsks() {
+        return showService.findShowBy(showId).toCompletableFuture().join();
+    }
+
+    @Benchmark
+    public Optional<Show> askPerRead() {
+        return showService.findCurrentShowBy(showId).toCompletableFuture().join();
+    }
+}
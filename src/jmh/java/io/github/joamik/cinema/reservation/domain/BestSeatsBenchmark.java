@@ -0,0 +1,95 @@
+package io.github.joamik.cinema.reservation.domain;
+
+import io.github.joamik.cinema.base.domain.Clock;
+import io.github.joamik.cinema.reservation.domain.ShowCommand.ReserveBestSeats;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Picks 4 adjacent seats in a partially sold show, comparing {@link Show#process} for {@link ReserveBestSeats}
+ * with a seat by seat scan over the same rows.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BestSeatsBenchmark {
+
+    private static final int SEATS_PER_ROW = 20;
+    private static final int COUNT = 4;
+
+    @Param({"300", "50000"})
+    private int seats;
+
+    @Param({"0.5", "0.9"})
+    private double soldRatio;
+
+    private Show show;
+    private List<SeatLayout.SeatRange> seatRanges;
+    private ReserveBestSeats reserveBestSeats;
+    private final Clock clock = Clock.fixed(Instant.parse("2024-03-16T21:32:05Z"));
+
+    @Setup
+    public void setUp() {
+        var rows = new ArrayList<SeatLayout.Row>();
+        for (int row = 1; row <= seats / SEATS_PER_ROW; row++) {
+            rows.add(new SeatLayout.Row(String.valueOf(row), SEATS_PER_ROW, row % 2 == 0 ? "premium" : "standard"));
+        }
+        var layout = new SeatLayout(
+                List.of(new SeatLayout.PriceZone("premium", BigDecimal.valueOf(200)), new SeatLayout.PriceZone("standard", BigDecimal.valueOf(100))),
+                List.of(new SeatLayout.Section("1", rows)));
+
+        var random = new Random(42);
+        var reserved = new ArrayList<SeatNumber>();
+        for (int number = 1; number <= layout.capacity(); number++) {
+            if (random.nextDouble() < soldRatio) {
+                reserved.add(SeatNumber.of(number));
+            }
+        }
+        var showId = ShowId.of(UUID.randomUUID());
+        show = new Show(showId, "Benchmark", layout, Seats.allAvailable(layout).reserveAll(reserved));
+        seatRanges = layout.seatRanges().stream()
+                .sorted((first, second) -> Integer.compare(first.priceZone(), second.priceZone()))
+                .toList();
+        reserveBestSeats = new ReserveBestSeats(showId, COUNT);
+    }
+
+    @Benchmark
+    public Object reserveBestSeats() {
+        return show.process(reserveBestSeats, clock);
+    }
+
+    @Benchmark
+    public int seatBySeatScan() {
+        var showSeats = show.seats();
+        for (var seatRange : seatRanges) {
+            int run = 0;
+            for (int number = seatRange.firstSeat(); number <= seatRange.lastSeat(); number++) {
+                run = showSeats.isAvailable(SeatNumber.of(number)) ? run + 1 : 0;
+                if (run == COUNT) {
+                    return number - COUNT + 1;
+                }
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,63 @@
+package io.github.joamik.cinema.reservation.domain;
+
+import io.github.joamik.cinema.base.domain.Clock;
+import io.github.joamik.cinema.reservation.domain.ShowCommand.CancelSeatReservation;
+import io.github.joamik.cinema.reservation.domain.ShowCommand.ReserveSeat;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Command side of a single show, meant to be run with {@code -prof gc} to track bytes allocated per command.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ShowCommandBenchmark {
+
+    private final Clock clock = Clock.utc();
+
+    private Show show;
+    private ReserveSeat reserveAvailableSeat;
+    private ReserveSeat reserveReservedSeat;
+    private CancelSeatReservation cancelNotReservedSeat;
+
+    @Setup
+    public void setUp() {
+        var showId = ShowId.of(UUID.randomUUID());
+        var layout = SeatLayout.singleRow(300, BigDecimal.valueOf(100));
+        show = new Show(showId, "Benchmark", layout, Seats.allAvailable(layout).reserve(SeatNumber.of(2)));
+        reserveAvailableSeat = new ReserveSeat(showId, SeatNumber.of(1));
+        reserveReservedSeat = new ReserveSeat(showId, SeatNumber.of(2));
+        cancelNotReservedSeat = new CancelSeatReservation(showId, SeatNumber.of(3));
+    }
+
+    @Benchmark
+    public Object reserveAvailableSeat() {
+        return show.process(reserveAvailableSeat, clock);
+    }
+
+    @Benchmark
+    public Object reserveReservedSeat() {
+        return show.process(reserveReservedSeat, clock);
+    }
+
+    @Benchmark
+    public Object cancelNotReservedSeat() {
+        return show.process(cancelNotReservedSeat, clock);
+    }
+}
@@ -0,0 +1,84 @@
+package io.github.joamik.cinema.reservation.domain;
+
+import io.github.joamik.cinema.reservation.domain.ShowEvent.SeatReserved;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static java.util.function.Function.identity;
+import static java.util.stream.Collectors.toUnmodifiableMap;
+
+/**
+ * Replays one {@link SeatReserved} per seat, comparing {@link Show#apply} with the copy-on-write
+ * {@code Map<SeatNumber, Seat>} update it replaced.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ShowReplayBenchmark {
+
+    private static final BigDecimal PRICE = BigDecimal.valueOf(100);
+
+    @Param({"100", "1000", "10000"})
+    private int seats;
+
+    private Show show;
+    private Map<SeatNumber, Seat> seatMap;
+    private List<SeatReserved> events;
+
+    @Setup
+    public void setUp() {
+        var showId = ShowId.of(UUID.randomUUID());
+        var now = Instant.now();
+        var layout = SeatLayout.singleRow(seats, PRICE);
+        show = new Show(showId, "Benchmark", layout, Seats.allAvailable(layout));
+        seatMap = IntStream.rangeClosed(1, seats)
+                .mapToObj(number -> new Seat(SeatNumber.of(number), SeatStatus.AVAILABLE, PRICE))
+                .collect(toUnmodifiableMap(Seat::number, identity()));
+        events = IntStream.rangeClosed(1, seats)
+                .mapToObj(number -> new SeatReserved(showId, now, SeatNumber.of(number)))
+                .toList();
+    }
+
+    @Benchmark
+    public Show replayPersistentSeats() {
+        var current = show;
+        for (var event : events) {
+            current = current.apply(event);
+        }
+        return current;
+    }
+
+    @Benchmark
+    public Map<SeatNumber, Seat> replayCopyOnWriteMap() {
+        var current = seatMap;
+        for (var event : events) {
+            var seat = current.get(event.seatNumber());
+            Map<SeatNumber, Seat> newSeats = new HashMap<>(current);
+            newSeats.put(event.seatNumber(), seat.reserved());
+            current = Collections.unmodifiableMap(newSeats);
+        }
+        return current;
+    }
+}
@@ -0,0 +1,113 @@
+package io.github.joamik.cinema.reservation.domain;
+
+import io.github.joamik.cinema.base.domain.Clock;
+import io.github.joamik.cinema.base.domain.Result.Success;
+import io.github.joamik.cinema.reservation.domain.ShowCommand.CancelSeatReservation;
+import io.github.joamik.cinema.reservation.domain.ShowCommand.CreateShow;
+import io.github.joamik.cinema.reservation.domain.ShowCommand.ReserveSeat;
+import io.github.joamik.cinema.reservation.domain.ShowEvent.SeatReserved;
+import io.github.joamik.cinema.reservation.domain.ShowEvent.ShowCreated;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Creates and replays shows with sectioned layouts, from a cinema hall up to a 50k seat arena,
+ * and measures a single reserve/cancel round on a show of that size.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StadiumShowBenchmark {
+
+    private static final int SEATS_PER_ROW = 25;
+    private static final int ROWS_PER_SECTION = 40;
+
+    private final Clock clock = Clock.fixed(Instant.parse("2024-03-16T21:32:05Z"));
+
+    @Param({"100", "50000"})
+    private int seats;
+
+    private CreateShow createShow;
+    private ShowCreated showCreated;
+    private List<SeatReserved> events;
+    private Show show;
+    private ReserveSeat reserveSeat;
+    private CancelSeatReservation cancelSeatReservation;
+
+    @Setup
+    public void setUp() {
+        var showId = ShowId.of(UUID.randomUUID());
+        createShow = new CreateShow(showId, "Arena", layout(seats));
+        showCreated = ((Success<ShowCommandError, ShowCreated>) ShowCreator.create(createShow, clock)).value();
+        events = IntStream.rangeClosed(1, seats)
+                .mapToObj(number -> new SeatReserved(showId, clock.now(), SeatNumber.of(number)))
+                .toList();
+        show = Show.create(showCreated);
+        var seatNumber = SeatNumber.of(seats / 2);
+        reserveSeat = new ReserveSeat(showId, seatNumber);
+        cancelSeatReservation = new CancelSeatReservation(showId, seatNumber);
+    }
+
+    @Benchmark
+    public Object create() {
+        return ShowCreator.create(createShow, clock);
+    }
+
+    @Benchmark
+    public Show replayAllSeatsReserved() {
+        var current = Show.create(showCreated);
+        for (var event : events) {
+            current = current.apply(event);
+        }
+        return current;
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public Show reserveAndCancel() {
+        var reserved = applyAll(show, show.process(reserveSeat, clock));
+        return applyAll(reserved, reserved.process(cancelSeatReservation, clock));
+    }
+
+    private static Show applyAll(Show show, Object result) {
+        return show.apply(((Success<ShowCommandError, ShowEvent>) result).value());
+    }
+
+    private static SeatLayout layout(int seats) {
+        var priceZones = List.of(
+                new SeatLayout.PriceZone("premium", BigDecimal.valueOf(250)),
+                new SeatLayout.PriceZone("standard", BigDecimal.valueOf(120)));
+        var sections = new ArrayList<SeatLayout.Section>();
+        int remaining = seats;
+        while (remaining > 0) {
+            var rows = new ArrayList<SeatLayout.Row>();
+            for (int row = 1; row <= ROWS_PER_SECTION && remaining > 0; row++) {
+                int rowSeats = Math.min(SEATS_PER_ROW, remaining);
+                rows.add(new SeatLayout.Row(String.valueOf(row), rowSeats, row <= 5 ? "premium" : "standard"));
+                remaining -= rowSeats;
+            }
+            sections.add(new SeatLayout.Section(String.valueOf(sections.size() + 1), rows));
+        }
+        return new SeatLayout(priceZones, sections);
+    }
+}
@@ -0,0 +1,66 @@
+package io.github.joamik.cinema.reservation.infrastructure;
+
+import io.github.joamik.cinema.reservation.application.projection.ShowView;
+import io.github.joamik.cinema.reservation.domain.ShowId;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reads of the in-memory show view, a tenth of the shows is sold out.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InMemoryShowViewQueryBenchmark {
+
+    @Param({"100000"})
+    private int shows;
+
+    private InMemoryShowViewRepository showViewRepository;
+    private Optional<ShowView> middle;
+
+    @Setup
+    public void setUp() {
+        var random = new Random(42);
+        showViewRepository = new InMemoryShowViewRepository();
+        for (int i = 0; i < shows; i++) {
+            var showId = ShowId.of(UUID.randomUUID());
+            showViewRepository.save(showId, i % 10 == 0 ? 0 : random.nextInt(1, 1_000));
+        }
+        var available = showViewRepository.findAvailable().toCompletableFuture().join();
+        middle = Optional.of(available.get(available.size() / 2));
+    }
+
+    @Benchmark
+    public List<ShowView> findAll() {
+        return showViewRepository.findAvailable().toCompletableFuture().join();
+    }
+
+    @Benchmark
+    public List<ShowView> findPage() {
+        return showViewRepository.findAvailable(middle, 50).toCompletableFuture().join();
+    }
+
+    @Benchmark
+    public List<ShowView> findAlmostSoldOut() {
+        return showViewRepository.findAlmostSoldOut(10).toCompletableFuture().join();
+    }
+}
@@ -0,0 +1,57 @@
+package io.github.joamik.cinema.reservation.infrastructure;
+
+import io.github.joamik.cinema.reservation.domain.ShowId;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Projection updates applied to the in-memory show view by several writer threads, {@code shows=1} is a single hot show.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+@Fork(1)
+public class InMemoryShowViewRepositoryBenchmark {
+
+    @Param({"1", "1000"})
+    private int shows;
+
+    private InMemoryShowViewRepository showViewRepository;
+    private ShowId[] showIds;
+
+    @Setup
+    public void setUp() {
+        showViewRepository = new InMemoryShowViewRepository();
+        showIds = IntStream.range(0, shows)
+                .mapToObj(_ -> ShowId.of(UUID.randomUUID()))
+                .toArray(ShowId[]::new);
+        for (var showId : showIds) {
+            showViewRepository.save(showId, 1_000_000).toCompletableFuture().join();
+        }
+    }
+
+    @Benchmark
+    public Object reserveAndCancel() {
+        var showId = showIds[ThreadLocalRandom.current().nextInt(shows)];
+        showViewRepository.decrementAvailability(showId, 1).toCompletableFuture().join();
+        return showViewRepository.incrementAvailability(showId, 1).toCompletableFuture().join();
+    }
+}
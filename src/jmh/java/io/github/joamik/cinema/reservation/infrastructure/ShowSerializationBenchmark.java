@@ -0,0 +1,113 @@
+package io.github.joamik.cinema.reservation.infrastructure;
+
+import akka.actor.ActorSystem;
+import akka.actor.ExtendedActorSystem;
+import akka.serialization.JavaSerializer;
+import akka.serialization.Serialization;
+import akka.serialization.SerializationExtension;
+import akka.serialization.Serializer;
+import akka.serialization.Serializers;
+import com.typesafe.config.ConfigFactory;
+import io.github.joamik.cinema.base.domain.Clock;
+import io.github.joamik.cinema.base.domain.Result.Success;
+import io.github.joamik.cinema.reservation.domain.SeatLayout;
+import io.github.joamik.cinema.reservation.domain.SeatNumber;
+import io.github.joamik.cinema.reservation.domain.Show;
+import io.github.joamik.cinema.reservation.domain.ShowCommand.CreateShow;
+import io.github.joamik.cinema.reservation.domain.ShowCommandError;
+import io.github.joamik.cinema.reservation.domain.ShowCreator;
+import io.github.joamik.cinema.reservation.domain.ShowEvent.SeatReserved;
+import io.github.joamik.cinema.reservation.domain.ShowEvent.ShowCreated;
+import io.github.joamik.cinema.reservation.domain.ShowId;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serializes and deserializes the hottest event, the show creation event and a show snapshot
+ * with Java serialization and with {@link ShowSerializer}. Payload sizes are printed during setup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ShowSerializationBenchmark {
+
+    private static final int SEATS = 1_000;
+
+    @Param({"java", "show"})
+    private String serializerName;
+
+    @Param({"SeatReserved", "ShowCreated", "Show"})
+    private String message;
+
+    private ActorSystem system;
+    private Serialization serialization;
+    private Serializer serializer;
+    private Object object;
+    private String manifest;
+    private byte[] bytes;
+
+    @Setup
+    public void setUp() {
+        system = ActorSystem.create("serialization-benchmark", ConfigFactory.parseString("""
+                        akka.actor.allow-java-serialization = on
+                        akka.actor.warn-about-java-serializer-usage = off
+                        akka.loglevel = WARNING
+                        """)
+                .withFallback(ConfigFactory.parseResources("serialization.conf"))
+                .withFallback(ConfigFactory.load()));
+        serialization = SerializationExtension.get(system);
+        serializer = switch (serializerName) {
+            case "java" -> new JavaSerializer((ExtendedActorSystem) system);
+            case "show" -> new ShowSerializer((ExtendedActorSystem) system);
+            default -> throw new IllegalArgumentException(serializerName);
+        };
+
+        var clock = Clock.fixed(Instant.parse("2024-03-16T21:32:05Z"));
+        var showId = ShowId.of(UUID.randomUUID());
+        var createShow = new CreateShow(showId, "Benchmark", SeatLayout.singleRow(SEATS, BigDecimal.TEN));
+        var showCreated = ((Success<ShowCommandError, ShowCreated>) ShowCreator.create(createShow, clock)).value();
+        var seatReserved = new SeatReserved(showId, clock.now(), SeatNumber.of(7));
+        object = switch (message) {
+            case "SeatReserved" -> seatReserved;
+            case "ShowCreated" -> showCreated;
+            case "Show" -> Show.create(showCreated).apply(seatReserved);
+            default -> throw new IllegalArgumentException(message);
+        };
+        manifest = Serializers.manifestFor(serializer, object);
+        bytes = serializer.toBinary(object);
+        System.out.println(STR."\n\{serializerName} \{message}: \{bytes.length} bytes");
+    }
+
+    @TearDown
+    public void tearDown() {
+        system.terminate();
+    }
+
+    @Benchmark
+    public byte[] serialize() {
+        return serializer.toBinary(object);
+    }
+
+    @Benchmark
+    public Object deserialize() {
+        return serialization.deserialize(bytes, serializer.identifier(), manifest).get();
+    }
+}
@@ -7,12 +7,18 @@ import com.typesafe.config.Config;
 import com.typesafe.config.ConfigFactory;
 import io.github.joamik.cinema.base.application.SpawningBehavior;
 import io.github.joamik.cinema.base.domain.Clock;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
 @Configuration
 public class BaseConfiguration {
 
+    private static final Duration TERMINATION_TIMEOUT = Duration.ofSeconds(30);
+
     @Bean
     public Clock clock() {
         return Clock.utc();
@@ -23,11 +29,22 @@ public class BaseConfiguration {
         return ConfigFactory.load();
     }
 
-    @Bean(destroyMethod = "terminate")
+    @Bean(destroyMethod = "")
     public ActorSystem<SpawnProtocol.Command> actorSystem(Config config) {
         return ActorSystem.create(SpawningBehavior.create(), "es-cinema", config);
     }
 
+    /**
+     * Waits until the actor system has left the cluster and released its port, so a new context can bind it right away.
+     */
+    @Bean
+    public DisposableBean actorSystemTermination(ActorSystem<SpawnProtocol.Command> actorSystem) {
+        return () -> {
+            actorSystem.terminate();
+            actorSystem.getWhenTerminated().toCompletableFuture().get(TERMINATION_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+        };
+    }
+
     @Bean
     public ClusterSharding clusterSharding(ActorSystem<?> actorSystem) {
         return ClusterSharding.get(actorSystem);
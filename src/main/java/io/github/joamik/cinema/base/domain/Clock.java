@@ -11,6 +11,6 @@ public interface Clock {
     }
 
     static Clock utc() {
-        return () -> java.time.Clock.systemUTC().instant();
+        return SystemUtcClock.INSTANCE;
     }
 }
@@ -0,0 +1,235 @@
+package io.github.joamik.cinema.base.domain;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+import static java.lang.StringTemplate.STR;
+
+/**
+ * Immutable fixed-size bitset backed by a 32-way trie of 1024-bit leaves.
+ * Updating a bit copies only the path from the root to the affected leaf, all other nodes are shared
+ * between the old and the new version. Untouched all-zero subtrees share a single empty node per level.
+ */
+public final class PersistentBitSet implements Serializable {
+
+    private static final int LEAF_SHIFT = 10;
+    private static final int LEAF_WORDS = 1 << (LEAF_SHIFT - 6);
+    private static final int LEAF_MASK = (1 << LEAF_SHIFT) - 1;
+    private static final int BRANCH_SHIFT = 5;
+    private static final int BRANCH_FACTOR = 1 << BRANCH_SHIFT;
+    private static final int BRANCH_MASK = BRANCH_FACTOR - 1;
+
+    private final int size;
+    private final int depth;
+    private final Object root;
+    private final int cardinality;
+
+    private PersistentBitSet(int size, int depth, Object root, int cardinality) {
+        this.size = size;
+        this.depth = depth;
+        this.root = root;
+        this.cardinality = cardinality;
+    }
+
+    public static PersistentBitSet empty(int size) {
+        if (size < 0) {
+            throw new IllegalArgumentException(STR."Size must not be negative, got \{size}");
+        }
+        int depth = depthFor(size);
+        Object root = depth == 0 ? new long[(size + 63) >>> 6] : emptyNode(depth);
+        return new PersistentBitSet(size, depth, root, 0);
+    }
+
+    /**
+     * Builds a bitset from its {@link #word(int) words} in one pass, without copying a path per set bit.
+     */
+    public static PersistentBitSet fromWords(int size, long[] words) {
+        if (size < 0 || words.length != (size + 63) >>> 6) {
+            throw new IllegalArgumentException(STR."Expected \{(size + 63) >>> 6} words for size \{size}, got \{words.length}");
+        }
+        if (size % 64 != 0 && (words[words.length - 1] & (-1L << size)) != 0) {
+            throw new IllegalArgumentException(STR."Bits set beyond size \{size}");
+        }
+        int cardinality = 0;
+        for (long word : words) {
+            cardinality += Long.bitCount(word);
+        }
+        int depth = depthFor(size);
+        Object root = depth == 0 ? words.clone() : build(emptyNode(depth), depth, 0, words);
+        return new PersistentBitSet(size, depth, root, cardinality);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return number of bits set to {@code true}
+     */
+    public int cardinality() {
+        return cardinality;
+    }
+
+    public boolean get(int index) {
+        checkIndex(index);
+        return (word(index >>> 6) & (1L << index)) != 0;
+    }
+
+    /**
+     * @return 64 bits starting at {@code wordIndex * 64}, bits beyond {@link #size()} are always zero
+     */
+    public long word(int wordIndex) {
+        Object node = root;
+        int bitIndex = wordIndex << 6;
+        for (int level = depth; level > 0; level--) {
+            node = ((Object[]) node)[(bitIndex >>> shiftOf(level)) & BRANCH_MASK];
+        }
+        return ((long[]) node)[(bitIndex & LEAF_MASK) >>> 6];
+    }
+
+    /**
+     * @return index of the first bit set to {@code true} at or after {@code fromIndex}, or {@link #size()} if there is none
+     */
+    public int nextSetBit(int fromIndex) {
+        if (fromIndex >= size) {
+            return size;
+        }
+        int wordIndex = fromIndex >>> 6;
+        long bits = word(wordIndex) & (-1L << fromIndex);
+        while (bits == 0) {
+            if (++wordIndex == wordCount()) {
+                return size;
+            }
+            bits = word(wordIndex);
+        }
+        return (wordIndex << 6) + Long.numberOfTrailingZeros(bits);
+    }
+
+    /**
+     * @return index of the first bit set to {@code false} at or after {@code fromIndex}, or {@link #size()} if there is none
+     */
+    public int nextClearBit(int fromIndex) {
+        if (fromIndex >= size) {
+            return size;
+        }
+        int wordIndex = fromIndex >>> 6;
+        long bits = ~word(wordIndex) & (-1L << fromIndex);
+        while (bits == 0) {
+            if (++wordIndex == wordCount()) {
+                return size;
+            }
+            bits = ~word(wordIndex);
+        }
+        return Math.min((wordIndex << 6) + Long.numberOfTrailingZeros(bits), size);
+    }
+
+    public int wordCount() {
+        return (size + 63) >>> 6;
+    }
+
+    public PersistentBitSet set(int index) {
+        return get(index) ? this : new PersistentBitSet(size, depth, update(root, depth, index, true), cardinality + 1);
+    }
+
+    public PersistentBitSet clear(int index) {
+        return get(index) ? new PersistentBitSet(size, depth, update(root, depth, index, false), cardinality - 1) : this;
+    }
+
+    private static Object update(Object node, int level, int index, boolean value) {
+        if (level == 0) {
+            long[] leaf = ((long[]) node).clone();
+            int wordIndex = (index & LEAF_MASK) >>> 6;
+            if (value) {
+                leaf[wordIndex] |= 1L << index;
+            } else {
+                leaf[wordIndex] &= ~(1L << index);
+            }
+            return leaf;
+        }
+        Object[] branch = ((Object[]) node).clone();
+        int childIndex = (index >>> shiftOf(level)) & BRANCH_MASK;
+        branch[childIndex] = update(branch[childIndex], level - 1, index, value);
+        return branch;
+    }
+
+    /**
+     * @param empty empty node of the same level, its all-zero subtrees are reused for the parts beyond {@code words}
+     */
+    private static Object build(Object empty, int level, int firstWord, long[] words) {
+        if (firstWord >= words.length) {
+            return empty;
+        }
+        if (level == 0) {
+            long[] leaf = new long[LEAF_WORDS];
+            System.arraycopy(words, firstWord, leaf, 0, Math.min(LEAF_WORDS, words.length - firstWord));
+            return leaf;
+        }
+        Object emptyChild = ((Object[]) empty)[0];
+        int wordsPerChild = LEAF_WORDS << ((level - 1) * BRANCH_SHIFT);
+        Object[] branch = new Object[BRANCH_FACTOR];
+        for (int childIndex = 0; childIndex < BRANCH_FACTOR; childIndex++) {
+            branch[childIndex] = build(emptyChild, level - 1, firstWord + childIndex * wordsPerChild, words);
+        }
+        return branch;
+    }
+
+    private static Object emptyNode(int level) {
+        if (level == 0) {
+            return new long[LEAF_WORDS];
+        }
+        Object child = emptyNode(level - 1);
+        Object[] branch = new Object[BRANCH_FACTOR];
+        Arrays.fill(branch, child);
+        return branch;
+    }
+
+    private static int depthFor(int size) {
+        int depth = 0;
+        long capacity = 1L << LEAF_SHIFT;
+        while (capacity < size) {
+            capacity <<= BRANCH_SHIFT;
+            depth++;
+        }
+        return depth;
+    }
+
+    private static int shiftOf(int level) {
+        return LEAF_SHIFT + (level - 1) * BRANCH_SHIFT;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(STR."Index \{index} out of bounds for size \{size}");
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof PersistentBitSet bitSet) || size != bitSet.size || cardinality != bitSet.cardinality) {
+            return false;
+        }
+        for (int wordIndex = 0; wordIndex < wordCount(); wordIndex++) {
+            if (word(wordIndex) != bitSet.word(wordIndex)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        long hash = size;
+        for (int wordIndex = 0; wordIndex < wordCount(); wordIndex++) {
+            hash = 31 * hash + word(wordIndex);
+        }
+        return Long.hashCode(hash);
+    }
+
+    @Override
+    public String toString() {
+        return STR."PersistentBitSet[size=\{size}, cardinality=\{cardinality}]";
+    }
+}
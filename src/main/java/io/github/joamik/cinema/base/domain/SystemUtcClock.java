@@ -0,0 +1,18 @@
+package io.github.joamik.cinema.base.domain;
+
+import java.time.Instant;
+
+/**
+ * Shared {@link Clock#utc()} instance, reads the current instant without creating a {@link java.time.Clock} per call.
+ */
+enum SystemUtcClock implements Clock {
+
+    INSTANCE;
+
+    private static final java.time.Clock UTC = java.time.Clock.systemUTC();
+
+    @Override
+    public Instant now() {
+        return UTC.instant();
+    }
+}
@@ -1,6 +1,7 @@
 package io.github.joamik.cinema.reservation;
 
 import akka.actor.typed.ActorSystem;
+import akka.actor.typed.DispatcherSelector;
 import akka.actor.typed.SpawnProtocol;
 import akka.cluster.sharding.typed.javadsl.ClusterSharding;
 import akka.persistence.jdbc.query.javadsl.JdbcReadJournal;
@@ -10,61 +11,173 @@ import akka.projection.eventsourced.javadsl.EventSourcedProvider;
 import akka.projection.javadsl.SourceProvider;
 import com.zaxxer.hikari.HikariDataSource;
 import io.github.joamik.cinema.base.domain.Clock;
+import io.github.joamik.cinema.reservation.application.ShowAdmission;
+import io.github.joamik.cinema.reservation.application.ShowCache;
 import io.github.joamik.cinema.reservation.application.ShowEntity;
+import io.github.joamik.cinema.reservation.application.ShowEventStreams;
+import io.github.joamik.cinema.reservation.application.ShowMetrics;
 import io.github.joamik.cinema.reservation.application.ShowService;
-import io.github.joamik.cinema.reservation.application.ShowServiceProperties;
+import io.github.joamik.cinema.reservation.application.projection.ProjectionLagMonitor;
 import io.github.joamik.cinema.reservation.application.projection.ProjectionLauncher;
-import io.github.joamik.cinema.reservation.application.projection.ShowViewEventHandler;
+import io.github.joamik.cinema.reservation.application.projection.ProjectionPositions;
+import io.github.joamik.cinema.reservation.application.projection.ProjectionProgress;
+import io.github.joamik.cinema.reservation.application.projection.SeatMapProjection;
+import io.github.joamik.cinema.reservation.application.projection.SeatMapRepository;
+import io.github.joamik.cinema.reservation.application.projection.ShowProjectionManagement;
 import io.github.joamik.cinema.reservation.application.projection.ShowViewProjection;
 import io.github.joamik.cinema.reservation.application.projection.ShowViewRepository;
 import io.github.joamik.cinema.reservation.domain.ShowEvent;
+import io.github.joamik.cinema.reservation.infrastructure.InMemorySeatMapRepository;
 import io.github.joamik.cinema.reservation.infrastructure.InMemoryShowViewRepository;
-import org.springframework.beans.factory.annotation.Value;
+import io.github.joamik.cinema.reservation.infrastructure.JdbcProjectionPositions;
+import io.github.joamik.cinema.reservation.infrastructure.JdbcSeatMapRepository;
+import io.github.joamik.cinema.reservation.infrastructure.JdbcShowViewRepository;
+import io.github.joamik.cinema.reservation.infrastructure.MicrometerShowMetrics;
+import io.github.joamik.cinema.reservation.infrastructure.ProjectionLagHealthIndicator;
+import io.github.joamik.cinema.reservation.infrastructure.ProjectionLagMeterBinder;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 import javax.sql.DataSource;
+import java.util.List;
+import java.util.stream.IntStream;
 
 @Configuration
+@EnableConfigurationProperties(ReservationProperties.class)
 public class ReservationConfiguration {
 
     private final ActorSystem<SpawnProtocol.Command> actorSystem;
     private final ClusterSharding clusterSharding;
     private final Clock clock;
+    private final ReservationProperties properties;
 
-    public ReservationConfiguration(ActorSystem<SpawnProtocol.Command> actorSystem, ClusterSharding clusterSharding, Clock clock) {
+    public ReservationConfiguration(ActorSystem<SpawnProtocol.Command> actorSystem, ClusterSharding clusterSharding, Clock clock,
+                                    ReservationProperties properties) {
         this.actorSystem = actorSystem;
         this.clusterSharding = clusterSharding;
         this.clock = clock;
+        this.properties = properties;
     }
 
     @Bean
-    public ShowService showService(
-            @Value("${cinema.reservation.showService.askTimeMilliseconds:500}") long askTimeMilliseconds) {
-        return new ShowService(clusterSharding, clock, new ShowServiceProperties(askTimeMilliseconds));
+    public ShowService showService(ShowEventStreams showEventStreams, ShowAdmission showAdmission, ShowMetrics showMetrics) {
+        var showServiceSettings = properties.showService();
+        var showCache = new ShowCache(showServiceSettings.cacheCapacity(), showServiceSettings.cacheTimeToLive(), clock, showEventStreams);
+        showEventStreams.addListener(showCache::apply);
+        return new ShowService(clusterSharding, clock, showServiceSettings.toShowServiceProperties(),
+                properties.showEntity().toShowEntityProperties(), properties.showEntity().persistenceMode(), showCache, showAdmission,
+                showMetrics);
+    }
+
+    @Bean
+    public ShowAdmission showAdmission() {
+        return new ShowAdmission(properties.showService().toShowAdmissionProperties());
+    }
+
+    @Bean
+    public ShowMetrics showMetrics(MeterRegistry meterRegistry) {
+        return new MicrometerShowMetrics(meterRegistry);
+    }
+
+    @Bean
+    public ShowEventStreams showEventStreams() {
+        return new ShowEventStreams(actorSystem);
     }
 
     @Bean
     public ShowViewRepository showViewRepository() {
-        return new InMemoryShowViewRepository();
+        return switch (properties.showView().storage()) {
+            case IN_MEMORY -> new InMemoryShowViewRepository();
+            case JDBC -> new JdbcShowViewRepository(projectionDataSource(), actorSystem.dispatchers().lookup(DispatcherSelector.blocking()));
+        };
+    }
+
+    @Bean
+    public SeatMapRepository seatMapRepository() {
+        return switch (properties.seatMap().storage()) {
+            case IN_MEMORY -> new InMemorySeatMapRepository();
+            case JDBC -> new JdbcSeatMapRepository(projectionDataSource(), actorSystem.dispatchers().lookup(DispatcherSelector.blocking()), actorSystem,
+                    clock, properties.seatMap().capacity(), properties.seatMap().timeToLive());
+        };
+    }
+
+    @Bean
+    public ProjectionProgress projectionProgress() {
+        return new ProjectionProgress(properties.projection().awaitTimeout(), eventTagSlices(), properties.projection().progressCapacity(),
+                projectionPositions(), clock);
+    }
+
+    @Bean
+    public ProjectionPositions projectionPositions() {
+        return new JdbcProjectionPositions(projectionDataSource(), actorSystem.dispatchers().lookup(DispatcherSelector.blocking()));
     }
 
     @SuppressWarnings("unchecked")
     @Bean(initMethod = "runProjections")
-    public ProjectionLauncher projectionLauncher(ShowViewRepository showViewRepository) {
-        var showViewEventHandler = new ShowViewEventHandler(showViewRepository);
-        var showViewProjection = new ShowViewProjection(showViewEventHandler, actorSystem, dataSource());
-        var projection = showViewProjection.create(showEventsSourceProvider());
+    public ProjectionLauncher projectionLauncher(
+            ShowViewRepository showViewRepository,
+            SeatMapRepository seatMapRepository,
+            ProjectionProgress projectionProgress,
+            ShowMetrics showMetrics) {
+        var showViewProjection = new ShowViewProjection(showViewRepository, actorSystem, projectionDataSource(),
+                properties.showView().toShowViewProjectionProperties(), projectionProgress, showMetrics);
+        var showViewProjections = showProjectionKeys().stream()
+                .map(tag -> showViewProjection.create(tag, showEventsSourceProvider(tag)))
+                .toList();
+        var seatMapProjection = new SeatMapProjection(seatMapRepository, actorSystem, projectionDataSource(), projectionProgress);
+        var seatMapProjections = showProjectionKeys().stream()
+                .map(tag -> seatMapProjection.create(tag, showEventsSourceProvider(tag)))
+                .toList();
         var projectionLauncher = new ProjectionLauncher(actorSystem);
-        projectionLauncher.withLocalProjections(projection);
+        projectionLauncher.withShardedProjections(showViewProjections);
+        projectionLauncher.withShardedProjections(seatMapProjections);
         return projectionLauncher;
     }
 
-    private SourceProvider<Offset, EventEnvelope<ShowEvent>> showEventsSourceProvider() {
-        return EventSourcedProvider.eventsByTag(actorSystem, JdbcReadJournal.Identifier(), ShowEntity.SHOW_EVENT_TAG);
+    @Bean(initMethod = "start")
+    public ProjectionLagMonitor projectionLagMonitor(ProjectionLauncher projectionLauncher) {
+        return new ProjectionLagMonitor(actorSystem, projectionLauncher.projectionIds(), projectionPositions(), clock,
+                properties.projection().lagCheckInterval());
     }
 
-    private DataSource dataSource() {
+    @Bean
+    public ProjectionLagHealthIndicator projectionLagHealthIndicator(ProjectionLagMonitor projectionLagMonitor) {
+        return new ProjectionLagHealthIndicator(projectionLagMonitor, properties.projection().maxLag());
+    }
+
+    @Bean
+    public ProjectionLagMeterBinder projectionLagMeterBinder(ProjectionLagMonitor projectionLagMonitor) {
+        return new ProjectionLagMeterBinder(projectionLagMonitor);
+    }
+
+    @Bean
+    public ShowProjectionManagement showViewProjectionManagement() {
+        return new ShowProjectionManagement(actorSystem, ShowViewProjection.PROJECTION_NAME, showProjectionKeys());
+    }
+
+    @Bean
+    public ShowProjectionManagement seatMapProjectionManagement() {
+        return new ShowProjectionManagement(actorSystem, SeatMapProjection.PROJECTION_NAME, showProjectionKeys());
+    }
+
+    private int eventTagSlices() {
+        return properties.showEntity().eventTagSlices();
+    }
+
+    private List<String> showProjectionKeys() {
+        return IntStream.range(0, eventTagSlices())
+                .mapToObj(ShowEntity::eventTag)
+                .toList();
+    }
+
+    private SourceProvider<Offset, EventEnvelope<ShowEvent>> showEventsSourceProvider(String tag) {
+        return EventSourcedProvider.eventsByTag(actorSystem, JdbcReadJournal.Identifier(), tag);
+    }
+
+    @Bean
+    public DataSource projectionDataSource() {
         var hikariDataSource = new HikariDataSource();
         hikariDataSource.setPoolName("projection-data-source");
         hikariDataSource.setJdbcUrl("jdbc:postgresql://localhost:5432/postgres");
@@ -0,0 +1,113 @@
+package io.github.joamik.cinema.reservation;
+
+import io.github.joamik.cinema.reservation.application.ShowAdmissionProperties;
+import io.github.joamik.cinema.reservation.application.ShowEntityProperties;
+import io.github.joamik.cinema.reservation.application.ShowPersistenceMode;
+import io.github.joamik.cinema.reservation.application.ShowServiceProperties;
+import io.github.joamik.cinema.reservation.application.projection.ReadModelStorage;
+import io.github.joamik.cinema.reservation.application.projection.ShowViewProjectionProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
+
+import java.time.Duration;
+
+/**
+ * Settings of the reservation module bound from {@code cinema.reservation.*}, each group with its defaults.
+ */
+@ConfigurationProperties(ReservationProperties.PREFIX)
+public record ReservationProperties(@DefaultValue ShowServiceSettings showService,
+                                    @DefaultValue ShowEntitySettings showEntity,
+                                    @DefaultValue ShowViewSettings showView,
+                                    @DefaultValue SeatMapSettings seatMap,
+                                    @DefaultValue ProjectionSettings projection) {
+
+    static final String PREFIX = "cinema.reservation";
+
+    /**
+     * Settings as bound from an empty environment, for wiring the module outside of Spring.
+     */
+    public static ReservationProperties defaults() {
+        return new Binder(new MapConfigurationPropertySource()).bindOrCreate(PREFIX, ReservationProperties.class);
+    }
+
+    /**
+     * @param cacheCapacity maximum number of shows cached per node, {@code 0} disables the cache
+     */
+    public record ShowServiceSettings(@DefaultValue("500") long askTimeMilliseconds,
+                                      @DefaultValue("10000") int cacheCapacity,
+                                      @DefaultValue("5000") long cacheTimeToLiveMilliseconds,
+                                      @DefaultValue("1000") int nodeInFlightLimit,
+                                      @DefaultValue("100") int showInFlightLimit,
+                                      @DefaultValue("4") int minShowInFlightLimit,
+                                      @DefaultValue("100") long latencyTargetMilliseconds) {
+
+        public ShowServiceProperties toShowServiceProperties() {
+            return new ShowServiceProperties(askTimeMilliseconds);
+        }
+
+        public ShowAdmissionProperties toShowAdmissionProperties() {
+            return new ShowAdmissionProperties(nodeInFlightLimit, showInFlightLimit, minShowInFlightLimit, latencyTargetMilliseconds);
+        }
+
+        public Duration cacheTimeToLive() {
+            return Duration.ofMillis(cacheTimeToLiveMilliseconds);
+        }
+    }
+
+    /**
+     * @param eventTagSlices number of event tags shows are spread over, also the number of projections of each read model
+     */
+    public record ShowEntitySettings(@DefaultValue("100") int snapshotEvery,
+                                     @DefaultValue("2") int keepSnapshots,
+                                     @DefaultValue("false") boolean deleteEventsOnSnapshot,
+                                     @DefaultValue("true") boolean snapshotWhenSoldOut,
+                                     @DefaultValue("EVENT_SOURCED") ShowPersistenceMode persistenceMode,
+                                     @DefaultValue("4") int eventTagSlices) {
+
+        public ShowEntityProperties toShowEntityProperties() {
+            return new ShowEntityProperties(snapshotEvery, keepSnapshots, deleteEventsOnSnapshot, snapshotWhenSoldOut, eventTagSlices);
+        }
+    }
+
+    public record ShowViewSettings(@DefaultValue("JDBC") ReadModelStorage storage,
+                                   @DefaultValue("100") int groupAfterEnvelopes,
+                                   @DefaultValue("500") long groupAfterMilliseconds) {
+
+        public ShowViewProjectionProperties toShowViewProjectionProperties() {
+            return new ShowViewProjectionProperties(groupAfterEnvelopes, groupAfterMilliseconds);
+        }
+    }
+
+    /**
+     * @param capacity               maximum number of shows kept in memory per node
+     * @param timeToLiveMilliseconds how long a show not written by this node is served from memory
+     */
+    public record SeatMapSettings(@DefaultValue("JDBC") ReadModelStorage storage,
+                                  @DefaultValue("10000") int capacity,
+                                  @DefaultValue("5000") long timeToLiveMilliseconds) {
+
+        public Duration timeToLive() {
+            return Duration.ofMillis(timeToLiveMilliseconds);
+        }
+    }
+
+    /**
+     * @param progressCapacity maximum number of shows whose projection progress is kept per node
+     * @param maxLag           number of events a projection may be behind before its health turns {@code DEGRADED}
+     */
+    public record ProjectionSettings(@DefaultValue("1000") long awaitMilliseconds,
+                                     @DefaultValue("10000") int progressCapacity,
+                                     @DefaultValue("10000") long lagCheckMilliseconds,
+                                     @DefaultValue("1000") long maxLag) {
+
+        public Duration awaitTimeout() {
+            return Duration.ofMillis(awaitMilliseconds);
+        }
+
+        public Duration lagCheckInterval() {
+            return Duration.ofMillis(lagCheckMilliseconds);
+        }
+    }
+}
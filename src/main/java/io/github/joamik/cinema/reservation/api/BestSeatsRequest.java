@@ -0,0 +1,4 @@
+package io.github.joamik.cinema.reservation.api;
+
+public record BestSeatsRequest(int count) {
+}
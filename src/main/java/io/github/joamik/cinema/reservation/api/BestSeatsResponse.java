@@ -0,0 +1,20 @@
+package io.github.joamik.cinema.reservation.api;
+
+import io.github.joamik.cinema.reservation.domain.SeatNumber;
+import io.github.joamik.cinema.reservation.domain.ShowCommandError;
+
+import java.util.List;
+
+/**
+ * @param sequenceNr see {@link ReserveResponse#sequenceNr()}
+ */
+public record BestSeatsResponse(String message, List<Integer> seatNumbers, long sequenceNr) {
+
+    static BestSeatsResponse reserved(List<SeatNumber> seatNumbers, long sequenceNr) {
+        return new BestSeatsResponse("RESERVE successful", seatNumbers.stream().map(SeatNumber::number).toList(), sequenceNr);
+    }
+
+    static BestSeatsResponse failed(ShowCommandError error) {
+        return new BestSeatsResponse(STR."RESERVE failed with: \{error}", List.of(), 0);
+    }
+}
@@ -1,7 +1,40 @@
 package io.github.joamik.cinema.reservation.api;
 
+import io.github.joamik.cinema.reservation.domain.SeatLayout;
+
+import java.math.BigDecimal;
+import java.util.List;
 import java.util.UUID;
 
-public record CreateShowRequest(UUID id, String title, int maxSeats) {
+public record CreateShowRequest(UUID id, String title, int maxSeats, Layout layout) {
+
+    public CreateShowRequest(UUID id, String title, int maxSeats) {
+        this(id, title, maxSeats, null);
+    }
+
+    public record Layout(List<PriceZone> priceZones, List<Section> sections) {
+
+        SeatLayout toSeatLayout() {
+            return new SeatLayout(
+                    priceZones.stream().map(zone -> new SeatLayout.PriceZone(zone.name(), zone.price())).toList(),
+                    sections.stream().map(Section::toSection).toList());
+        }
+    }
+
+    public record PriceZone(String name, BigDecimal price) {
+
+    }
+
+    public record Section(String name, List<Row> rows) {
+
+        private SeatLayout.Section toSection() {
+            return new SeatLayout.Section(name, rows.stream()
+                    .map(row -> new SeatLayout.Row(row.name(), row.seats(), row.priceZone()))
+                    .toList());
+        }
+    }
+
+    public record Row(String name, int seats, String priceZone) {
 
+    }
 }
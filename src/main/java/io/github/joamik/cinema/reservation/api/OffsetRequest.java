@@ -0,0 +1,8 @@
+package io.github.joamik.cinema.reservation.api;
+
+/**
+ * @param offset journal ordering of the last event to be treated as processed
+ */
+public record OffsetRequest(long offset) {
+
+}
@@ -0,0 +1,88 @@
+package io.github.joamik.cinema.reservation.api;
+
+import io.github.joamik.cinema.reservation.application.projection.ProjectionStatus;
+import io.github.joamik.cinema.reservation.application.projection.ShowProjectionManagement;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+import java.util.function.BiFunction;
+
+import static java.util.function.Function.identity;
+import static java.util.stream.Collectors.toMap;
+import static org.springframework.http.ResponseEntity.notFound;
+import static org.springframework.http.ResponseEntity.ok;
+
+/**
+ * Runtime control of the show events projections, {@code show-view} and {@code seat-map}, one projection per event tag slice.
+ * Offsets are the journal ordering of the last event processed, not a sequence number of a show.
+ */
+@RestController
+@RequestMapping(value = "/admin/projections/{name}", produces = "application/json")
+public class ProjectionController {
+
+    private final Map<String, ShowProjectionManagement> projectionManagementByName;
+
+    public ProjectionController(List<ShowProjectionManagement> projectionManagements) {
+        this.projectionManagementByName = projectionManagements.stream()
+                .collect(toMap(ShowProjectionManagement::projectionName, identity()));
+    }
+
+    @GetMapping
+    public Mono<ResponseEntity<Flux<ProjectionStatusResponse>>> findAll(@PathVariable String name) {
+        var projectionManagement = projectionManagementByName.get(name);
+        if (projectionManagement == null) {
+            return Mono.just(notFound().build());
+        }
+        return Mono.just(ok(Flux.fromIterable(projectionManagement.keys())
+                .flatMapSequential(key -> Mono.fromCompletionStage(() -> projectionManagement.status(key)))
+                .map(ProjectionStatusResponse::from)));
+    }
+
+    @GetMapping("{key}")
+    public Mono<ResponseEntity<ProjectionStatusResponse>> findByKey(@PathVariable String name, @PathVariable String key) {
+        return manage(name, key, ShowProjectionManagement::status);
+    }
+
+    @PostMapping("{key}/pause")
+    public Mono<ResponseEntity<ProjectionStatusResponse>> pause(@PathVariable String name, @PathVariable String key) {
+        return manage(name, key, ShowProjectionManagement::pause);
+    }
+
+    @PostMapping("{key}/resume")
+    public Mono<ResponseEntity<ProjectionStatusResponse>> resume(@PathVariable String name, @PathVariable String key) {
+        return manage(name, key, ShowProjectionManagement::resume);
+    }
+
+    @PutMapping(value = "{key}/offset", consumes = "application/json")
+    public Mono<ResponseEntity<ProjectionStatusResponse>> updateOffset(@PathVariable String name, @PathVariable String key,
+                                                                       @RequestBody OffsetRequest request) {
+        return manage(name, key, (projectionManagement, k) -> projectionManagement.updateOffset(k, request.offset()));
+    }
+
+    @DeleteMapping("{key}/offset")
+    public Mono<ResponseEntity<ProjectionStatusResponse>> clearOffset(@PathVariable String name, @PathVariable String key) {
+        return manage(name, key, ShowProjectionManagement::clearOffset);
+    }
+
+    private Mono<ResponseEntity<ProjectionStatusResponse>> manage(
+            String name, String key, BiFunction<ShowProjectionManagement, String, CompletionStage<ProjectionStatus>> operation) {
+        var projectionManagement = projectionManagementByName.get(name);
+        if (projectionManagement == null || !projectionManagement.exists(key)) {
+            return Mono.just(notFound().build());
+        }
+        return Mono.fromCompletionStage(() -> operation.apply(projectionManagement, key))
+                .map(status -> ok(ProjectionStatusResponse.from(status)));
+    }
+}
@@ -0,0 +1,13 @@
+package io.github.joamik.cinema.reservation.api;
+
+import io.github.joamik.cinema.reservation.application.projection.ProjectionStatus;
+
+/**
+ * @param offset journal ordering of the last event stored as processed, {@code null} before the first offset is saved
+ */
+public record ProjectionStatusResponse(String key, boolean paused, Long offset) {
+
+    static ProjectionStatusResponse from(ProjectionStatus status) {
+        return new ProjectionStatusResponse(status.key(), status.paused(), status.offset().orElse(null));
+    }
+}
@@ -1,4 +1,12 @@
 package io.github.joamik.cinema.reservation.api;
 
-public record ReserveResponse(String message) {
+/**
+ * @param sequenceNr sequence number of the show after a successful action, to be passed as {@code minSeq} to reads
+ *                   of the show's projections, {@code 0} when the action failed
+ */
+public record ReserveResponse(String message, long sequenceNr) {
+
+    static ReserveResponse failed(String message) {
+        return new ReserveResponse(message, 0);
+    }
 }
@@ -1,12 +1,13 @@
 package io.github.joamik.cinema.reservation.api;
 
 import io.github.joamik.cinema.reservation.domain.Seat;
+import io.github.joamik.cinema.reservation.domain.SeatLayout.SeatRange;
 
 import java.math.BigDecimal;
 
-public record SeatResponse(int number, String status, BigDecimal price) {
+public record SeatResponse(int number, String status, BigDecimal price, String section, String row) {
 
-    public static SeatResponse from(Seat seat) {
-        return new SeatResponse(seat.number().number(), seat.status().name(), seat.price());
+    public static SeatResponse from(Seat seat, SeatRange seatRange) {
+        return new SeatResponse(seat.number().number(), seat.status().name(), seat.price(), seatRange.section(), seatRange.row());
     }
 }
@@ -0,0 +1,12 @@
+package io.github.joamik.cinema.reservation.api;
+
+import io.github.joamik.cinema.reservation.api.SeatActionRequest.Action;
+
+import java.util.List;
+
+public record SeatsActionRequest(Action action, List<Integer> seatNumbers) {
+
+    boolean isValid() {
+        return action != null && seatNumbers != null && !seatNumbers.contains(null);
+    }
+}
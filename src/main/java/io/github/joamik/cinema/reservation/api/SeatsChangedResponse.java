@@ -0,0 +1,30 @@
+package io.github.joamik.cinema.reservation.api;
+
+import io.github.joamik.cinema.reservation.domain.SeatNumber;
+import io.github.joamik.cinema.reservation.domain.SeatStatus;
+import io.github.joamik.cinema.reservation.domain.ShowEvent;
+import io.github.joamik.cinema.reservation.domain.ShowEvent.SeatReservationCancelled;
+import io.github.joamik.cinema.reservation.domain.ShowEvent.SeatReserved;
+import io.github.joamik.cinema.reservation.domain.ShowEvent.SeatsReservationCancelled;
+import io.github.joamik.cinema.reservation.domain.ShowEvent.SeatsReserved;
+import io.github.joamik.cinema.reservation.domain.ShowEvent.ShowCreated;
+
+import java.util.List;
+import java.util.Optional;
+
+public record SeatsChangedResponse(List<Integer> seatNumbers, String status) {
+
+    static Optional<SeatsChangedResponse> from(ShowEvent showEvent) {
+        return switch (showEvent) {
+            case ShowCreated _ -> Optional.empty();
+            case SeatReserved seatReserved -> of(List.of(seatReserved.seatNumber()), SeatStatus.RESERVED);
+            case SeatReservationCancelled seatReservationCancelled -> of(List.of(seatReservationCancelled.seatNumber()), SeatStatus.AVAILABLE);
+            case SeatsReserved seatsReserved -> of(seatsReserved.seatNumbers(), SeatStatus.RESERVED);
+            case SeatsReservationCancelled seatsReservationCancelled -> of(seatsReservationCancelled.seatNumbers(), SeatStatus.AVAILABLE);
+        };
+    }
+
+    private static Optional<SeatsChangedResponse> of(List<SeatNumber> seatNumbers, SeatStatus status) {
+        return Optional.of(new SeatsChangedResponse(seatNumbers.stream().map(SeatNumber::number).toList(), status.name()));
+    }
+}
@@ -1,28 +1,45 @@
 package io.github.joamik.cinema.reservation.api;
 
+import akka.actor.typed.ActorSystem;
 import io.github.joamik.cinema.reservation.application.ShowEntityResponse;
 import io.github.joamik.cinema.reservation.application.ShowEntityResponse.CommandProcessed;
 import io.github.joamik.cinema.reservation.application.ShowEntityResponse.CommandRejected;
+import io.github.joamik.cinema.reservation.application.ShowEntityResponse.SeatsAllocated;
+import io.github.joamik.cinema.reservation.application.ShowEventStreams;
+import io.github.joamik.cinema.reservation.application.ShowOverloadedException;
 import io.github.joamik.cinema.reservation.application.ShowService;
+import io.github.joamik.cinema.reservation.application.projection.ProjectionProgress;
+import io.github.joamik.cinema.reservation.application.projection.SeatMapProjection;
+import io.github.joamik.cinema.reservation.application.projection.SeatMapRepository;
 import io.github.joamik.cinema.reservation.domain.SeatNumber;
+import io.github.joamik.cinema.reservation.domain.Show;
 import io.github.joamik.cinema.reservation.domain.ShowCommandError;
 import io.github.joamik.cinema.reservation.domain.ShowId;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.CompletionStage;
 
+import static java.util.concurrent.CompletableFuture.completedFuture;
 import static org.springframework.http.HttpStatus.CONFLICT;
+import static org.springframework.http.HttpStatus.TOO_MANY_REQUESTS;
 import static org.springframework.http.ResponseEntity.badRequest;
 import static org.springframework.http.ResponseEntity.notFound;
 import static org.springframework.http.ResponseEntity.ok;
@@ -32,16 +49,30 @@ import static org.springframework.http.ResponseEntity.ok;
 public class ShowController {
 
     private final ShowService showService;
+    private final SeatMapRepository seatMapRepository;
+    private final ProjectionProgress projectionProgress;
+    private final ShowEventStreams showEventStreams;
+    private final ActorSystem<?> actorSystem;
 
-    public ShowController(ShowService showService) {
+    public ShowController(ShowService showService, SeatMapRepository seatMapRepository, ProjectionProgress projectionProgress,
+                          ShowEventStreams showEventStreams, ActorSystem<?> actorSystem) {
         this.showService = showService;
+        this.seatMapRepository = seatMapRepository;
+        this.projectionProgress = projectionProgress;
+        this.showEventStreams = showEventStreams;
+        this.actorSystem = actorSystem;
     }
 
     @PostMapping
     public Mono<ResponseEntity<String>> create(@RequestBody CreateShowRequest request) {
-        CompletionStage<ResponseEntity<String>> showResponse = showService.createShow(ShowId.of(request.id()), request.title(), request.maxSeats())
+        var showId = ShowId.of(request.id());
+        CompletionStage<ShowEntityResponse> showEntityResponse = request.layout() == null
+                ? showService.createShow(showId, request.title(), request.maxSeats())
+                : showService.createShow(showId, request.title(), request.layout().toSeatLayout());
+
+        CompletionStage<ResponseEntity<String>> showResponse = showEntityResponse
                 .thenApply(response -> switch (response) {
-                    case CommandProcessed _ -> ResponseEntity.created(toShowLocation(request.id())).build();
+                    case CommandProcessed _, SeatsAllocated _ -> ResponseEntity.created(toShowLocation(request.id())).build();
                     case CommandRejected commandRejected -> {
                         if (commandRejected.error() == ShowCommandError.SHOW_ALREADY_EXISTS) {
                             yield new ResponseEntity<>("Show already created", CONFLICT);
@@ -54,9 +85,17 @@ public class ShowController {
         return Mono.fromCompletionStage(showResponse);
     }
 
+    /**
+     * Served from the seat map, which lags behind the show entity by the projection delay.
+     * With {@code minSeq}, the seat map is read once the show is projected up to that sequence number.
+     * A show not projected yet or a seat map not caught up within the await timeout is read from the show cache,
+     * falling back to the show entity, a {@code consistent} read is always asked from the show entity.
+     */
     @GetMapping(value = "{showId}", produces = "application/json")
-    public Mono<ResponseEntity<ShowResponse>> findById(@PathVariable UUID showId) {
-        CompletionStage<ResponseEntity<ShowResponse>> showResponse = showService.findShowBy(ShowId.of(showId))
+    public Mono<ResponseEntity<ShowResponse>> findById(@PathVariable UUID showId,
+                                                       @RequestParam(defaultValue = "false") boolean consistent,
+                                                       @RequestParam(defaultValue = "0") long minSeq) {
+        CompletionStage<ResponseEntity<ShowResponse>> showResponse = findShow(ShowId.of(showId), consistent, minSeq)
                 .thenApply(show -> show.map(ShowResponse::from)
                         .map(ok()::body)
                         .orElse(notFound().build()));
@@ -64,6 +103,15 @@ public class ShowController {
         return Mono.fromCompletionStage(showResponse);
     }
 
+    /**
+     * Seat status changes of the show as they are persisted, without asking the show entity.
+     */
+    @GetMapping(value = "{showId}/seats/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<SeatsChangedResponse> streamSeats(@PathVariable UUID showId) {
+        return SourceFlux.from(showEventStreams.stream(ShowId.of(showId)), actorSystem)
+                .mapNotNull(showEvent -> SeatsChangedResponse.from(showEvent).orElse(null));
+    }
+
     @PatchMapping(value = "{showId}/seats/{seatNumber}", consumes = "application/json", produces = "application/json")
     public Mono<ResponseEntity<ReserveResponse>> reserve(@PathVariable UUID showId, @PathVariable int seatNumber, @RequestBody SeatActionRequest request) {
         CompletionStage<ShowEntityResponse> showEntityResponse = switch (request.action()) {
@@ -72,15 +120,78 @@ public class ShowController {
         };
 
         CompletionStage<ResponseEntity<ReserveResponse>> reserveResponse = showEntityResponse.thenApply(response -> switch (response) {
-            case CommandProcessed _ -> ResponseEntity.accepted()
-                    .body(new ReserveResponse(STR."\{request.action()} successful"));
+            case CommandProcessed commandProcessed -> ResponseEntity.accepted()
+                    .body(new ReserveResponse(STR."\{request.action()} successful", commandProcessed.sequenceNr()));
+            case SeatsAllocated seatsAllocated -> ResponseEntity.accepted()
+                    .body(new ReserveResponse(STR."\{request.action()} successful", seatsAllocated.sequenceNr()));
+            case CommandRejected commandRejected -> badRequest()
+                    .body(ReserveResponse.failed(STR."\{request.action()} failed with: \{commandRejected.error()}"));
+        });
+
+        return Mono.fromCompletionStage(reserveResponse);
+    }
+
+    @PatchMapping(value = "{showId}/seats", consumes = "application/json", produces = "application/json")
+    public Mono<ResponseEntity<ReserveResponse>> reserveAll(@PathVariable UUID showId, @RequestBody SeatsActionRequest request) {
+        if (!request.isValid()) {
+            return Mono.just(badRequest().body(ReserveResponse.failed("Action and seat numbers are required")));
+        }
+        List<SeatNumber> seatNumbers = request.seatNumbers().stream().map(SeatNumber::of).toList();
+        CompletionStage<ShowEntityResponse> showEntityResponse = switch (request.action()) {
+            case RESERVE -> showService.reserveSeats(ShowId.of(showId), seatNumbers);
+            case CANCEL_RESERVATION -> showService.cancelReservations(ShowId.of(showId), seatNumbers);
+        };
+
+        CompletionStage<ResponseEntity<ReserveResponse>> reserveResponse = showEntityResponse.thenApply(response -> switch (response) {
+            case CommandProcessed commandProcessed -> ResponseEntity.accepted()
+                    .body(new ReserveResponse(STR."\{request.action()} of \{seatNumbers.size()} seats successful", commandProcessed.sequenceNr()));
+            case SeatsAllocated seatsAllocated -> ResponseEntity.accepted()
+                    .body(new ReserveResponse(STR."\{request.action()} of \{seatNumbers.size()} seats successful", seatsAllocated.sequenceNr()));
             case CommandRejected commandRejected -> badRequest()
-                    .body(new ReserveResponse(STR."\{request.action()} failed with: \{commandRejected.error()}"));
+                    .body(ReserveResponse.failed(STR."\{request.action()} failed with: \{commandRejected.error()}"));
         });
 
         return Mono.fromCompletionStage(reserveResponse);
     }
 
+    @PostMapping(value = "{showId}/seats/best-available", consumes = "application/json", produces = "application/json")
+    public Mono<ResponseEntity<BestSeatsResponse>> reserveBest(@PathVariable UUID showId, @RequestBody BestSeatsRequest request) {
+        CompletionStage<ResponseEntity<BestSeatsResponse>> reserveResponse = showService.reserveBestSeats(ShowId.of(showId), request.count())
+                .thenApply(response -> switch (response) {
+                    case SeatsAllocated seatsAllocated -> ResponseEntity.accepted()
+                            .body(BestSeatsResponse.reserved(seatsAllocated.seatNumbers(), seatsAllocated.sequenceNr()));
+                    case CommandProcessed commandProcessed -> ResponseEntity.accepted()
+                            .body(BestSeatsResponse.reserved(List.of(), commandProcessed.sequenceNr()));
+                    case CommandRejected commandRejected -> badRequest()
+                            .body(BestSeatsResponse.failed(commandRejected.error()));
+                });
+
+        return Mono.fromCompletionStage(reserveResponse);
+    }
+
+    /**
+     * Requests shed by the show service before reaching the show entity.
+     */
+    @ExceptionHandler(ShowOverloadedException.class)
+    public ResponseEntity<String> overloaded(ShowOverloadedException exception) {
+        return ResponseEntity.status(TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(exception.getMessage());
+    }
+
+    private CompletionStage<Optional<Show>> findShow(ShowId showId, boolean consistent, long minSeq) {
+        if (consistent) {
+            return showService.findCurrentShowBy(showId);
+        }
+        if (minSeq > 0) {
+            return projectionProgress.awaitAtLeast(SeatMapProjection.PROJECTION_NAME, showId, minSeq)
+                    .thenCompose(caughtUp -> caughtUp ? seatMapRepository.findLatestBy(showId) : completedFuture(Optional.<Show>empty()))
+                    .thenCompose(seatMap -> seatMap.isPresent() ? completedFuture(seatMap) : showService.findShowBy(showId, minSeq));
+        }
+        return seatMapRepository.findBy(showId)
+                .thenCompose(seatMap -> seatMap.isPresent() ? completedFuture(seatMap) : showService.findShowBy(showId));
+    }
+
     private static URI toShowLocation(UUID showId) {
         try {
             return new URI(STR."/shows/\{showId}");
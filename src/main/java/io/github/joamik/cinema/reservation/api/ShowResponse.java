@@ -1,15 +1,20 @@
 package io.github.joamik.cinema.reservation.api;
 
+import io.github.joamik.cinema.reservation.domain.SeatNumber;
 import io.github.joamik.cinema.reservation.domain.Show;
 
+import java.util.ArrayList;
 import java.util.List;
 
 public record ShowResponse(String id, String title, List<SeatResponse> seats) {
 
     public static ShowResponse from(Show show) {
-        var seatResponses = show.seats().values().stream()
-                .map(SeatResponse::from)
-                .toList();
+        var seatResponses = new ArrayList<SeatResponse>(show.seats().size());
+        for (var seatRange : show.layout().seatRanges()) {
+            for (int number = seatRange.firstSeat(); number <= seatRange.lastSeat(); number++) {
+                seatResponses.add(SeatResponse.from(show.seats().get(SeatNumber.of(number)), seatRange));
+            }
+        }
 
         return new ShowResponse(show.id().id().toString(), show.title(), seatResponses);
     }
@@ -0,0 +1,95 @@
+package io.github.joamik.cinema.reservation.api;
+
+import akka.actor.typed.ActorSystem;
+import io.github.joamik.cinema.reservation.application.projection.ProjectionProgress;
+import io.github.joamik.cinema.reservation.application.projection.ShowView;
+import io.github.joamik.cinema.reservation.application.projection.ShowViewProjection;
+import io.github.joamik.cinema.reservation.application.projection.ShowViewRepository;
+import io.github.joamik.cinema.reservation.domain.ShowId;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.springframework.http.ResponseEntity.badRequest;
+import static org.springframework.http.ResponseEntity.ok;
+
+/**
+ * Shows with available seats, served from the show view index, fewest available seats first.
+ * Paged reads given a {@code showId} and the {@code minSeq} returned by its last reservation are served once the view
+ * has caught up with it, or after the await timeout of {@link ProjectionProgress}.
+ */
+@RestController
+@RequestMapping(value = "/show-views", produces = "application/json")
+public class ShowViewController {
+
+    static final int MAX_LIMIT = 500;
+
+    private final ShowViewRepository showViewRepository;
+    private final ProjectionProgress projectionProgress;
+    private final ActorSystem<?> actorSystem;
+
+    public ShowViewController(ShowViewRepository showViewRepository, ProjectionProgress projectionProgress, ActorSystem<?> actorSystem) {
+        this.showViewRepository = showViewRepository;
+        this.projectionProgress = projectionProgress;
+        this.actorSystem = actorSystem;
+    }
+
+    /**
+     * All available shows, streamed as they are read with the demand of the client.
+     */
+    @GetMapping(produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_EVENT_STREAM_VALUE})
+    public Flux<ShowViewResponse> streamAvailable() {
+        return SourceFlux.from(showViewRepository.streamAvailable(), actorSystem)
+                .map(ShowViewResponse::from);
+    }
+
+    @GetMapping
+    public Mono<ResponseEntity<ShowViewPageResponse>> findAvailable(@RequestParam(defaultValue = "50") int limit,
+                                                                    @RequestParam(required = false) String after,
+                                                                    @RequestParam(required = false) UUID showId,
+                                                                    @RequestParam(defaultValue = "0") long minSeq) {
+        var cursor = after == null ? Optional.<ShowView>empty() : ShowViewCursor.decode(after);
+        if (invalid(limit) || invalid(showId, minSeq) || (after != null && cursor.isEmpty())) {
+            return Mono.just(badRequest().build());
+        }
+        return awaitProjected(showId, minSeq)
+                .then(Mono.fromCompletionStage(() -> showViewRepository.findAvailable(cursor, limit)))
+                .map(showViews -> ok(ShowViewPageResponse.from(showViews, limit)));
+    }
+
+    @GetMapping("almost-sold-out")
+    public Mono<ResponseEntity<List<ShowViewResponse>>> findAlmostSoldOut(@RequestParam(defaultValue = "10") int limit,
+                                                                          @RequestParam(required = false) UUID showId,
+                                                                          @RequestParam(defaultValue = "0") long minSeq) {
+        if (invalid(limit) || invalid(showId, minSeq)) {
+            return Mono.just(badRequest().build());
+        }
+        return awaitProjected(showId, minSeq)
+                .then(Mono.fromCompletionStage(() -> showViewRepository.findAlmostSoldOut(limit)))
+                .map(showViews -> ok(showViews.stream().map(ShowViewResponse::from).toList()));
+    }
+
+    private Mono<Boolean> awaitProjected(UUID showId, long minSeq) {
+        if (minSeq == 0) {
+            return Mono.just(true);
+        }
+        return Mono.fromCompletionStage(() -> projectionProgress.awaitAtLeast(ShowViewProjection.PROJECTION_NAME, ShowId.of(showId), minSeq));
+    }
+
+    private static boolean invalid(int limit) {
+        return limit < 1 || limit > MAX_LIMIT;
+    }
+
+    private static boolean invalid(UUID showId, long minSeq) {
+        return minSeq < 0 || (minSeq > 0 && showId == null);
+    }
+}
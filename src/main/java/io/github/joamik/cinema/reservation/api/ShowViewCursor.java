@@ -0,0 +1,34 @@
+package io.github.joamik.cinema.reservation.api;
+
+import io.github.joamik.cinema.reservation.application.projection.ShowView;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Opaque page cursor, the last show view of a page encoded as URL safe base64 of {@code availableSeats:showId}.
+ */
+class ShowViewCursor {
+
+    private ShowViewCursor() {
+    }
+
+    static String encode(ShowView showView) {
+        var cursor = STR."\{showView.availableSeats()}:\{showView.showId()}";
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(cursor.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static Optional<ShowView> decode(String cursor) {
+        try {
+            var decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = decoded.indexOf(':');
+            int availableSeats = Integer.parseInt(decoded.substring(0, separator));
+            var showId = UUID.fromString(decoded.substring(separator + 1));
+            return Optional.of(new ShowView(showId.toString(), availableSeats));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            return Optional.empty();
+        }
+    }
+}
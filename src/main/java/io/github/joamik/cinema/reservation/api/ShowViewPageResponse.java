@@ -0,0 +1,16 @@
+package io.github.joamik.cinema.reservation.api;
+
+import io.github.joamik.cinema.reservation.application.projection.ShowView;
+
+import java.util.List;
+
+/**
+ * @param next cursor of the next page, {@code null} on the last page
+ */
+public record ShowViewPageResponse(List<ShowViewResponse> showViews, String next) {
+
+    static ShowViewPageResponse from(List<ShowView> showViews, int limit) {
+        var next = showViews.size() == limit ? ShowViewCursor.encode(showViews.getLast()) : null;
+        return new ShowViewPageResponse(showViews.stream().map(ShowViewResponse::from).toList(), next);
+    }
+}
@@ -0,0 +1,10 @@
+package io.github.joamik.cinema.reservation.api;
+
+import io.github.joamik.cinema.reservation.application.projection.ShowView;
+
+public record ShowViewResponse(String showId, int availableSeats) {
+
+    static ShowViewResponse from(ShowView showView) {
+        return new ShowViewResponse(showView.showId(), showView.availableSeats());
+    }
+}
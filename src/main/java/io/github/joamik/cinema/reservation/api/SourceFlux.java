@@ -0,0 +1,20 @@
+package io.github.joamik.cinema.reservation.api;
+
+import akka.actor.typed.ActorSystem;
+import akka.stream.javadsl.AsPublisher;
+import akka.stream.javadsl.Sink;
+import akka.stream.javadsl.Source;
+import reactor.core.publisher.Flux;
+
+final class SourceFlux {
+
+    private SourceFlux() {
+    }
+
+    /**
+     * Runs the source once the flux is subscribed, the demand of the subscriber is passed upstream.
+     */
+    static <T> Flux<T> from(Source<T, ?> source, ActorSystem<?> actorSystem) {
+        return Flux.defer(() -> Flux.from(source.runWith(Sink.asPublisher(AsPublisher.WITHOUT_FANOUT), actorSystem)));
+    }
+}
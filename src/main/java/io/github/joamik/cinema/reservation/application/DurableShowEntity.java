@@ -0,0 +1,110 @@
+package io.github.joamik.cinema.reservation.application;
+
+import akka.actor.typed.ActorRef;
+import akka.actor.typed.Behavior;
+import akka.actor.typed.javadsl.ActorContext;
+import akka.actor.typed.javadsl.Behaviors;
+import akka.japi.function.Function;
+import akka.japi.function.Procedure;
+import akka.persistence.typed.PersistenceId;
+import akka.persistence.typed.state.RecoveryCompleted;
+import akka.persistence.typed.state.RecoveryFailed;
+import akka.persistence.typed.state.javadsl.CommandHandlerWithReply;
+import akka.persistence.typed.state.javadsl.CommandHandlerWithReplyBuilder;
+import akka.persistence.typed.state.javadsl.DurableStateBehaviorWithEnforcedReplies;
+import akka.persistence.typed.state.javadsl.ReplyEffect;
+import akka.persistence.typed.state.javadsl.SignalHandler;
+import io.github.joamik.cinema.base.domain.Clock;
+import io.github.joamik.cinema.reservation.application.ShowEntityCommand.GetShow;
+import io.github.joamik.cinema.reservation.application.ShowEntityCommand.ShowCommandEnvelope;
+import io.github.joamik.cinema.reservation.domain.Show;
+import io.github.joamik.cinema.reservation.domain.ShowEvent;
+import io.github.joamik.cinema.reservation.domain.ShowEvent.ShowCreated;
+import io.github.joamik.cinema.reservation.domain.ShowId;
+
+
+/**
+ * Show entity that stores only the latest {@link Show} instead of its events. Commands are handled by the same
+ * {@link ShowCommandHandler} as in {@link ShowEntity}, the resulting event is applied right away and the new state is persisted.
+ * Uses the same entity type key and persistence id, so only one of the two can be used by a deployment.
+ */
+public class DurableShowEntity extends DurableStateBehaviorWithEnforcedReplies<ShowEntityCommand, Show> {
+
+    private final ShowMetrics metrics;
+    private final ActorContext<ShowEntityCommand> context;
+    private final long recoveryStartedAt = System.nanoTime();
+    private final ShowCommandHandler<ReplyEffect<Show>> commands;
+
+    private DurableShowEntity(PersistenceId persistenceId, Clock clock, ShowMetrics metrics, ActorContext<ShowEntityCommand> context) {
+        super(persistenceId);
+        this.metrics = metrics;
+        this.context = context;
+        this.commands = new ShowCommandHandler<>(clock, metrics, context, new DurableStateEffects());
+    }
+
+    public static Behavior<ShowEntityCommand> create(ShowId showId, Clock clock) {
+        return create(showId, clock, ShowMetrics.NONE);
+    }
+
+    public static Behavior<ShowEntityCommand> create(ShowId showId, Clock clock, ShowMetrics metrics) {
+        return Behaviors.setup(context -> {
+            context.getLog().info("DurableShowEntity {} initialization started", showId);
+            return new DurableShowEntity(ShowEntity.persistenceId(showId), clock, metrics, context);
+        });
+    }
+
+    @Override
+    public Show emptyState() {
+        return null;
+    }
+
+    @Override
+    public CommandHandlerWithReply<ShowEntityCommand, Show> commandHandler() {
+        CommandHandlerWithReplyBuilder<ShowEntityCommand, Show> builder = newCommandHandlerWithReplyBuilder();
+
+        builder.forNullState()
+                .onCommand(GetShow.class, getShow -> commands.getShow(null, getShow))
+                .onCommand(ShowCommandEnvelope.class, commands::createShow);
+
+        builder.forStateType(Show.class)
+                .onCommand(GetShow.class, commands::getShow)
+                .onCommand(ShowCommandEnvelope.class, commands::processCommand);
+
+        return builder.build();
+    }
+
+    @Override
+    public SignalHandler<Show> signalHandler() {
+        return newSignalHandlerBuilder()
+                .onSignal(RecoveryCompleted.instance(), _ -> metrics.recovered(true, System.nanoTime() - recoveryStartedAt))
+                .onSignal(RecoveryFailed.class, (_, _) -> metrics.recovered(false, System.nanoTime() - recoveryStartedAt))
+                .build();
+    }
+
+    private class DurableStateEffects implements ShowCommandHandler.Effects<ReplyEffect<Show>> {
+
+        @Override
+        public <T> ReplyEffect<Show> reply(ActorRef<T> replyTo, T reply) {
+            return Effect().reply(replyTo, reply);
+        }
+
+        @Override
+        public ReplyEffect<Show> noReply() {
+            return Effect().noReply();
+        }
+
+        @Override
+        public ReplyEffect<Show> persist(Show show, ShowEvent event, Procedure<Show> persisted,
+                                         ActorRef<ShowEntityResponse> replyTo, Function<Show, ShowEntityResponse> reply) {
+            return Effect()
+                    .persist(event instanceof ShowCreated showCreated ? Show.create(showCreated) : show.apply(event))
+                    .thenRun(persisted)
+                    .thenReply(replyTo, reply);
+        }
+
+        @Override
+        public long lastSequenceNumber() {
+            return DurableShowEntity.this.lastSequenceNumber(context);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package io.github.joamik.cinema.reservation.application;
+
+import io.github.joamik.cinema.reservation.domain.ShowEvent;
+
+import java.io.Serializable;
+
+/**
+ * Event persisted by a show entity with its sequence number, as published by {@link ShowEventStreams}.
+ */
+public record PersistedShowEvent(ShowEvent showEvent, long sequenceNr) implements Serializable {
+
+}
@@ -0,0 +1,133 @@
+package io.github.joamik.cinema.reservation.application;
+
+import io.github.joamik.cinema.reservation.domain.ShowId;
+
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static java.util.concurrent.CompletableFuture.failedStage;
+
+/**
+ * Bounds the requests in flight from this node to show entities, a request above a limit fails fast with
+ * {@link ShowOverloadedException} instead of queueing up in the entity mailbox until its ask times out.
+ * The limit of a show adapts to the latency of its entity: every request slower than the latency target or timed out
+ * decreases it multiplicatively, down to the minimum, every request answered in time while the entity is busy
+ * increases it by one, up to the maximum.
+ */
+public class ShowAdmission {
+
+    private static final double BACKOFF_RATIO = 0.9;
+
+    private final ShowAdmissionProperties properties;
+    private final long latencyTargetNanos;
+    private final AtomicInteger nodeInFlight = new AtomicInteger();
+    private final Map<ShowId, ShowLimit> showLimits = new ConcurrentHashMap<>();
+
+    public ShowAdmission(ShowAdmissionProperties properties) {
+        this.properties = properties;
+        this.latencyTargetNanos = properties.getLatencyTarget().toNanos();
+    }
+
+    /**
+     * @param request sends the request to the show entity, called only when admitted, failing the returned stage if it throws
+     */
+    public <T> CompletionStage<T> admit(ShowId showId, Supplier<CompletionStage<T>> request) {
+        if (!tryAcquire(showId)) {
+            return failedStage(new ShowOverloadedException(showId));
+        }
+        long startedAt = System.nanoTime();
+        CompletionStage<T> response;
+        try {
+            response = request.get();
+        } catch (RuntimeException e) {
+            release(showId, System.nanoTime() - startedAt, false);
+            return failedStage(e);
+        }
+        return response.whenComplete((_, failure) -> release(showId, System.nanoTime() - startedAt, isTimeout(failure)));
+    }
+
+    /**
+     * Current in flight limit of the show.
+     */
+    public int limit(ShowId showId) {
+        var showLimit = showLimits.get(showId);
+        return showLimit == null ? properties.getShowLimit() : showLimit.limit();
+    }
+
+    public int inFlight() {
+        return nodeInFlight.get();
+    }
+
+    boolean tryAcquire(ShowId showId) {
+        if (nodeInFlight.incrementAndGet() > properties.getNodeLimit()) {
+            nodeInFlight.decrementAndGet();
+            return false;
+        }
+        var acquired = new boolean[1];
+        showLimits.compute(showId, (_, showLimit) -> {
+            var acquiring = showLimit == null ? new ShowLimit(properties.getShowLimit()) : showLimit;
+            acquired[0] = acquiring.tryAcquire();
+            return acquiring;
+        });
+        if (!acquired[0]) {
+            nodeInFlight.decrementAndGet();
+        }
+        return acquired[0];
+    }
+
+    void release(ShowId showId, long latencyNanos, boolean timedOut) {
+        nodeInFlight.decrementAndGet();
+        showLimits.computeIfPresent(showId, (_, showLimit) -> {
+            showLimit.release(timedOut || latencyNanos > latencyTargetNanos);
+            return showLimit.isIdle() ? null : showLimit;
+        });
+    }
+
+    private static boolean isTimeout(Throwable failure) {
+        var cause = failure instanceof CompletionException ? failure.getCause() : failure;
+        return cause instanceof TimeoutException;
+    }
+
+    /**
+     * Mutated only within the compute functions of the limits map. An idle show at its maximum limit is dropped from the map.
+     */
+    private final class ShowLimit {
+
+        private double limit;
+        private int inFlight;
+
+        private ShowLimit(double limit) {
+            this.limit = limit;
+        }
+
+        int limit() {
+            return (int) limit;
+        }
+
+        boolean tryAcquire() {
+            if (inFlight >= limit()) {
+                return false;
+            }
+            inFlight++;
+            return true;
+        }
+
+        void release(boolean overloaded) {
+            if (overloaded) {
+                limit = Math.max(properties.getMinShowLimit(), limit * BACKOFF_RATIO);
+            } else if (inFlight * 2 >= limit) {
+                limit = Math.min(properties.getShowLimit(), limit + 1);
+            }
+            inFlight--;
+        }
+
+        boolean isIdle() {
+            return inFlight == 0 && limit() >= properties.getShowLimit();
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package io.github.joamik.cinema.reservation.application;
+
+import java.time.Duration;
+
+/**
+ * Limits of the requests to show entities in flight from this node, see {@link ShowAdmission}.
+ */
+public class ShowAdmissionProperties {
+
+    public static final ShowAdmissionProperties DEFAULT = new ShowAdmissionProperties(1_000, 100, 4, 100);
+
+    private final int nodeLimit;
+    private final int showLimit;
+    private final int minShowLimit;
+    private final Duration latencyTarget;
+
+    /**
+     * @param nodeLimit                 maximum number of requests in flight to all show entities
+     * @param showLimit                 maximum number of requests in flight to a single show entity
+     * @param minShowLimit              lowest limit a slow show entity is throttled to
+     * @param latencyTargetMilliseconds latency above which a show entity is considered overloaded
+     */
+    public ShowAdmissionProperties(int nodeLimit, int showLimit, int minShowLimit, long latencyTargetMilliseconds) {
+        if (nodeLimit < 1 || minShowLimit < 1 || showLimit < minShowLimit) {
+            throw new IllegalArgumentException(STR."Invalid in flight limits, \{nodeLimit} per node and \{minShowLimit} to \{showLimit} per show");
+        }
+        if (latencyTargetMilliseconds < 1) {
+            throw new IllegalArgumentException(STR."Latency target must be positive, got \{latencyTargetMilliseconds}");
+        }
+        this.nodeLimit = nodeLimit;
+        this.showLimit = showLimit;
+        this.minShowLimit = minShowLimit;
+        this.latencyTarget = Duration.ofMillis(latencyTargetMilliseconds);
+    }
+
+    public int getNodeLimit() {
+        return nodeLimit;
+    }
+
+    public int getShowLimit() {
+        return showLimit;
+    }
+
+    public int getMinShowLimit() {
+        return minShowLimit;
+    }
+
+    public Duration getLatencyTarget() {
+        return latencyTarget;
+    }
+}
@@ -0,0 +1,168 @@
+package io.github.joamik.cinema.reservation.application;
+
+import io.github.joamik.cinema.base.domain.Clock;
+import io.github.joamik.cinema.reservation.domain.Show;
+import io.github.joamik.cinema.reservation.domain.ShowId;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Node local snapshots of shows, versioned by the sequence number of the last event they include.
+ * A snapshot is loaded from the entity on a miss and then kept up to date by the events published by
+ * {@link ShowEventStreams}, the cache follows the shows it holds: the next event of a show is applied,
+ * a gap in the sequence numbers drops the snapshot.
+ * A snapshot not confirmed by an event within the time to live is dropped too, which bounds the staleness
+ * left by an event that never reached this node. Every insert above the capacity evicts the least recently used snapshot,
+ * reads and applied events count as uses. All operations take the cache lock, they only touch one entry.
+ */
+public class ShowCache {
+
+    private final int capacity;
+    private final Duration timeToLive;
+    private final Clock clock;
+    private final ShowEventSubscriptions subscriptions;
+    private final Map<ShowId, Entry> entries;
+
+    public ShowCache(int capacity, Duration timeToLive, Clock clock) {
+        this(capacity, timeToLive, clock, ShowEventSubscriptions.NONE);
+    }
+
+    /**
+     * @param capacity      maximum number of cached shows, {@code 0} disables the cache
+     * @param subscriptions followed while a show is cached
+     */
+    public ShowCache(int capacity, Duration timeToLive, Clock clock, ShowEventSubscriptions subscriptions) {
+        this.capacity = capacity;
+        this.timeToLive = timeToLive;
+        this.clock = clock;
+        this.subscriptions = subscriptions;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<ShowId, Entry> eldest) {
+                if (size() <= capacity) {
+                    return false;
+                }
+                subscriptions.unfollow(eldest.getKey());
+                return true;
+            }
+        };
+    }
+
+    public static ShowCache disabled() {
+        return new ShowCache(0, Duration.ZERO, Clock.utc());
+    }
+
+    public boolean isEnabled() {
+        return capacity > 0;
+    }
+
+    /**
+     * @return the cached show if it includes the events up to the sequence number
+     */
+    public synchronized Optional<Show> get(ShowId showId, long minSequenceNr) {
+        var entry = entries.get(showId);
+        if (entry == null || entry.isLoading() || entry.sequenceNr() < minSequenceNr) {
+            return Optional.empty();
+        }
+        if (entry.isExpired(clock.now(), timeToLive)) {
+            remove(showId);
+            return Optional.empty();
+        }
+        return Optional.of(entry.show());
+    }
+
+    /**
+     * To be called before the snapshot is requested from the entity, so that the events published while
+     * the request is in flight are not missed.
+     */
+    public synchronized void loading(ShowId showId) {
+        var now = clock.now();
+        var existing = entries.get(showId);
+        if (existing == null) {
+            subscriptions.follow(showId);
+            entries.put(showId, Entry.loading(now));
+        } else if (existing.isExpired(now, timeToLive)) {
+            entries.put(showId, Entry.loading(now));
+        }
+    }
+
+    /**
+     * Caches the snapshot unless it is older than an event seen while it was loading, or the show does not exist.
+     */
+    public synchronized void loaded(ShowId showId, ShowSnapshot showSnapshot) {
+        var existing = entries.get(showId);
+        if (existing == null) {
+            return;
+        }
+        if (!existing.isLoading()) {
+            if (existing.sequenceNr() < showSnapshot.sequenceNr()) {
+                entries.put(showId, existing.refreshed(showSnapshot, clock.now()));
+            }
+        } else if (showSnapshot.show().isEmpty() || existing.sequenceNr() > showSnapshot.sequenceNr()) {
+            remove(showId);
+        } else {
+            entries.put(showId, existing.refreshed(showSnapshot, clock.now()));
+        }
+    }
+
+    /**
+     * To be called when the snapshot could not be loaded.
+     */
+    public synchronized void failed(ShowId showId) {
+        var existing = entries.get(showId);
+        if (existing != null && existing.isLoading()) {
+            remove(showId);
+        }
+    }
+
+    public synchronized void apply(PersistedShowEvent persistedShowEvent) {
+        var showId = persistedShowEvent.showEvent().showId();
+        var sequenceNr = persistedShowEvent.sequenceNr();
+        var existing = entries.get(showId);
+        if (existing == null || sequenceNr <= existing.sequenceNr()) {
+            return;
+        }
+        if (existing.isLoading()) {
+            entries.put(showId, new Entry(null, sequenceNr, existing.cachedAt()));
+        } else if (sequenceNr == existing.sequenceNr() + 1) {
+            entries.put(showId, new Entry(existing.show().apply(persistedShowEvent.showEvent()), sequenceNr, clock.now()));
+        } else {
+            remove(showId);
+        }
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    private void remove(ShowId showId) {
+        entries.remove(showId);
+        subscriptions.unfollow(showId);
+    }
+
+    /**
+     * While the snapshot is loading {@code show} is {@code null} and {@code sequenceNr} is the highest one seen.
+     */
+    private record Entry(Show show, long sequenceNr, Instant cachedAt) {
+
+        static Entry loading(Instant now) {
+            return new Entry(null, 0, now);
+        }
+
+        boolean isLoading() {
+            return show == null;
+        }
+
+        boolean isExpired(Instant now, Duration timeToLive) {
+            return !isLoading() && cachedAt.plus(timeToLive).isBefore(now);
+        }
+
+        Entry refreshed(ShowSnapshot showSnapshot, Instant now) {
+            return new Entry(showSnapshot.show().orElseThrow(), showSnapshot.sequenceNr(), now);
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package io.github.joamik.cinema.reservation.application;
+
+import akka.actor.typed.ActorRef;
+import akka.actor.typed.javadsl.ActorContext;
+import akka.japi.function.Function;
+import akka.japi.function.Procedure;
+import io.github.joamik.cinema.base.domain.Clock;
+import io.github.joamik.cinema.base.domain.Result;
+import io.github.joamik.cinema.base.domain.Result.Failure;
+import io.github.joamik.cinema.base.domain.Result.Success;
+import io.github.joamik.cinema.reservation.application.ShowEntityCommand.GetShow;
+import io.github.joamik.cinema.reservation.application.ShowEntityCommand.ShowCommandEnvelope;
+import io.github.joamik.cinema.reservation.application.ShowEntityResponse.CommandProcessed;
+import io.github.joamik.cinema.reservation.application.ShowEntityResponse.CommandRejected;
+import io.github.joamik.cinema.reservation.application.ShowEntityResponse.SeatsAllocated;
+import io.github.joamik.cinema.reservation.domain.Show;
+import io.github.joamik.cinema.reservation.domain.ShowCommand;
+import io.github.joamik.cinema.reservation.domain.ShowCommand.CreateShow;
+import io.github.joamik.cinema.reservation.domain.ShowCommand.ReserveBestSeats;
+import io.github.joamik.cinema.reservation.domain.ShowCommandError;
+import io.github.joamik.cinema.reservation.domain.ShowCreator;
+import io.github.joamik.cinema.reservation.domain.ShowEvent;
+import io.github.joamik.cinema.reservation.domain.ShowEvent.SeatsReserved;
+import io.github.joamik.cinema.reservation.domain.ShowEvent.ShowCreated;
+
+import java.util.Optional;
+
+/**
+ * Command handling shared by {@link ShowEntity} and {@link DurableShowEntity}: expired commands are dropped, the rest are
+ * processed by the {@link Show} domain logic and answered. The behaviors differ only in what they persist for an event.
+ * The clock is read once per command, for its expiry as well as for the event it results in.
+ *
+ * @param <E> reply effect of the behavior
+ */
+final class ShowCommandHandler<E> {
+
+    /**
+     * Effects of the behavior the commands are handled by.
+     */
+    interface Effects<E> {
+
+        <T> E reply(ActorRef<T> replyTo, T reply);
+
+        E noReply();
+
+        /**
+         * @param show      state the event is applied to, {@code null} for the event creating the show
+         * @param persisted run once the event is stored, before the reply is sent
+         */
+        E persist(Show show, ShowEvent event, Procedure<Show> persisted, ActorRef<ShowEntityResponse> replyTo,
+                  Function<Show, ShowEntityResponse> reply);
+
+        long lastSequenceNumber();
+    }
+
+    private final Clock clock;
+    private final ShowMetrics metrics;
+    private final ActorContext<ShowEntityCommand> context;
+    private final Effects<E> effects;
+
+    ShowCommandHandler(Clock clock, ShowMetrics metrics, ActorContext<ShowEntityCommand> context, Effects<E> effects) {
+        this.clock = clock;
+        this.metrics = metrics;
+        this.context = context;
+        this.effects = effects;
+    }
+
+    /**
+     * @param show {@code null} until the show is created
+     */
+    E getShow(Show show, GetShow getShow) {
+        if (getShow.isExpired(clock.now())) {
+            return dropExpired(getShow);
+        }
+        return effects.reply(getShow.replyTo(), new ShowSnapshot(Optional.ofNullable(show), effects.lastSequenceNumber()));
+    }
+
+    E createShow(ShowCommandEnvelope envelope) {
+        var now = clock.now();
+        if (envelope.isExpired(now)) {
+            return dropExpired(envelope);
+        }
+        ShowCommand command = envelope.command();
+        if (command instanceof CreateShow createShow) {
+            Result<ShowCommandError, ShowCreated> result = ShowCreator.create(createShow, now);
+            return switch (result) {
+                case Failure<ShowCommandError, ShowCreated> failure -> effects.reply(envelope.replyTo(), CommandRejected.of(failure.error()));
+                case Success<ShowCommandError, ShowCreated> success -> persistAndReply(null, envelope, success.value());
+            };
+        } else {
+            context.getLog().warn("Show {} not created", command.showId());
+            return effects.reply(envelope.replyTo(), CommandRejected.of(ShowCommandError.SHOW_NOT_EXISTS));
+        }
+    }
+
+    E processCommand(Show show, ShowCommandEnvelope envelope) {
+        var now = clock.now();
+        if (envelope.isExpired(now)) {
+            return dropExpired(envelope);
+        }
+        Result<ShowCommandError, ShowEvent> result = show.process(envelope.command(), now);
+        return switch (result) {
+            case Failure<ShowCommandError, ShowEvent> failure -> effects.reply(envelope.replyTo(), CommandRejected.of(failure.error()));
+            case Success<ShowCommandError, ShowEvent> success -> persistAndReply(show, envelope, success.value());
+        };
+    }
+
+    /**
+     * The ask of the command has timed out, its caller is gone, so the command is neither processed nor answered.
+     */
+    private E dropExpired(ShowEntityCommand command) {
+        context.getLog().debug("Expired {} dropped", command.getClass().getSimpleName());
+        return effects.noReply();
+    }
+
+    /**
+     * Replies carry the sequence number of the persisted event, only a best seats reservation also carries its seats back.
+     * Persisted events are timed until their reply and published to the watchers of the show, see {@link ShowEventStreams}.
+     */
+    private E persistAndReply(Show show, ShowCommandEnvelope envelope, ShowEvent event) {
+        long persistStartedAt = System.nanoTime();
+        Procedure<Show> persisted = _ -> {
+            metrics.persisted(event.getClass().getSimpleName(), System.nanoTime() - persistStartedAt);
+            ShowEventStreams.publish(context.getSystem(), event, effects.lastSequenceNumber());
+        };
+        if (envelope.command() instanceof ReserveBestSeats && event instanceof SeatsReserved seatsReserved) {
+            return effects.persist(show, event, persisted, envelope.replyTo(),
+                    _ -> new SeatsAllocated(seatsReserved.seatNumbers(), effects.lastSequenceNumber()));
+        }
+        return effects.persist(show, event, persisted, envelope.replyTo(), _ -> new CommandProcessed(effects.lastSequenceNumber()));
+    }
+}
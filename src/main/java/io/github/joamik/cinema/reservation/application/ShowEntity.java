@@ -1,35 +1,31 @@
 package io.github.joamik.cinema.reservation.application;
 
+import akka.actor.typed.ActorRef;
 import akka.actor.typed.Behavior;
 import akka.actor.typed.javadsl.ActorContext;
 import akka.actor.typed.javadsl.Behaviors;
 import akka.cluster.sharding.typed.javadsl.EntityTypeKey;
+import akka.japi.function.Function;
+import akka.japi.function.Procedure;
 import akka.persistence.typed.PersistenceId;
+import akka.persistence.typed.RecoveryCompleted;
+import akka.persistence.typed.RecoveryFailed;
 import akka.persistence.typed.javadsl.CommandHandlerWithReply;
 import akka.persistence.typed.javadsl.CommandHandlerWithReplyBuilder;
 import akka.persistence.typed.javadsl.EventHandler;
 import akka.persistence.typed.javadsl.EventHandlerBuilder;
 import akka.persistence.typed.javadsl.EventSourcedBehaviorWithEnforcedReplies;
 import akka.persistence.typed.javadsl.ReplyEffect;
-import io.github.joamik.cinema.base.domain.Result;
-import io.github.joamik.cinema.base.domain.Result.Failure;
-import io.github.joamik.cinema.base.domain.Result.Success;
+import akka.persistence.typed.javadsl.RetentionCriteria;
+import akka.persistence.typed.javadsl.SignalHandler;
 import io.github.joamik.cinema.base.domain.Clock;
 import io.github.joamik.cinema.reservation.application.ShowEntityCommand.GetShow;
 import io.github.joamik.cinema.reservation.application.ShowEntityCommand.ShowCommandEnvelope;
-import io.github.joamik.cinema.reservation.application.ShowEntityResponse.CommandProcessed;
-import io.github.joamik.cinema.reservation.application.ShowEntityResponse.CommandRejected;
 import io.github.joamik.cinema.reservation.domain.Show;
-import io.github.joamik.cinema.reservation.domain.ShowCommand;
-import io.github.joamik.cinema.reservation.domain.ShowCommand.CreateShow;
-import io.github.joamik.cinema.reservation.domain.ShowCommandError;
-import io.github.joamik.cinema.reservation.domain.ShowCreator;
 import io.github.joamik.cinema.reservation.domain.ShowEvent;
 import io.github.joamik.cinema.reservation.domain.ShowEvent.ShowCreated;
 import io.github.joamik.cinema.reservation.domain.ShowId;
 
-import java.util.List;
-import java.util.Optional;
 import java.util.Set;
 
 public class ShowEntity extends EventSourcedBehaviorWithEnforcedReplies<ShowEntityCommand, ShowEvent, Show> {
@@ -40,25 +36,53 @@ public class ShowEntity extends EventSourcedBehaviorWithEnforcedReplies<ShowEnti
     public static final String SHOW_EVENT_TAG = "ShowEvent";
 
     private final ShowId showId;
-    private final Clock clock;
+    private final ShowEntityProperties properties;
+    private final Set<String> tags;
+    private final ShowMetrics metrics;
     private final ActorContext<ShowEntityCommand> context;
+    private final long recoveryStartedAt = System.nanoTime();
+    private final ShowCommandHandler<ReplyEffect<ShowEvent, Show>> commands;
 
-    private ShowEntity(PersistenceId persistenceId, ShowId showId, Clock clock, ActorContext<ShowEntityCommand> context) {
+    private ShowEntity(PersistenceId persistenceId, ShowId showId, Clock clock, ShowEntityProperties properties, ShowMetrics metrics,
+                       ActorContext<ShowEntityCommand> context) {
         super(persistenceId);
         this.showId = showId;
-        this.clock = clock;
+        this.properties = properties;
+        this.tags = Set.of(eventTag(sliceOf(showId, properties.getEventTagSlices())));
+        this.metrics = metrics;
         this.context = context;
+        this.commands = new ShowCommandHandler<>(clock, metrics, context, new EventSourcedEffects());
     }
 
     public static PersistenceId persistenceId(ShowId showId) {
         return PersistenceId.of(SHOW_ENTITY_TYPE_KEY.name(), showId.id().toString());
     }
 
+    /**
+     * @return slice of the show's events, stable for a given number of slices,
+     * also computed by {@code development/retag_show_events.sql} for events stored before slicing
+     */
+    public static int sliceOf(ShowId showId, int slices) {
+        return Math.floorMod(showId.id().hashCode(), slices);
+    }
+
+    public static String eventTag(int slice) {
+        return STR."\{SHOW_EVENT_TAG}-\{slice}";
+    }
+
     public static Behavior<ShowEntityCommand> create(ShowId showId, Clock clock) {
+        return create(showId, clock, ShowEntityProperties.DEFAULT);
+    }
+
+    public static Behavior<ShowEntityCommand> create(ShowId showId, Clock clock, ShowEntityProperties properties) {
+        return create(showId, clock, properties, ShowMetrics.NONE);
+    }
+
+    public static Behavior<ShowEntityCommand> create(ShowId showId, Clock clock, ShowEntityProperties properties, ShowMetrics metrics) {
         return Behaviors.setup(context -> {
             var persistenceId = ShowEntity.persistenceId(showId);
             context.getLog().info("ShowEntity {} initialization started", showId);
-            return new ShowEntity(persistenceId, showId, clock, context);
+            return new ShowEntity(persistenceId, showId, clock, properties, metrics, context);
         });
     }
 
@@ -86,56 +110,69 @@ public class ShowEntity extends EventSourcedBehaviorWithEnforcedReplies<ShowEnti
         CommandHandlerWithReplyBuilder<ShowEntityCommand, ShowEvent, Show> builder = newCommandHandlerWithReplyBuilder();
 
         builder.forNullState()
-                .onCommand(GetShow.class, this::returnEmptyState)
-                .onCommand(ShowCommandEnvelope.class, this::handleShowCreation)
+                .onCommand(GetShow.class, getShow -> commands.getShow(null, getShow))
+                .onCommand(ShowCommandEnvelope.class, commands::createShow)
                 .build();
 
         builder.forStateType(Show.class)
-                .onCommand(GetShow.class, this::returnState)
-                .onCommand(ShowCommandEnvelope.class, this::handleShowCommand)
+                .onCommand(GetShow.class, commands::getShow)
+                .onCommand(ShowCommandEnvelope.class, commands::processCommand)
                 .build();
 
         return builder.build();
     }
 
     @Override
-    public Set<String> tagsFor(ShowEvent showEvent) {
-        return Set.of(SHOW_EVENT_TAG);
+    public SignalHandler<Show> signalHandler() {
+        return newSignalHandlerBuilder()
+                .onSignal(RecoveryCompleted.instance(), _ -> metrics.recovered(true, System.nanoTime() - recoveryStartedAt))
+                .onSignal(RecoveryFailed.class, (_, _) -> metrics.recovered(false, System.nanoTime() - recoveryStartedAt))
+                .build();
     }
 
-    private ReplyEffect<ShowEvent, Show> returnEmptyState(GetShow getShow) {
-        return Effect().reply(getShow.replyTo(), Optional.empty());
+    @Override
+    public RetentionCriteria retentionCriteria() {
+        if (properties.getSnapshotEvery() == 0) {
+            return RetentionCriteria.disabled();
+        }
+        var retentionCriteria = RetentionCriteria.snapshotEvery(properties.getSnapshotEvery(), properties.getKeepSnapshots());
+        return properties.isDeleteEventsOnSnapshot() ? retentionCriteria.withDeleteEventsOnSnapshot() : retentionCriteria;
     }
 
-    private ReplyEffect<ShowEvent, Show> handleShowCreation(ShowCommandEnvelope envelope) {
-        ShowCommand command = envelope.command();
-        if (command instanceof CreateShow createShow) {
-            Result<ShowCommandError, ShowCreated> result = ShowCreator.create(createShow, clock);
-            return switch (result) {
-                case Failure<ShowCommandError, ShowCreated> failure -> Effect()
-                        .reply(envelope.replyTo(), new CommandRejected(failure.error()));
-                case Success<ShowCommandError, ShowCreated> success -> Effect()
-                        .persist(success.value())
-                        .thenReply(envelope.replyTo(), _ -> new CommandProcessed());
-            };
-        } else {
-            context.getLog().warn("Show {} not created", command.showId());
-            return Effect().reply(envelope.replyTo(), new CommandRejected(ShowCommandError.SHOW_NOT_EXISTS));
-        }
+    @Override
+    public boolean shouldSnapshot(Show show, ShowEvent showEvent, long sequenceNr) {
+        return properties.isSnapshotWhenSoldOut() && show.seats().availableCount() == 0;
     }
 
-    private ReplyEffect<ShowEvent, Show> returnState(Show show, GetShow getShow) {
-        return Effect().reply(getShow.replyTo(), Optional.of(show));
+    @Override
+    public Set<String> tagsFor(ShowEvent showEvent) {
+        return tags;
     }
 
-    private ReplyEffect<ShowEvent, Show> handleShowCommand(Show show, ShowCommandEnvelope envelope) {
-        Result<ShowCommandError, List<ShowEvent>> result = show.process(envelope.command(), clock);
-        return switch (result) {
-            case Failure<ShowCommandError, List<ShowEvent>> failure -> Effect()
-                    .reply(envelope.replyTo(), new CommandRejected(failure.error()));
-            case Success<ShowCommandError, List<ShowEvent>> success -> Effect()
-                    .persist(success.value())
-                    .thenReply(envelope.replyTo(), _ -> new CommandProcessed());
-        };
+    private class EventSourcedEffects implements ShowCommandHandler.Effects<ReplyEffect<ShowEvent, Show>> {
+
+        @Override
+        public <T> ReplyEffect<ShowEvent, Show> reply(ActorRef<T> replyTo, T reply) {
+            return Effect().reply(replyTo, reply);
+        }
+
+        @Override
+        public ReplyEffect<ShowEvent, Show> noReply() {
+            return Effect().noReply();
+        }
+
+        @Override
+        public ReplyEffect<ShowEvent, Show> persist(Show show, ShowEvent event, Procedure<Show> persisted,
+                                                   ActorRef<ShowEntityResponse> replyTo, Function<Show, ShowEntityResponse> reply) {
+            return Effect()
+                    .persist(event)
+                    .thenRun(persisted)
+                    .thenReply(replyTo, reply);
+        }
+
+        @Override
+        public long lastSequenceNumber() {
+            return ShowEntity.this.lastSequenceNumber(context);
+        }
     }
 }
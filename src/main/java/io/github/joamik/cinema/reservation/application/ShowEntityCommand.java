@@ -1,19 +1,41 @@
 package io.github.joamik.cinema.reservation.application;
 
 import akka.actor.typed.ActorRef;
-import io.github.joamik.cinema.reservation.domain.Show;
 import io.github.joamik.cinema.reservation.domain.ShowCommand;
 
 import java.io.Serializable;
-import java.util.Optional;
+import java.time.Duration;
+import java.time.Instant;
 
+/**
+ * Commands carry the deadline of their ask, a command handled past it is dropped without a reply,
+ * its caller has already timed out. The deadline is set by the clock of the sending node and checked by the clock
+ * of the node hosting the show entity, so it is extended by {@link #CLOCK_SKEW_TOLERANCE}. Nodes whose clocks drift apart
+ * by more than that get their commands dropped as soon as they arrive, their clocks have to be kept synchronized.
+ */
 public sealed interface ShowEntityCommand extends Serializable {
 
-    record ShowCommandEnvelope(ShowCommand command, ActorRef<ShowEntityResponse> replyTo) implements ShowEntityCommand {
+    Instant NO_DEADLINE = Instant.ofEpochMilli(Long.MAX_VALUE);
 
+    Duration CLOCK_SKEW_TOLERANCE = Duration.ofSeconds(1);
+
+    Instant deadline();
+
+    default boolean isExpired(Instant now) {
+        return now.isAfter(deadline());
+    }
+
+    record ShowCommandEnvelope(ShowCommand command, Instant deadline, ActorRef<ShowEntityResponse> replyTo) implements ShowEntityCommand {
+
+        public ShowCommandEnvelope(ShowCommand command, ActorRef<ShowEntityResponse> replyTo) {
+            this(command, NO_DEADLINE, replyTo);
+        }
     }
 
-    record GetShow(ActorRef<Optional<Show>> replyTo) implements ShowEntityCommand {
+    record GetShow(Instant deadline, ActorRef<ShowSnapshot> replyTo) implements ShowEntityCommand {
 
+        public GetShow(ActorRef<ShowSnapshot> replyTo) {
+            this(NO_DEADLINE, replyTo);
+        }
     }
 }
@@ -0,0 +1,63 @@
+package io.github.joamik.cinema.reservation.application;
+
+/**
+ * Snapshotting of {@link ShowEntity}, bounds the number of events replayed when a show entity is started,
+ * and the number of slices its events are tagged with.
+ */
+public class ShowEntityProperties {
+
+    public static final int DEFAULT_EVENT_TAG_SLICES = 4;
+    public static final ShowEntityProperties DEFAULT = new ShowEntityProperties(100, 2, false, true);
+
+    private final int snapshotEvery;
+    private final int keepSnapshots;
+    private final boolean deleteEventsOnSnapshot;
+    private final boolean snapshotWhenSoldOut;
+    private final int eventTagSlices;
+
+    public ShowEntityProperties(int snapshotEvery, int keepSnapshots, boolean deleteEventsOnSnapshot, boolean snapshotWhenSoldOut) {
+        this(snapshotEvery, keepSnapshots, deleteEventsOnSnapshot, snapshotWhenSoldOut, DEFAULT_EVENT_TAG_SLICES);
+    }
+
+    /**
+     * @param snapshotEvery          number of events between snapshots, {@code 0} disables periodic snapshots
+     * @param keepSnapshots          number of periodic snapshots kept, older ones are deleted
+     * @param deleteEventsOnSnapshot whether events covered by the oldest kept snapshot are deleted
+     * @param snapshotWhenSoldOut    whether a snapshot is also taken when the last available seat gets reserved
+     * @param eventTagSlices         number of event tags shows are spread over, each tag is consumed by its own projection
+     */
+    public ShowEntityProperties(int snapshotEvery, int keepSnapshots, boolean deleteEventsOnSnapshot, boolean snapshotWhenSoldOut,
+                                int eventTagSlices) {
+        if (snapshotEvery < 0 || keepSnapshots < 1) {
+            throw new IllegalArgumentException(STR."Invalid snapshot retention, every \{snapshotEvery} events keeping \{keepSnapshots}");
+        }
+        if (eventTagSlices < 1) {
+            throw new IllegalArgumentException(STR."Event tag slices must be positive, got \{eventTagSlices}");
+        }
+        this.snapshotEvery = snapshotEvery;
+        this.keepSnapshots = keepSnapshots;
+        this.deleteEventsOnSnapshot = deleteEventsOnSnapshot;
+        this.snapshotWhenSoldOut = snapshotWhenSoldOut;
+        this.eventTagSlices = eventTagSlices;
+    }
+
+    public int getSnapshotEvery() {
+        return snapshotEvery;
+    }
+
+    public int getKeepSnapshots() {
+        return keepSnapshots;
+    }
+
+    public boolean isDeleteEventsOnSnapshot() {
+        return deleteEventsOnSnapshot;
+    }
+
+    public boolean isSnapshotWhenSoldOut() {
+        return snapshotWhenSoldOut;
+    }
+
+    public int getEventTagSlices() {
+        return eventTagSlices;
+    }
+}
@@ -1,16 +1,40 @@
 package io.github.joamik.cinema.reservation.application;
 
+import io.github.joamik.cinema.reservation.domain.SeatNumber;
 import io.github.joamik.cinema.reservation.domain.ShowCommandError;
 
 import java.io.Serializable;
+import java.util.Arrays;
+import java.util.List;
 
 public sealed interface ShowEntityResponse extends Serializable {
 
-    record CommandProcessed() implements ShowEntityResponse {
+    /**
+     * @param sequenceNr sequence number of the show after the command, reads of the projections can wait for it
+     */
+    record CommandProcessed(long sequenceNr) implements ShowEntityResponse {
 
     }
 
+    /**
+     * Reply to a processed {@link io.github.joamik.cinema.reservation.domain.ShowCommand.ReserveBestSeats}
+     * with the seats that were picked.
+     */
+    record SeatsAllocated(List<SeatNumber> seatNumbers, long sequenceNr) implements ShowEntityResponse {
+
+        public SeatsAllocated {
+            seatNumbers = List.copyOf(seatNumbers);
+        }
+    }
+
     record CommandRejected(ShowCommandError error) implements ShowEntityResponse {
 
+        private static final CommandRejected[] BY_ERROR = Arrays.stream(ShowCommandError.values())
+                .map(CommandRejected::new)
+                .toArray(CommandRejected[]::new);
+
+        public static CommandRejected of(ShowCommandError error) {
+            return BY_ERROR[error.ordinal()];
+        }
     }
 }
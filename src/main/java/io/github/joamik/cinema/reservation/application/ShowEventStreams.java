@@ -0,0 +1,223 @@
+package io.github.joamik.cinema.reservation.application;
+
+import akka.NotUsed;
+import akka.actor.typed.ActorRef;
+import akka.actor.typed.ActorSystem;
+import akka.actor.typed.Behavior;
+import akka.actor.typed.Props;
+import akka.actor.typed.eventstream.EventStream;
+import akka.actor.typed.javadsl.Behaviors;
+import akka.actor.typed.pubsub.Topic;
+import akka.stream.OverflowStrategy;
+import akka.stream.javadsl.BroadcastHub;
+import akka.stream.javadsl.Keep;
+import akka.stream.javadsl.Source;
+import akka.stream.javadsl.SourceQueueWithComplete;
+import io.github.joamik.cinema.reservation.domain.ShowEvent;
+import io.github.joamik.cinema.reservation.domain.ShowId;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Live streams of the events persisted by show entities, for watchers of a show.
+ * Entities publish their events to the local {@link EventStream}, the node forwards them to the {@link Topic} of show events.
+ * The topic is shared by all shows, a single actor per node, so publishing an event spawns no actor and registers
+ * nothing with the receptionist per show. A node subscribes to the topic only while it follows any show, the topic drops
+ * the events while no node subscribes, and a subscribed node drops the events of the shows it does not follow.
+ * Events of the entities on this node are also handed over directly, the topic delivers only once it has seen
+ * its subscription, and the copy coming back from the topic is skipped by its sequence number.
+ * Events are handed over to a hub per watched show,
+ * so thousands of watchers of a show share a single subscription.
+ * Node local listeners, like the {@link ShowCache}, receive the events of the followed shows with their sequence numbers.
+ */
+public class ShowEventStreams implements ShowEventSubscriptions {
+
+    static final String TOPIC_NAME = "show-events";
+    private static final int SHOW_BUFFER_SIZE = 256;
+    private static final int WATCHER_BUFFER_SIZE = 256;
+
+    private final ActorSystem<?> actorSystem;
+    private final Map<ShowId, Integer> followersByShow = new ConcurrentHashMap<>();
+    private final Map<ShowId, ShowHub> hubs = new ConcurrentHashMap<>();
+    private final List<Consumer<PersistedShowEvent>> listeners = new CopyOnWriteArrayList<>();
+    private final ActorRef<Topic.Command<PersistedShowEvent>> topic;
+    private final ActorRef<Object> dispatcher;
+
+    public ShowEventStreams(ActorSystem<?> actorSystem) {
+        this.actorSystem = actorSystem;
+        this.topic = actorSystem.systemActorOf(Topic.create(PersistedShowEvent.class, TOPIC_NAME), "show-events-topic", Props.empty());
+        this.dispatcher = actorSystem.systemActorOf(dispatcher(), "show-events-dispatcher", Props.empty());
+        actorSystem.systemActorOf(forwarder(), "show-events-forwarder", Props.empty());
+    }
+
+    /**
+     * Publishes an event persisted by a show entity, to be called once the event is stored.
+     */
+    public static void publish(ActorSystem<?> actorSystem, ShowEvent showEvent, long sequenceNr) {
+        actorSystem.eventStream().tell(new EventStream.Publish<>(new PersistedShowEvent(showEvent, sequenceNr)));
+    }
+
+    /**
+     * Registers a listener called for every event of the followed shows, on the thread of the dispatching actor,
+     * events of a show in the order they were persisted.
+     */
+    public void addListener(Consumer<PersistedShowEvent> listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Passes the events of the show to this node, once for any number of follows.
+     */
+    @Override
+    public void follow(ShowId showId) {
+        followersByShow.compute(showId, (_, followers) -> {
+            if (followers == null) {
+                dispatcher.tell(new Followed(showId));
+                return 1;
+            }
+            return followers + 1;
+        });
+    }
+
+    @Override
+    public void unfollow(ShowId showId) {
+        followersByShow.computeIfPresent(showId, (_, followers) -> {
+            if (followers == 1) {
+                dispatcher.tell(new Unfollowed(showId));
+                return null;
+            }
+            return followers - 1;
+        });
+    }
+
+    /**
+     * Events of the show persisted from now on. A watcher that does not keep up loses the oldest buffered events.
+     */
+    public Source<ShowEvent, NotUsed> stream(ShowId showId) {
+        return Source.lazySource(() -> watch(showId)).mapMaterializedValue(_ -> NotUsed.notUsed());
+    }
+
+    private Source<ShowEvent, NotUsed> watch(ShowId showId) {
+        var hub = hubs.compute(showId, (_, existing) -> (existing == null ? new ShowHub(showId) : existing).watched());
+        return hub.source
+                .buffer(WATCHER_BUFFER_SIZE, OverflowStrategy.dropHead())
+                .watchTermination((notUsed, done) -> {
+                    done.whenComplete((_, _) -> hubs.computeIfPresent(showId, (_, existing) -> existing.unwatched()));
+                    return notUsed;
+                });
+    }
+
+    private boolean isFollowed(ShowId showId) {
+        return followersByShow.containsKey(showId);
+    }
+
+    private Behavior<PersistedShowEvent> forwarder() {
+        return Behaviors.setup(context -> {
+            context.getSystem().eventStream().tell(new EventStream.Subscribe<>(PersistedShowEvent.class, context.getSelf()));
+            return Behaviors.receive(PersistedShowEvent.class)
+                    .onMessage(PersistedShowEvent.class, persistedShowEvent -> {
+                        topic.tell(Topic.publish(persistedShowEvent));
+                        if (isFollowed(persistedShowEvent.showEvent().showId())) {
+                            dispatcher.tell(persistedShowEvent);
+                        }
+                        return Behaviors.same();
+                    })
+                    .build();
+        });
+    }
+
+    /**
+     * Subscribed to the topic while the node follows any show, the follows and unfollows of a show arrive in order.
+     */
+    private Behavior<Object> dispatcher() {
+        return Behaviors.setup(context -> {
+            var followedShows = new HashSet<ShowId>();
+            var dispatchedSequenceNrs = new HashMap<ShowId, Long>();
+            return Behaviors.receive(Object.class)
+                    .onMessage(PersistedShowEvent.class, persistedShowEvent -> {
+                        var showEvent = persistedShowEvent.showEvent();
+                        if (!followedShows.contains(showEvent.showId())) {
+                            return Behaviors.same();
+                        }
+                        var dispatchedSequenceNr = dispatchedSequenceNrs.get(showEvent.showId());
+                        if (dispatchedSequenceNr != null && persistedShowEvent.sequenceNr() <= dispatchedSequenceNr) {
+                            return Behaviors.same();
+                        }
+                        dispatchedSequenceNrs.put(showEvent.showId(), persistedShowEvent.sequenceNr());
+                        listeners.forEach(listener -> listener.accept(persistedShowEvent));
+                        var hub = hubs.get(showEvent.showId());
+                        if (hub != null) {
+                            hub.queue.offer(showEvent);
+                        }
+                        return Behaviors.same();
+                    })
+                    .onMessage(Followed.class, followed -> {
+                        if (followedShows.isEmpty()) {
+                            topic.tell(Topic.subscribe(context.getSelf().narrow()));
+                        }
+                        followedShows.add(followed.showId());
+                        return Behaviors.same();
+                    })
+                    .onMessage(Unfollowed.class, unfollowed -> {
+                        followedShows.remove(unfollowed.showId());
+                        dispatchedSequenceNrs.remove(unfollowed.showId());
+                        if (followedShows.isEmpty()) {
+                            topic.tell(Topic.unsubscribe(context.getSelf().narrow()));
+                        }
+                        return Behaviors.same();
+                    })
+                    .build();
+        });
+    }
+
+    private record Followed(ShowId showId) {
+
+    }
+
+    private record Unfollowed(ShowId showId) {
+
+    }
+
+    private final class ShowHub {
+
+        private final ShowId showId;
+        private final SourceQueueWithComplete<ShowEvent> queue;
+        private final Source<ShowEvent, NotUsed> source;
+        private int watchers;
+
+        private ShowHub(ShowId showId) {
+            this.showId = showId;
+            var materialized = Source.<ShowEvent>queue(SHOW_BUFFER_SIZE, OverflowStrategy.dropHead())
+                    .toMat(BroadcastHub.of(ShowEvent.class), Keep.both())
+                    .run(actorSystem);
+            this.queue = materialized.first();
+            this.source = materialized.second();
+        }
+
+        /**
+         * Called within the compute of the hubs map, like {@link #unwatched()}.
+         */
+        private ShowHub watched() {
+            if (watchers++ == 0) {
+                follow(showId);
+            }
+            return this;
+        }
+
+        private ShowHub unwatched() {
+            watchers--;
+            if (watchers == 0) {
+                queue.complete();
+                unfollow(showId);
+                return null;
+            }
+            return this;
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package io.github.joamik.cinema.reservation.application;
+
+import io.github.joamik.cinema.reservation.domain.ShowId;
+
+/**
+ * Subscriptions of this node to the events of single shows, see {@link ShowEventStreams}.
+ * Each {@link #follow} is to be matched by an {@link #unfollow}.
+ */
+public interface ShowEventSubscriptions {
+
+    ShowEventSubscriptions NONE = new ShowEventSubscriptions() {
+        @Override
+        public void follow(ShowId showId) {
+        }
+
+        @Override
+        public void unfollow(ShowId showId) {
+        }
+    };
+
+    void follow(ShowId showId);
+
+    void unfollow(ShowId showId);
+}
@@ -0,0 +1,31 @@
+package io.github.joamik.cinema.reservation.application;
+
+/**
+ * Latencies along the path of a show request: the ask sent by the show service, the persist of an event by the show entity,
+ * the recovery of a show entity and the processing of events by the projections. Durations are in nanoseconds.
+ */
+public interface ShowMetrics {
+
+    ShowMetrics NONE = new ShowMetrics() {
+    };
+
+    /**
+     * @param request type of the command or query sent to the show entity
+     * @param outcome {@code processed}, {@code rejected}, {@code overloaded}, {@code timeout} or {@code failed}
+     */
+    default void asked(String request, String outcome, long nanos) {
+    }
+
+    /**
+     * From the persist effect to the reply, the event serialized and stored by the journal.
+     * Told apart from the ask, which also spends time in sharding and in the mailbox of the show entity.
+     */
+    default void persisted(String event, long nanos) {
+    }
+
+    default void recovered(boolean succeeded, long nanos) {
+    }
+
+    default void projected(String projectionName, int envelopes, long nanos) {
+    }
+}
@@ -0,0 +1,13 @@
+package io.github.joamik.cinema.reservation.application;
+
+import io.github.joamik.cinema.reservation.domain.ShowId;
+
+/**
+ * A request rejected by {@link ShowAdmission} without being sent to the show entity.
+ */
+public class ShowOverloadedException extends RuntimeException {
+
+    public ShowOverloadedException(ShowId showId) {
+        super(STR."Too many requests in flight to show \{showId.id()}", null, false, false);
+    }
+}
@@ -0,0 +1,18 @@
+package io.github.joamik.cinema.reservation.application;
+
+/**
+ * How show entities persist their state.
+ */
+public enum ShowPersistenceMode {
+
+    /**
+     * Every change is stored as an event, see {@link ShowEntity}. Required by the show view projection.
+     */
+    EVENT_SOURCED,
+
+    /**
+     * Only the latest state of a show is stored, see {@link DurableShowEntity}. No events are written,
+     * so the show view projection is not updated.
+     */
+    DURABLE_STATE
+}
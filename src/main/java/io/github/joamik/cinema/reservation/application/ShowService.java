@@ -1,34 +1,76 @@
 package io.github.joamik.cinema.reservation.application;
 
+import akka.actor.typed.ActorRef;
 import akka.cluster.sharding.typed.javadsl.ClusterSharding;
 import akka.cluster.sharding.typed.javadsl.Entity;
 import akka.cluster.sharding.typed.javadsl.EntityRef;
 import io.github.joamik.cinema.base.domain.Clock;
 import io.github.joamik.cinema.reservation.application.ShowEntityCommand.GetShow;
 import io.github.joamik.cinema.reservation.application.ShowEntityCommand.ShowCommandEnvelope;
+import io.github.joamik.cinema.reservation.application.ShowEntityResponse.CommandProcessed;
+import io.github.joamik.cinema.reservation.application.ShowEntityResponse.CommandRejected;
+import io.github.joamik.cinema.reservation.application.ShowEntityResponse.SeatsAllocated;
+import io.github.joamik.cinema.reservation.domain.SeatLayout;
 import io.github.joamik.cinema.reservation.domain.SeatNumber;
 import io.github.joamik.cinema.reservation.domain.Show;
 import io.github.joamik.cinema.reservation.domain.ShowCommand;
 import io.github.joamik.cinema.reservation.domain.ShowCommand.CancelSeatReservation;
+import io.github.joamik.cinema.reservation.domain.ShowCommand.CancelSeatsReservation;
 import io.github.joamik.cinema.reservation.domain.ShowCommand.CreateShow;
+import io.github.joamik.cinema.reservation.domain.ShowCommand.ReserveBestSeats;
 import io.github.joamik.cinema.reservation.domain.ShowCommand.ReserveSeat;
+import io.github.joamik.cinema.reservation.domain.ShowCommand.ReserveSeats;
 import io.github.joamik.cinema.reservation.domain.ShowId;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeoutException;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
 
 public class ShowService {
 
+    private static final String PROCESSED = "processed";
+
     private final ClusterSharding sharding;
+    private final Clock clock;
     private final ShowServiceProperties properties;
+    private final Duration commandExpiry;
+    private final ShowCache showCache;
+    private final ShowAdmission showAdmission;
+    private final ShowMetrics metrics;
+    private final Map<ShowId, CompletableFuture<ShowSnapshot>> inFlightReads = new ConcurrentHashMap<>();
 
-    public ShowService(ClusterSharding sharding, Clock clock, ShowServiceProperties properties) {
+    /**
+     * @param showCache     snapshots of shows served without asking their entity, {@link ShowCache#disabled()} asks every time
+     * @param showAdmission limits the requests in flight to show entities, rejected ones fail with {@link ShowOverloadedException}
+     * @param metrics       records the latency of the asks and of the show entities started on this node
+     */
+    public ShowService(ClusterSharding sharding, Clock clock, ShowServiceProperties properties, ShowEntityProperties entityProperties,
+                       ShowPersistenceMode persistenceMode, ShowCache showCache, ShowAdmission showAdmission, ShowMetrics metrics) {
         this.sharding = sharding;
+        this.clock = clock;
         this.properties = properties;
+        this.commandExpiry = properties.getAskTimeout().plus(ShowEntityCommand.CLOCK_SKEW_TOLERANCE);
+        this.showCache = showCache;
+        this.showAdmission = showAdmission;
+        this.metrics = metrics;
         sharding.init(Entity.of(ShowEntity.SHOW_ENTITY_TYPE_KEY, entityContext -> {
             var showId = new ShowId(UUID.fromString(entityContext.getEntityId()));
-            return ShowEntity.create(showId, clock);
+            return switch (persistenceMode) {
+                case EVENT_SOURCED -> ShowEntity.create(showId, clock, entityProperties, metrics);
+                case DURABLE_STATE -> DurableShowEntity.create(showId, clock, metrics);
+            };
         }));
     }
 
@@ -36,8 +78,37 @@ public class ShowService {
         return askCommand(new CreateShow(showId, title, maxSeats));
     }
 
+    public CompletionStage<ShowEntityResponse> createShow(ShowId showId, String title, SeatLayout layout) {
+        return askCommand(new CreateShow(showId, title, layout));
+    }
+
     public CompletionStage<Optional<Show>> findShowBy(ShowId showId) {
-        return getShowEntityRef(showId).ask(GetShow::new, properties.getAskTimeout());
+        return findShowBy(showId, 0);
+    }
+
+    /**
+     * Served from the {@link ShowCache} when enabled and the cached show includes the events up to the sequence number,
+     * otherwise the entity is asked for a snapshot, which is cached. Concurrent reads of a show share a single ask,
+     * a read given a sequence number the shared snapshot does not include yet asks again.
+     */
+    public CompletionStage<Optional<Show>> findShowBy(ShowId showId, long minSequenceNr) {
+        var cachedShow = showCache.get(showId, minSequenceNr);
+        if (cachedShow.isPresent()) {
+            return completedFuture(cachedShow);
+        }
+        return readSnapshot(showId)
+                .thenCompose(showSnapshot -> showSnapshot.sequenceNr() >= minSequenceNr
+                        ? completedFuture(showSnapshot)
+                        : readSnapshot(showId))
+                .thenApply(ShowSnapshot::show);
+    }
+
+    /**
+     * Always asks the entity, bypassing the {@link ShowCache}.
+     */
+    public CompletionStage<Optional<Show>> findCurrentShowBy(ShowId showId) {
+        return this.<ShowSnapshot>ask(showId, "GetShow", _ -> PROCESSED, GetShow::new)
+                .thenApply(ShowSnapshot::show);
     }
 
     public CompletionStage<ShowEntityResponse> reserveSeat(ShowId showId, SeatNumber seatNumber) {
@@ -48,9 +119,75 @@ public class ShowService {
         return askCommand(new CancelSeatReservation(showId, seatNumber));
     }
 
+    public CompletionStage<ShowEntityResponse> reserveSeats(ShowId showId, List<SeatNumber> seatNumbers) {
+        return askCommand(new ReserveSeats(showId, seatNumbers));
+    }
+
+    public CompletionStage<ShowEntityResponse> cancelReservations(ShowId showId, List<SeatNumber> seatNumbers) {
+        return askCommand(new CancelSeatsReservation(showId, seatNumbers));
+    }
+
+    public CompletionStage<ShowEntityResponse> reserveBestSeats(ShowId showId, int count) {
+        return askCommand(new ReserveBestSeats(showId, count));
+    }
+
     private CompletionStage<ShowEntityResponse> askCommand(ShowCommand showCommand) {
-        return getShowEntityRef(showCommand.showId())
-                .ask(replyTo -> new ShowCommandEnvelope(showCommand, replyTo), properties.getAskTimeout());
+        return ask(showCommand.showId(), showCommand.getClass().getSimpleName(), ShowService::outcomeOf,
+                (deadline, replyTo) -> new ShowCommandEnvelope(showCommand, deadline, replyTo));
+    }
+
+    /**
+     * Admitted asks are timed from admission to the reply, rejected ones are recorded as {@code overloaded}.
+     * The command carries the deadline of the ask, so the entity drops it once the ask has timed out,
+     * allowing for the clock skew between this node and the one hosting the entity.
+     */
+    private <T> CompletionStage<T> ask(ShowId showId, String request, Function<T, String> outcome,
+                                       BiFunction<Instant, ActorRef<T>, ShowEntityCommand> message) {
+        long askedAt = System.nanoTime();
+        return showAdmission.admit(showId, () -> {
+                    var deadline = clock.now().plus(commandExpiry);
+                    return getShowEntityRef(showId).<T>ask(replyTo -> message.apply(deadline, replyTo), properties.getAskTimeout());
+                })
+                .whenComplete((response, failure) -> metrics.asked(request,
+                        failure == null ? outcome.apply(response) : outcomeOf(failure), System.nanoTime() - askedAt));
+    }
+
+    private static String outcomeOf(ShowEntityResponse response) {
+        return switch (response) {
+            case CommandProcessed _, SeatsAllocated _ -> PROCESSED;
+            case CommandRejected _ -> "rejected";
+        };
+    }
+
+    private static String outcomeOf(Throwable failure) {
+        return switch (failure instanceof CompletionException ? failure.getCause() : failure) {
+            case ShowOverloadedException _ -> "overloaded";
+            case TimeoutException _ -> "timeout";
+            default -> "failed";
+        };
+    }
+
+    private CompletionStage<ShowSnapshot> readSnapshot(ShowId showId) {
+        var read = new CompletableFuture<ShowSnapshot>();
+        var inFlightRead = inFlightReads.putIfAbsent(showId, read);
+        if (inFlightRead != null) {
+            return inFlightRead.minimalCompletionStage();
+        }
+        if (showCache.isEnabled()) {
+            showCache.loading(showId);
+        }
+        this.<ShowSnapshot>ask(showId, "GetShow", _ -> PROCESSED, GetShow::new)
+                .whenComplete((showSnapshot, failure) -> {
+                    inFlightReads.remove(showId, read);
+                    if (failure == null) {
+                        showCache.loaded(showId, showSnapshot);
+                        read.complete(showSnapshot);
+                    } else {
+                        showCache.failed(showId);
+                        read.completeExceptionally(failure);
+                    }
+                });
+        return read.minimalCompletionStage();
     }
 
     private EntityRef<ShowEntityCommand> getShowEntityRef(ShowId showId) {
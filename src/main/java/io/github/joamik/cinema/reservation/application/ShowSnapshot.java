@@ -0,0 +1,14 @@
+package io.github.joamik.cinema.reservation.application;
+
+import io.github.joamik.cinema.reservation.domain.Show;
+
+import java.io.Serializable;
+import java.util.Optional;
+
+/**
+ * State of a show entity with the sequence number it has been persisted with, the reply to
+ * {@link ShowEntityCommand.GetShow}.
+ */
+public record ShowSnapshot(Optional<Show> show, long sequenceNr) implements Serializable {
+
+}
@@ -6,10 +6,13 @@ import akka.projection.jdbc.JdbcSession;
 import javax.sql.DataSource;
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
 
 public class DataSourceJdbcSession implements JdbcSession {
 
     private final Connection connection;
+    private final List<Runnable> afterCommit = new ArrayList<>();
 
     public DataSourceJdbcSession(DataSource dataSource) {
         try {
@@ -25,13 +28,23 @@ public class DataSourceJdbcSession implements JdbcSession {
         return func.apply(connection);
     }
 
+    /**
+     * @param callback run once the transaction has committed, dropped when it is rolled back
+     */
+    public void afterCommit(Runnable callback) {
+        afterCommit.add(callback);
+    }
+
     @Override
     public void commit() throws SQLException {
         connection.commit();
+        afterCommit.forEach(Runnable::run);
+        afterCommit.clear();
     }
 
     @Override
     public void rollback() throws SQLException {
+        afterCommit.clear();
         connection.rollback();
     }
 
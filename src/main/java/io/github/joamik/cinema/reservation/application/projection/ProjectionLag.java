@@ -0,0 +1,21 @@
+package io.github.joamik.cinema.reservation.application.projection;
+
+import akka.projection.ProjectionId;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * @param offset ordering of the last event stored as processed by the projection
+ * @param latestOrdering ordering of the latest event with the tag consumed by the projection
+ * @param lag events with the tag not processed yet
+ * @param eventsPerSecond events processed per second since the previous check
+ * @param lastProgressAt when the stored offset was last seen moving
+ */
+public record ProjectionLag(ProjectionId projectionId, long offset, long latestOrdering, long lag, double eventsPerSecond,
+                            Instant lastProgressAt, Instant checkedAt) {
+
+    public Duration sinceLastProgress() {
+        return Duration.between(lastProgressAt, checkedAt);
+    }
+}
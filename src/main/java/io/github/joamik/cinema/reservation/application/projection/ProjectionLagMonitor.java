@@ -0,0 +1,124 @@
+package io.github.joamik.cinema.reservation.application.projection;
+
+import akka.actor.typed.ActorSystem;
+import akka.projection.ProjectionId;
+import io.github.joamik.cinema.base.domain.Clock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+
+/**
+ * Periodically compares the offset stored by each projection with the latest event of the tag it consumes.
+ * The projections are checked from every node, wherever in the cluster they run, and a projection whose check
+ * fails has no lag until the next successful check.
+ */
+public class ProjectionLagMonitor {
+
+    private final Logger log = LoggerFactory.getLogger(getClass());
+
+    private final ActorSystem<?> system;
+    private final List<ProjectionId> projectionIds;
+    private final ProjectionPositions positions;
+    private final Clock clock;
+    private final Duration checkInterval;
+    private final Map<ProjectionId, ProjectionLag> lags = new ConcurrentHashMap<>();
+    private final AtomicBoolean checking = new AtomicBoolean();
+
+    /**
+     * @param projectionIds projections to check, the key of each is the event tag it consumes
+     */
+    public ProjectionLagMonitor(ActorSystem<?> system, List<ProjectionId> projectionIds, ProjectionPositions positions, Clock clock,
+                                Duration checkInterval) {
+        this.system = system;
+        this.projectionIds = List.copyOf(projectionIds);
+        this.positions = positions;
+        this.clock = clock;
+        this.checkInterval = checkInterval;
+    }
+
+    public void start() {
+        log.info("Checking lag of {} projections every {}", projectionIds.size(), checkInterval);
+        system.scheduler().scheduleAtFixedRate(checkInterval, checkInterval, this::check, system.executionContext());
+    }
+
+    public List<ProjectionId> projectionIds() {
+        return projectionIds;
+    }
+
+    public Optional<ProjectionLag> lag(ProjectionId projectionId) {
+        return Optional.ofNullable(lags.get(projectionId));
+    }
+
+    /**
+     * Lags of the last check, in the order of the projection ids.
+     */
+    public List<ProjectionLag> lags() {
+        return projectionIds.stream()
+                .map(lags::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    /**
+     * Checks all projections, skipped while the previous check is still running.
+     */
+    CompletionStage<List<ProjectionLag>> check() {
+        if (!checking.compareAndSet(false, true)) {
+            return completedFuture(lags());
+        }
+        var checkedAt = clock.now();
+        var checks = projectionIds.stream()
+                .map(projectionId -> check(projectionId, checkedAt).toCompletableFuture())
+                .toArray(CompletableFuture[]::new);
+        return CompletableFuture.allOf(checks)
+                .handle((_, _) -> {
+                    checking.set(false);
+                    return lags();
+                });
+    }
+
+    private CompletionStage<ProjectionLag> check(ProjectionId projectionId, Instant checkedAt) {
+        var tag = projectionId.key();
+        var previous = lags.get(projectionId);
+        return positions.storedOffset(projectionId)
+                .thenCombine(positions.latestOrdering(tag), (storedOffset, latestOrdering) -> {
+                    long offset = storedOffset.orElse(0L);
+                    var lag = offset < latestOrdering ? positions.countEvents(tag, offset, latestOrdering) : completedFuture(0L);
+                    var processed = previous != null && offset > previous.offset()
+                            ? positions.countEvents(tag, previous.offset(), offset)
+                            : completedFuture(0L);
+                    return lag.thenCombine(processed, (events, processedEvents) -> new ProjectionLag(projectionId, offset, latestOrdering,
+                            events, eventsPerSecond(previous, processedEvents, checkedAt),
+                            previous == null || previous.offset() != offset ? checkedAt : previous.lastProgressAt(), checkedAt));
+                })
+                .thenCompose(lag -> lag)
+                .whenComplete((lag, failure) -> {
+                    if (failure != null) {
+                        log.warn("Checking lag of projection {} failed", projectionId.id(), failure);
+                        lags.remove(projectionId);
+                    } else {
+                        lags.put(projectionId, lag);
+                    }
+                });
+    }
+
+    private static double eventsPerSecond(ProjectionLag previous, long processedEvents, Instant checkedAt) {
+        if (previous == null) {
+            return 0;
+        }
+        long elapsedMillis = Duration.between(previous.checkedAt(), checkedAt).toMillis();
+        return elapsedMillis > 0 ? processedEvents * 1000d / elapsedMillis : 0;
+    }
+}
@@ -1,12 +1,8 @@
 package io.github.joamik.cinema.reservation.application.projection;
 
-import akka.Done;
-import akka.actor.CoordinatedShutdown;
-import akka.actor.typed.ActorRef;
 import akka.actor.typed.ActorSystem;
-import akka.actor.typed.Props;
-import akka.actor.typed.SpawnProtocol;
-import akka.actor.typed.javadsl.AskPattern;
+import akka.cluster.sharding.typed.ShardedDaemonProcessSettings;
+import akka.cluster.sharding.typed.javadsl.ShardedDaemonProcess;
 import akka.cluster.typed.ClusterSingleton;
 import akka.cluster.typed.SingletonActor;
 import akka.projection.Projection;
@@ -17,24 +13,20 @@ import io.github.joamik.cinema.reservation.domain.ShowEvent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.time.Duration;
 import java.util.List;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.CompletionStage;
-import java.util.concurrent.ExecutionException;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 public class ProjectionLauncher {
 
     private final Logger log = LoggerFactory.getLogger(getClass());
 
-    private final ActorSystem<SpawnProtocol.Command> system;
-    private final Duration timeout = Duration.ofSeconds(3);
+    private final ActorSystem<?> system;
 
     private List<Projection<EventEnvelope<ShowEvent>>> singletonProjections = List.of();
-    private List<Projection<EventEnvelope<ShowEvent>>> localProjections = List.of();
-    private List<Tuple<ProjectionId, ActorRef<ProjectionBehavior.Command>>> localProjectionRefs = List.of();
+    private List<List<Projection<EventEnvelope<ShowEvent>>>> shardedProjections = List.of();
 
-    public ProjectionLauncher(ActorSystem<SpawnProtocol.Command> system) {
+    public ProjectionLauncher(ActorSystem<?> system) {
         this.system = system;
     }
 
@@ -43,43 +35,27 @@ public class ProjectionLauncher {
         return this;
     }
 
-    public ProjectionLauncher withLocalProjections(Projection<EventEnvelope<ShowEvent>>... localProjections) {
-        this.localProjections = List.of(localProjections);
+    /**
+     * Projections of the same name, e.g. one per event tag slice, run as a sharded daemon process
+     * so they are spread over the cluster nodes. Called once per projection name, each gets its own daemon process.
+     */
+    public ProjectionLauncher withShardedProjections(List<Projection<EventEnvelope<ShowEvent>>> shardedProjections) {
+        this.shardedProjections = Stream.concat(this.shardedProjections.stream(), Stream.of(List.copyOf(shardedProjections))).toList();
         return this;
     }
 
-    public void runProjections() {
-        runSingletonProjections();
-        runLocalProjections();
-        CoordinatedShutdown.get(system).addTask(CoordinatedShutdown.PhaseBeforeActorSystemTerminate(),
-                "shutdown projections", () -> {
-                    log.info("Projection shutting down started");
-                    shutdownProjections();
-                    log.info("Projection shutting down finished");
-                    return CompletableFuture.completedFuture(Done.getInstance());
-                });
+    /**
+     * Ids of all projections launched, wherever in the cluster they run.
+     */
+    public List<ProjectionId> projectionIds() {
+        return Stream.concat(singletonProjections.stream(), shardedProjections.stream().flatMap(List::stream))
+                .map(Projection::projectionId)
+                .toList();
     }
 
-    private void runLocalProjections() {
-        localProjectionRefs = localProjections.stream().map(projection -> {
-            var projectionId = projection.projectionId();
-            log.info("Starting local projection {}", projectionId);
-            CompletionStage<ActorRef<ProjectionBehavior.Command>> result = AskPattern.ask(system,
-                    r -> new SpawnProtocol.Spawn<>(ProjectionBehavior.create(projection),
-                            projectionId.id(), Props.empty(), r), timeout, system.scheduler());
-
-            try {
-                return result.thenApply(ref -> {
-                    log.debug("Projection: {} launched", projectionId);
-                    return new Tuple<>(projectionId, ref);
-                }).toCompletableFuture().get();
-            } catch (ExecutionException e) {
-                throw new IllegalStateException(STR."Error while creating projection \{projectionId}", e);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                throw new IllegalStateException(STR."Error while creating projection \{projectionId}", e);
-            }
-        }).toList();
+    public void runProjections() {
+        runSingletonProjections();
+        shardedProjections.forEach(this::runShardedProjections);
     }
 
     private void runSingletonProjections() {
@@ -90,13 +66,18 @@ public class ProjectionLauncher {
         });
     }
 
-    public void shutdownProjections() {
-        log.info("Shutting down {} local projections", localProjections.size());
-        localProjectionRefs.forEach(tuple -> {
-            log.info("Shutting down projection {}", tuple.first);
-            tuple.second.tell(ProjectionBehavior.stopMessage());
-        });
+    private void runShardedProjections(List<Projection<EventEnvelope<ShowEvent>>> shardedProjections) {
+        if (shardedProjections.isEmpty()) {
+            return;
+        }
+        var name = shardedProjections.getFirst().projectionId().name();
+        log.info("Starting {} sharded projections {}", shardedProjections.size(), name);
+        ShardedDaemonProcess.get(system).init(
+                ProjectionBehavior.Command.class,
+                name,
+                shardedProjections.size(),
+                index -> ProjectionBehavior.create(shardedProjections.get(index)),
+                ShardedDaemonProcessSettings.create(system),
+                Optional.of(ProjectionBehavior.stopMessage()));
     }
-
-    public record Tuple<T1, T2>(T1 first, T2 second) {}
 }
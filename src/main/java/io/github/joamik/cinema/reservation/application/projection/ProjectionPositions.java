@@ -0,0 +1,32 @@
+package io.github.joamik.cinema.reservation.application.projection;
+
+import akka.projection.ProjectionId;
+
+import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Positions in the event journal, of the latest tagged events and of the offsets stored by the projections.
+ */
+public interface ProjectionPositions {
+
+    /**
+     * @return ordering of the latest event with the tag, {@code 0} when there is none
+     */
+    CompletionStage<Long> latestOrdering(String tag);
+
+    /**
+     * @return number of events with the tag ordered after {@code afterOrdering} up to {@code toOrdering}
+     */
+    CompletionStage<Long> countEvents(String tag, long afterOrdering, long toOrdering);
+
+    /**
+     * @return ordering of the last event stored as processed, empty before the first offset is saved
+     */
+    CompletionStage<Optional<Long>> storedOffset(ProjectionId projectionId);
+
+    /**
+     * @return ordering of the event of the entity with the sequence number, empty when it is not in the journal
+     */
+    CompletionStage<Optional<Long>> ordering(String persistenceId, long sequenceNr);
+}
@@ -0,0 +1,201 @@
+package io.github.joamik.cinema.reservation.application.projection;
+
+import akka.projection.HandlerRecoveryStrategy;
+import akka.projection.ProjectionId;
+import akka.projection.StatusObserver;
+import akka.projection.eventsourced.EventEnvelope;
+import io.github.joamik.cinema.base.domain.Clock;
+import io.github.joamik.cinema.reservation.application.ShowEntity;
+import io.github.joamik.cinema.reservation.domain.ShowEvent;
+import io.github.joamik.cinema.reservation.domain.ShowId;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.concurrent.CompletableFuture.delayedExecutor;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * Sequence number of each show processed by the projections, so a read can wait for the events it has written.
+ * Observes the projections running on this node, their waiters are completed as the envelopes are processed.
+ * A read of a show projected by another node polls the offset stored by its projection instead,
+ * until it reaches the journal ordering of the awaited event. So does a read of a show without progress on this node,
+ * processed before the projection started here, or evicted: the progress of at most {@code capacity} shows is kept,
+ * the least recently processed or awaited ones are dropped first.
+ */
+public class ProjectionProgress extends StatusObserver<EventEnvelope<ShowEvent>> {
+
+    static final Duration OFFSET_POLL_INTERVAL = Duration.ofMillis(100);
+
+    private final Duration awaitTimeout;
+    private final int eventTagSlices;
+    private final ProjectionPositions projectionPositions;
+    private final Clock clock;
+    private final Set<ProjectionId> running = ConcurrentHashMap.newKeySet();
+    private final Map<Key, Long> sequenceNrByKey;
+    private final Map<Key, PriorityQueue<Waiter>> waitersByKey = new ConcurrentHashMap<>();
+
+    /**
+     * @param awaitTimeout   how long a read waits for a projection before it is served anyway
+     * @param eventTagSlices number of event tag slices, one projection of each kind per slice
+     * @param capacity       maximum number of shows whose progress is kept
+     */
+    public ProjectionProgress(Duration awaitTimeout, int eventTagSlices, int capacity, ProjectionPositions projectionPositions,
+                              Clock clock) {
+        this.awaitTimeout = awaitTimeout;
+        this.eventTagSlices = eventTagSlices;
+        this.projectionPositions = projectionPositions;
+        this.clock = clock;
+        this.sequenceNrByKey = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Long> eldest) {
+                return size() > capacity;
+            }
+        });
+    }
+
+    /**
+     * @return {@code true} once the projection has processed the show up to the sequence number,
+     * {@code false} if it has not within the await timeout
+     */
+    public CompletionStage<Boolean> awaitAtLeast(String projectionName, ShowId showId, long sequenceNr) {
+        var projectionId = projectionId(projectionName, showId);
+        if (!running.contains(projectionId)) {
+            return awaitStoredOffset(projectionId, showId, sequenceNr);
+        }
+        var key = new Key(projectionName, showId);
+        var processed = sequenceNrByKey.get(key);
+        if (processed != null && processed >= sequenceNr) {
+            return completedFuture(true);
+        }
+        var caughtUp = new CompletableFuture<Boolean>();
+        var waiter = new Waiter(sequenceNr, caughtUp);
+        waitersByKey.compute(key, (_, waiters) -> {
+            if (reached(key, sequenceNr)) {
+                caughtUp.complete(true);
+                return waiters;
+            }
+            var queue = waiters == null ? new PriorityQueue<>(Comparator.comparingLong(Waiter::sequenceNr)) : waiters;
+            queue.add(waiter);
+            return queue;
+        });
+        if (processed == null) {
+            awaitStoredOffset(projectionId, showId, sequenceNr).thenAccept(stored -> {
+                if (stored) {
+                    caughtUp.complete(true);
+                }
+            });
+        }
+        caughtUp.completeOnTimeout(false, awaitTimeout.toMillis(), MILLISECONDS)
+                .thenRun(() -> waitersByKey.computeIfPresent(key, (_, waiters) -> {
+                    waiters.remove(waiter);
+                    return waiters.isEmpty() ? null : waiters;
+                }));
+        return caughtUp;
+    }
+
+    void processed(String projectionName, ShowId showId, long sequenceNr) {
+        var key = new Key(projectionName, showId);
+        var processed = sequenceNrByKey.merge(key, sequenceNr, Math::max);
+        List<Waiter> caughtUp = new ArrayList<>();
+        waitersByKey.computeIfPresent(key, (_, waiters) -> {
+            while (!waiters.isEmpty() && waiters.peek().sequenceNr() <= processed) {
+                caughtUp.add(waiters.poll());
+            }
+            return waiters.isEmpty() ? null : waiters;
+        });
+        caughtUp.forEach(waiter -> waiter.caughtUp().complete(true));
+    }
+
+    private boolean reached(Key key, long sequenceNr) {
+        var processed = sequenceNrByKey.get(key);
+        return processed != null && processed >= sequenceNr;
+    }
+
+    private ProjectionId projectionId(String projectionName, ShowId showId) {
+        return ProjectionId.of(projectionName, ShowEntity.eventTag(ShowEntity.sliceOf(showId, eventTagSlices)));
+    }
+
+    private CompletionStage<Boolean> awaitStoredOffset(ProjectionId projectionId, ShowId showId, long sequenceNr) {
+        var deadline = clock.now().plus(awaitTimeout);
+        return projectionPositions.ordering(ShowEntity.persistenceId(showId).id(), sequenceNr)
+                .thenCompose(ordering -> ordering.isPresent()
+                        ? pollStoredOffset(projectionId, ordering.get(), deadline)
+                        : completedFuture(false))
+                .exceptionally(_ -> false);
+    }
+
+    private CompletionStage<Boolean> pollStoredOffset(ProjectionId projectionId, long ordering, Instant deadline) {
+        return projectionPositions.storedOffset(projectionId)
+                .thenCompose(offset -> {
+                    if (offset.orElse(0L) >= ordering) {
+                        return completedFuture(true);
+                    }
+                    if (clock.now().plus(OFFSET_POLL_INTERVAL).isAfter(deadline)) {
+                        return completedFuture(false);
+                    }
+                    return CompletableFuture.runAsync(() -> {
+                            }, delayedExecutor(OFFSET_POLL_INTERVAL.toMillis(), MILLISECONDS))
+                            .thenCompose(_ -> pollStoredOffset(projectionId, ordering, deadline));
+                });
+    }
+
+    @Override
+    public void afterProcess(ProjectionId projectionId, EventEnvelope<ShowEvent> showEventEnvelope) {
+        processed(projectionId.name(), showEventEnvelope.event().showId(), showEventEnvelope.sequenceNr());
+    }
+
+    /**
+     * Progress recorded before the projection last ran on this node may have been passed on another node, it is dropped.
+     */
+    @Override
+    public void started(ProjectionId projectionId) {
+        synchronized (sequenceNrByKey) {
+            sequenceNrByKey.keySet().removeIf(key -> projectionId(key.projectionName(), key.showId()).equals(projectionId));
+        }
+        running.add(projectionId);
+    }
+
+    @Override
+    public void failed(ProjectionId projectionId, Throwable cause) {
+        running.remove(projectionId);
+    }
+
+    @Override
+    public void stopped(ProjectionId projectionId) {
+        running.remove(projectionId);
+    }
+
+    @Override
+    public void beforeProcess(ProjectionId projectionId, EventEnvelope<ShowEvent> showEventEnvelope) {
+    }
+
+    @Override
+    public void offsetProgress(ProjectionId projectionId, EventEnvelope<ShowEvent> showEventEnvelope) {
+    }
+
+    @Override
+    public void error(ProjectionId projectionId, EventEnvelope<ShowEvent> showEventEnvelope, Throwable cause,
+                      HandlerRecoveryStrategy recoveryStrategy) {
+    }
+
+    private record Key(String projectionName, ShowId showId) {
+
+    }
+
+    private record Waiter(long sequenceNr, CompletableFuture<Boolean> caughtUp) {
+
+    }
+}
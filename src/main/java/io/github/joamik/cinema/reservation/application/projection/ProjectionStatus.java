@@ -0,0 +1,10 @@
+package io.github.joamik.cinema.reservation.application.projection;
+
+import java.util.Optional;
+
+/**
+ * @param offset journal ordering of the last event stored as processed, empty before the first offset is saved
+ */
+public record ProjectionStatus(String key, boolean paused, Optional<Long> offset) {
+
+}
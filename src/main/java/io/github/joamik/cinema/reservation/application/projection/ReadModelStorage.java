@@ -0,0 +1,18 @@
+package io.github.joamik.cinema.reservation.application.projection;
+
+/**
+ * Where a read model projection, the show view or the seat map, keeps its state.
+ */
+public enum ReadModelStorage {
+
+    /**
+     * Kept in memory only, lost on restart while the projection offsets are not, updated at least once.
+     */
+    IN_MEMORY,
+
+    /**
+     * Kept in a table, {@code show_view} or {@code show_seat_map}, updated exactly once together with the projection offsets.
+     * The seat map is served from memory, backed by its table.
+     */
+    JDBC
+}
@@ -0,0 +1,23 @@
+package io.github.joamik.cinema.reservation.application.projection;
+
+import akka.Done;
+import akka.projection.eventsourced.EventEnvelope;
+import akka.projection.javadsl.Handler;
+import io.github.joamik.cinema.reservation.domain.ShowEvent;
+
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+
+public class SeatMapEventHandler extends Handler<List<EventEnvelope<ShowEvent>>> {
+
+    private final SeatMapRepository seatMapRepository;
+
+    public SeatMapEventHandler(SeatMapRepository seatMapRepository) {
+        this.seatMapRepository = seatMapRepository;
+    }
+
+    @Override
+    public CompletionStage<Done> process(List<EventEnvelope<ShowEvent>> showEventEnvelopes) throws Exception {
+        return seatMapRepository.apply(showEventEnvelopes.stream().map(EventEnvelope::event).toList());
+    }
+}
@@ -0,0 +1,25 @@
+package io.github.joamik.cinema.reservation.application.projection;
+
+import akka.projection.eventsourced.EventEnvelope;
+import akka.projection.jdbc.javadsl.JdbcHandler;
+import io.github.joamik.cinema.reservation.domain.ShowEvent;
+
+import java.util.List;
+
+/**
+ * Applies a group of envelopes within the projection's transaction, the repository keeps the result once it commits.
+ */
+public class SeatMapJdbcEventHandler extends JdbcHandler<List<EventEnvelope<ShowEvent>>, DataSourceJdbcSession> {
+
+    private final TransactionalSeatMapRepository seatMapRepository;
+
+    public SeatMapJdbcEventHandler(TransactionalSeatMapRepository seatMapRepository) {
+        this.seatMapRepository = seatMapRepository;
+    }
+
+    @Override
+    public void process(DataSourceJdbcSession session, List<EventEnvelope<ShowEvent>> showEventEnvelopes) throws Exception {
+        var showEvents = showEventEnvelopes.stream().map(EventEnvelope::event).toList();
+        session.afterCommit(session.withConnection(connection -> seatMapRepository.apply(connection, showEvents)));
+    }
+}
@@ -0,0 +1,75 @@
+package io.github.joamik.cinema.reservation.application.projection;
+
+import akka.actor.typed.ActorSystem;
+import akka.persistence.query.Offset;
+import akka.projection.Projection;
+import akka.projection.ProjectionId;
+import akka.projection.eventsourced.EventEnvelope;
+import akka.projection.javadsl.SourceProvider;
+import akka.projection.jdbc.javadsl.JdbcProjection;
+import io.github.joamik.cinema.reservation.domain.ShowEvent;
+
+import javax.sql.DataSource;
+
+import java.time.Duration;
+
+import static akka.projection.HandlerRecoveryStrategy.retryAndFail;
+import static java.time.Duration.ofSeconds;
+
+/**
+ * Projects show events to the {@link SeatMapRepository}, in groups, so the seat map of a show is read and written
+ * once per group no matter how many of its seats changed.
+ */
+public class SeatMapProjection {
+
+    public static final String PROJECTION_NAME = "seat-map";
+
+    private final SeatMapRepository seatMapRepository;
+    private final ActorSystem<?> actorSystem;
+    private final DataSource dataSource;
+    private final ProjectionProgress projectionProgress;
+
+    private final int groupAfterEnvelopes = 100;
+    private final Duration groupAfterDuration = Duration.ofMillis(500);
+
+    public SeatMapProjection(SeatMapRepository seatMapRepository, ActorSystem<?> actorSystem, DataSource dataSource,
+                             ProjectionProgress projectionProgress) {
+        this.seatMapRepository = seatMapRepository;
+        this.actorSystem = actorSystem;
+        this.dataSource = dataSource;
+        this.projectionProgress = projectionProgress;
+    }
+
+    /**
+     * A {@link TransactionalSeatMapRepository} is updated exactly once, in the transaction storing the offset,
+     * other repositories at least once.
+     *
+     * @param tag event tag consumed by the projection, also the key its offset is stored under
+     */
+    public Projection<EventEnvelope<ShowEvent>> create(String tag, SourceProvider<Offset, EventEnvelope<ShowEvent>> sourceProvider) {
+        if (seatMapRepository instanceof TransactionalSeatMapRepository transactionalSeatMapRepository) {
+            var seatMapJdbcEventHandler = new SeatMapJdbcEventHandler(transactionalSeatMapRepository);
+            return JdbcProjection.groupedWithin(
+                            ProjectionId.of(PROJECTION_NAME, tag),
+                            sourceProvider,
+                            () -> new DataSourceJdbcSession(dataSource),
+                            () -> seatMapJdbcEventHandler,
+                            actorSystem)
+                    .withGroup(groupAfterEnvelopes, groupAfterDuration)
+                    .withRecoveryStrategy(retryAndFail(4, ofSeconds(5)))
+                    .withRestartBackoff(ofSeconds(3), ofSeconds(30), 0.1d)
+                    .withStatusObserver(projectionProgress);
+        }
+        var seatMapEventHandler = new SeatMapEventHandler(seatMapRepository);
+        return JdbcProjection.groupedWithinAsync(
+                        ProjectionId.of(PROJECTION_NAME, tag),
+                        sourceProvider,
+                        () -> new DataSourceJdbcSession(dataSource),
+                        () -> seatMapEventHandler,
+                        actorSystem)
+                .withGroup(groupAfterEnvelopes, groupAfterDuration)
+                .withRecoveryStrategy(retryAndFail(4, ofSeconds(5)))
+                .withRestartBackoff(ofSeconds(3), ofSeconds(30), 0.1d)
+                .withStatusObserver(projectionProgress);
+    }
+}
@@ -0,0 +1,30 @@
+package io.github.joamik.cinema.reservation.application.projection;
+
+import akka.Done;
+import io.github.joamik.cinema.reservation.domain.Show;
+import io.github.joamik.cinema.reservation.domain.ShowEvent;
+import io.github.joamik.cinema.reservation.domain.ShowId;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Seat status of every show as projected from its events, read without waking up the show entity.
+ */
+public interface SeatMapRepository {
+
+    CompletionStage<Optional<Show>> findBy(ShowId showId);
+
+    /**
+     * Reads the seat map as last stored, for a read that has waited for the projection.
+     */
+    default CompletionStage<Optional<Show>> findLatestBy(ShowId showId) {
+        return findBy(showId);
+    }
+
+    /**
+     * Applies the events in order, see {@link SeatMapUpdate#applyTo(Optional)}.
+     */
+    CompletionStage<Done> apply(List<ShowEvent> showEvents);
+}
@@ -0,0 +1,50 @@
+package io.github.joamik.cinema.reservation.application.projection;
+
+import io.github.joamik.cinema.reservation.domain.Show;
+import io.github.joamik.cinema.reservation.domain.ShowEvent;
+import io.github.joamik.cinema.reservation.domain.ShowEvent.ShowCreated;
+import io.github.joamik.cinema.reservation.domain.ShowId;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Events of a single show, applied to its seat map at once.
+ */
+public record SeatMapUpdate(ShowId showId, List<ShowEvent> showEvents) {
+
+    public SeatMapUpdate {
+        showEvents = List.copyOf(showEvents);
+    }
+
+    /**
+     * Splits the events per show, in the order shows first appear, keeping the order of the events of a show.
+     */
+    public static List<SeatMapUpdate> group(List<ShowEvent> showEvents) {
+        Map<ShowId, List<ShowEvent>> eventsByShow = new LinkedHashMap<>();
+        for (var showEvent : showEvents) {
+            eventsByShow.computeIfAbsent(showEvent.showId(), _ -> new ArrayList<>()).add(showEvent);
+        }
+        return eventsByShow.entrySet().stream()
+                .map(showEventsOfShow -> new SeatMapUpdate(showEventsOfShow.getKey(), showEventsOfShow.getValue()))
+                .toList();
+    }
+
+    /**
+     * A show created again, when its events are delivered once more, is kept as it is,
+     * events of a show that was never created are skipped.
+     */
+    public Optional<Show> applyTo(Optional<Show> seatMap) {
+        var show = seatMap;
+        for (var showEvent : showEvents) {
+            show = switch (showEvent) {
+                case ShowCreated showCreated -> show.or(() -> Optional.of(Show.create(showCreated)));
+                default -> show.map(existing -> existing.apply(showEvent));
+            };
+        }
+        return show;
+    }
+}
@@ -0,0 +1,84 @@
+package io.github.joamik.cinema.reservation.application.projection;
+
+import akka.actor.typed.ActorSystem;
+import akka.persistence.query.Offset;
+import akka.persistence.query.Sequence;
+import akka.projection.ProjectionId;
+import akka.projection.javadsl.ProjectionManagement;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Pauses, resumes and moves the offsets of the slices of a show events projection, like the show view or the seat map,
+ * wherever in the cluster they run. Pause flags and offsets are stored in the projection management and offset store tables,
+ * so they survive restarts and rebalancing.
+ */
+public class ShowProjectionManagement {
+
+    private final ProjectionManagement projectionManagement;
+    private final String projectionName;
+    private final List<String> keys;
+
+    /**
+     * @param keys keys of the running projections, one per event tag slice
+     */
+    public ShowProjectionManagement(ActorSystem<?> system, String projectionName, List<String> keys) {
+        this.projectionManagement = ProjectionManagement.get(system);
+        this.projectionName = projectionName;
+        this.keys = List.copyOf(keys);
+    }
+
+    public String projectionName() {
+        return projectionName;
+    }
+
+    public List<String> keys() {
+        return keys;
+    }
+
+    public boolean exists(String key) {
+        return keys.contains(key);
+    }
+
+    public CompletionStage<ProjectionStatus> status(String key) {
+        var projectionId = projectionId(key);
+        return projectionManagement.isPaused(projectionId)
+                .thenCombine(projectionManagement.<Offset>getOffset(projectionId),
+                        (paused, offset) -> new ProjectionStatus(key, paused, offset.flatMap(ShowProjectionManagement::toOrdering)));
+    }
+
+    public CompletionStage<ProjectionStatus> pause(String key) {
+        return projectionManagement.pause(projectionId(key)).thenCompose(_ -> status(key));
+    }
+
+    public CompletionStage<ProjectionStatus> resume(String key) {
+        return projectionManagement.resume(projectionId(key)).thenCompose(_ -> status(key));
+    }
+
+    /**
+     * Continues the projection after the event with the given journal ordering, events up to it are skipped or processed again.
+     */
+    public CompletionStage<ProjectionStatus> updateOffset(String key, long ordering) {
+        return projectionManagement.updateOffset(projectionId(key), Offset.sequence(ordering)).thenCompose(_ -> status(key));
+    }
+
+    /**
+     * Rebuilds the slice of the read model, the projection starts again from the first event of its tag.
+     */
+    public CompletionStage<ProjectionStatus> clearOffset(String key) {
+        return projectionManagement.clearOffset(projectionId(key)).thenCompose(_ -> status(key));
+    }
+
+    private ProjectionId projectionId(String key) {
+        if (!exists(key)) {
+            throw new IllegalArgumentException(STR."Unknown \{projectionName} projection \{key}");
+        }
+        return ProjectionId.of(projectionName, key);
+    }
+
+    private static Optional<Long> toOrdering(Offset offset) {
+        return offset instanceof Sequence sequence ? Optional.of(sequence.value()) : Optional.empty();
+    }
+}
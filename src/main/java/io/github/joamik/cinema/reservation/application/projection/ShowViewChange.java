@@ -0,0 +1,54 @@
+package io.github.joamik.cinema.reservation.application.projection;
+
+import io.github.joamik.cinema.reservation.domain.ShowEvent;
+import io.github.joamik.cinema.reservation.domain.ShowEvent.SeatReservationCancelled;
+import io.github.joamik.cinema.reservation.domain.ShowEvent.SeatReserved;
+import io.github.joamik.cinema.reservation.domain.ShowEvent.SeatsReservationCancelled;
+import io.github.joamik.cinema.reservation.domain.ShowEvent.SeatsReserved;
+import io.github.joamik.cinema.reservation.domain.ShowEvent.ShowCreated;
+import io.github.joamik.cinema.reservation.domain.ShowId;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Net change of a show view caused by a sequence of events.
+ *
+ * @param created           whether the show was created by the events, with {@code capacity} seats
+ * @param availabilityDelta sum of cancelled minus reserved seats
+ */
+public record ShowViewChange(ShowId showId, boolean created, int capacity, int availabilityDelta) {
+
+    /**
+     * Sums up the events per show, in the order shows first appear.
+     */
+    public static List<ShowViewChange> coalesce(List<ShowEvent> showEvents) {
+        Map<ShowId, ShowViewChange> changes = new LinkedHashMap<>();
+        for (var showEvent : showEvents) {
+            changes.merge(showEvent.showId(), of(showEvent), ShowViewChange::merge);
+        }
+        return List.copyOf(changes.values());
+    }
+
+    private static ShowViewChange of(ShowEvent showEvent) {
+        return switch (showEvent) {
+            case ShowCreated showCreated ->
+                    new ShowViewChange(showCreated.showId(), true, showCreated.initialShow().layout().capacity(), 0);
+            case SeatReserved seatReserved -> delta(seatReserved.showId(), -1);
+            case SeatReservationCancelled seatReservationCancelled -> delta(seatReservationCancelled.showId(), 1);
+            case SeatsReserved seatsReserved -> delta(seatsReserved.showId(), -seatsReserved.seatNumbers().size());
+            case SeatsReservationCancelled seatsReservationCancelled ->
+                    delta(seatsReservationCancelled.showId(), seatsReservationCancelled.seatNumbers().size());
+        };
+    }
+
+    private static ShowViewChange delta(ShowId showId, int availabilityDelta) {
+        return new ShowViewChange(showId, false, 0, availabilityDelta);
+    }
+
+    private ShowViewChange merge(ShowViewChange next) {
+        return new ShowViewChange(showId, created || next.created, created ? capacity : next.capacity,
+                availabilityDelta + next.availabilityDelta);
+    }
+}
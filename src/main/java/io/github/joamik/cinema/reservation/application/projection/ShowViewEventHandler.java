@@ -3,9 +3,12 @@ package io.github.joamik.cinema.reservation.application.projection;
 import akka.Done;
 import akka.projection.eventsourced.EventEnvelope;
 import akka.projection.javadsl.Handler;
+import io.github.joamik.cinema.reservation.application.ShowMetrics;
 import io.github.joamik.cinema.reservation.domain.ShowEvent;
 import io.github.joamik.cinema.reservation.domain.ShowEvent.SeatReservationCancelled;
 import io.github.joamik.cinema.reservation.domain.ShowEvent.SeatReserved;
+import io.github.joamik.cinema.reservation.domain.ShowEvent.SeatsReservationCancelled;
+import io.github.joamik.cinema.reservation.domain.ShowEvent.SeatsReserved;
 import io.github.joamik.cinema.reservation.domain.ShowEvent.ShowCreated;
 
 import java.util.concurrent.CompletionStage;
@@ -13,20 +16,32 @@ import java.util.concurrent.CompletionStage;
 public class ShowViewEventHandler extends Handler<EventEnvelope<ShowEvent>> {
 
     private final ShowViewRepository showViewRepository;
+    private final ShowMetrics metrics;
 
-    public ShowViewEventHandler(ShowViewRepository showViewRepository) {
+    public ShowViewEventHandler(ShowViewRepository showViewRepository, ShowMetrics metrics) {
         this.showViewRepository = showViewRepository;
+        this.metrics = metrics;
     }
 
     @Override
     public CompletionStage<Done> process(EventEnvelope<ShowEvent> showEventEventEnvelope) throws Exception {
-        return switch (showEventEventEnvelope.event()) {
+        long startedAt = System.nanoTime();
+        return update(showEventEventEnvelope.event())
+                .whenComplete((_, _) -> metrics.projected(ShowViewProjection.PROJECTION_NAME, 1, System.nanoTime() - startedAt));
+    }
+
+    private CompletionStage<Done> update(ShowEvent showEvent) {
+        return switch (showEvent) {
             case ShowCreated showCreated ->
-                    showViewRepository.save(showCreated.showId(), showCreated.initialShow().seats().size());
+                    showViewRepository.save(showCreated.showId(), showCreated.initialShow().layout().capacity());
             case SeatReserved seatReserved ->
-                    showViewRepository.decrementAvailability(seatReserved.showId());
+                    showViewRepository.decrementAvailability(seatReserved.showId(), 1);
             case SeatReservationCancelled seatReservationCancelled ->
-                    showViewRepository.incrementAvailability(seatReservationCancelled.showId());
+                    showViewRepository.incrementAvailability(seatReservationCancelled.showId(), 1);
+            case SeatsReserved seatsReserved ->
+                    showViewRepository.decrementAvailability(seatsReserved.showId(), seatsReserved.seatNumbers().size());
+            case SeatsReservationCancelled seatsReservationCancelled ->
+                    showViewRepository.incrementAvailability(seatsReservationCancelled.showId(), seatsReservationCancelled.seatNumbers().size());
         };
     }
 }
@@ -0,0 +1,55 @@
+package io.github.joamik.cinema.reservation.application.projection;
+
+import akka.Done;
+import akka.projection.eventsourced.EventEnvelope;
+import akka.projection.javadsl.Handler;
+import io.github.joamik.cinema.reservation.application.ShowMetrics;
+import io.github.joamik.cinema.reservation.domain.ShowEvent;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+
+/**
+ * Handles a group of envelopes at once, reservations and cancellations of a show are summed up
+ * into a single availability change, so a busy show is updated once per group instead of once per seat.
+ */
+public class ShowViewGroupedEventHandler extends Handler<List<EventEnvelope<ShowEvent>>> {
+
+    private final ShowViewRepository showViewRepository;
+    private final ShowMetrics metrics;
+
+    public ShowViewGroupedEventHandler(ShowViewRepository showViewRepository, ShowMetrics metrics) {
+        this.showViewRepository = showViewRepository;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public CompletionStage<Done> process(List<EventEnvelope<ShowEvent>> showEventEnvelopes) throws Exception {
+        long startedAt = System.nanoTime();
+        var updates = ShowViewChange.coalesce(showEventEnvelopes.stream().map(EventEnvelope::event).toList()).stream()
+                .map(change -> apply(change).toCompletableFuture())
+                .toArray(CompletableFuture[]::new);
+        return CompletableFuture.allOf(updates)
+                .whenComplete((_, _) -> metrics.projected(ShowViewProjection.PROJECTION_NAME, showEventEnvelopes.size(), System.nanoTime() - startedAt))
+                .thenApply(_ -> Done.done());
+    }
+
+    private CompletionStage<Done> apply(ShowViewChange change) {
+        var showId = change.showId();
+        CompletionStage<Done> created = change.created()
+                ? showViewRepository.save(showId, change.capacity())
+                : completedFuture(Done.done());
+        return created.thenCompose(_ -> {
+            if (change.availabilityDelta() < 0) {
+                return showViewRepository.decrementAvailability(showId, -change.availabilityDelta());
+            } else if (change.availabilityDelta() > 0) {
+                return showViewRepository.incrementAvailability(showId, change.availabilityDelta());
+            } else {
+                return completedFuture(Done.done());
+            }
+        });
+    }
+}
@@ -0,0 +1,40 @@
+package io.github.joamik.cinema.reservation.application.projection;
+
+import akka.Done;
+import akka.projection.eventsourced.EventEnvelope;
+import akka.projection.jdbc.javadsl.JdbcHandler;
+import io.github.joamik.cinema.reservation.application.ShowMetrics;
+import io.github.joamik.cinema.reservation.domain.ShowEvent;
+
+import java.util.List;
+
+/**
+ * Applies a group of envelopes within the projection's transaction, one coalesced change per show.
+ */
+public class ShowViewJdbcEventHandler extends JdbcHandler<List<EventEnvelope<ShowEvent>>, DataSourceJdbcSession> {
+
+    private final TransactionalShowViewRepository showViewRepository;
+    private final ShowMetrics metrics;
+
+    public ShowViewJdbcEventHandler(TransactionalShowViewRepository showViewRepository, ShowMetrics metrics) {
+        this.showViewRepository = showViewRepository;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Timed without the commit of the transaction, which happens after the handler returns.
+     */
+    @Override
+    public void process(DataSourceJdbcSession session, List<EventEnvelope<ShowEvent>> showEventEnvelopes) throws Exception {
+        long startedAt = System.nanoTime();
+        var changes = ShowViewChange.coalesce(showEventEnvelopes.stream().map(EventEnvelope::event).toList());
+        try {
+            session.withConnection(connection -> {
+                showViewRepository.apply(connection, changes);
+                return Done.done();
+            });
+        } finally {
+            metrics.projected(ShowViewProjection.PROJECTION_NAME, showEventEnvelopes.size(), System.nanoTime() - startedAt);
+        }
+    }
+}
@@ -6,45 +6,122 @@ import akka.projection.Projection;
 import akka.projection.ProjectionId;
 import akka.projection.eventsourced.EventEnvelope;
 import akka.projection.javadsl.SourceProvider;
+import akka.projection.jdbc.javadsl.JdbcHandler;
 import akka.projection.jdbc.javadsl.JdbcProjection;
+import io.github.joamik.cinema.reservation.application.ShowMetrics;
 import io.github.joamik.cinema.reservation.domain.ShowEvent;
 
 import javax.sql.DataSource;
 
 import java.time.Duration;
+import java.util.List;
 
 import static akka.projection.HandlerRecoveryStrategy.retryAndFail;
 import static java.time.Duration.ofSeconds;
 
 public class ShowViewProjection {
 
-    public static final ProjectionId PROJECTION_ID = ProjectionId.of("show-events", "show-view");
+    public static final String PROJECTION_NAME = "show-view";
 
-    private final ShowViewEventHandler showViewEventHandler;
+    private final ShowViewRepository showViewRepository;
     private final ActorSystem<?> actorSystem;
     private final DataSource dataSource;
+    private final ShowViewProjectionProperties properties;
+    private final ProjectionProgress projectionProgress;
+    private final ShowMetrics metrics;
 
     private final int saveOffsetAfterEnvelopes = 100;
     private final Duration saveOffsetAfterDuration = Duration.ofMillis(500);
 
     public ShowViewProjection(
-            ShowViewEventHandler showViewEventHandler,
+            ShowViewRepository showViewRepository,
             ActorSystem<?> actorSystem,
-            DataSource dataSource) {
-        this.showViewEventHandler = showViewEventHandler;
+            DataSource dataSource,
+            ShowViewProjectionProperties properties,
+            ProjectionProgress projectionProgress,
+            ShowMetrics metrics) {
+        this.showViewRepository = showViewRepository;
         this.actorSystem = actorSystem;
         this.dataSource = dataSource;
+        this.properties = properties;
+        this.projectionProgress = projectionProgress;
+        this.metrics = metrics;
     }
 
-    public Projection<EventEnvelope<ShowEvent>> create(SourceProvider<Offset, EventEnvelope<ShowEvent>> sourceProvider) {
+    /**
+     * A {@link TransactionalShowViewRepository} is updated exactly once, in the transaction storing the offset,
+     * other repositories at least once.
+     *
+     * @param tag event tag consumed by the projection, also the key its offset is stored under
+     */
+    public Projection<EventEnvelope<ShowEvent>> create(String tag, SourceProvider<Offset, EventEnvelope<ShowEvent>> sourceProvider) {
+        if (showViewRepository instanceof TransactionalShowViewRepository transactionalShowViewRepository) {
+            return properties.isGrouped()
+                    ? groupedExactlyOnce(tag, sourceProvider, transactionalShowViewRepository)
+                    : exactlyOnce(tag, sourceProvider, transactionalShowViewRepository);
+        }
+        return properties.isGrouped() ? grouped(tag, sourceProvider) : single(tag, sourceProvider);
+    }
+
+    private Projection<EventEnvelope<ShowEvent>> single(String tag, SourceProvider<Offset, EventEnvelope<ShowEvent>> sourceProvider) {
+        var showViewEventHandler = new ShowViewEventHandler(showViewRepository, metrics);
         return JdbcProjection.atLeastOnceAsync(
-                        PROJECTION_ID,
+                        ProjectionId.of(PROJECTION_NAME, tag),
                         sourceProvider,
                         () -> new DataSourceJdbcSession(dataSource),
                         () -> showViewEventHandler,
                         actorSystem)
                 .withSaveOffset(saveOffsetAfterEnvelopes, saveOffsetAfterDuration)
                 .withRecoveryStrategy(retryAndFail(4, ofSeconds(5)))
-                .withRestartBackoff(ofSeconds(3), ofSeconds(30), 0.1d);
+                .withRestartBackoff(ofSeconds(3), ofSeconds(30), 0.1d)
+                .withStatusObserver(projectionProgress);
+    }
+
+    private Projection<EventEnvelope<ShowEvent>> grouped(String tag, SourceProvider<Offset, EventEnvelope<ShowEvent>> sourceProvider) {
+        var showViewGroupedEventHandler = new ShowViewGroupedEventHandler(showViewRepository, metrics);
+        return JdbcProjection.groupedWithinAsync(
+                        ProjectionId.of(PROJECTION_NAME, tag),
+                        sourceProvider,
+                        () -> new DataSourceJdbcSession(dataSource),
+                        () -> showViewGroupedEventHandler,
+                        actorSystem)
+                .withGroup(properties.getGroupAfterEnvelopes(), properties.getGroupAfterDuration())
+                .withRecoveryStrategy(retryAndFail(4, ofSeconds(5)))
+                .withRestartBackoff(ofSeconds(3), ofSeconds(30), 0.1d)
+                .withStatusObserver(projectionProgress);
+    }
+
+    private Projection<EventEnvelope<ShowEvent>> exactlyOnce(String tag, SourceProvider<Offset, EventEnvelope<ShowEvent>> sourceProvider,
+                                                             TransactionalShowViewRepository transactionalShowViewRepository) {
+        var showViewJdbcEventHandler = new ShowViewJdbcEventHandler(transactionalShowViewRepository, metrics);
+        return JdbcProjection.exactlyOnce(
+                        ProjectionId.of(PROJECTION_NAME, tag),
+                        sourceProvider,
+                        () -> new DataSourceJdbcSession(dataSource),
+                        () -> new JdbcHandler<EventEnvelope<ShowEvent>, DataSourceJdbcSession>() {
+                            @Override
+                            public void process(DataSourceJdbcSession session, EventEnvelope<ShowEvent> showEventEnvelope) throws Exception {
+                                showViewJdbcEventHandler.process(session, List.of(showEventEnvelope));
+                            }
+                        },
+                        actorSystem)
+                .withRecoveryStrategy(retryAndFail(4, ofSeconds(5)))
+                .withRestartBackoff(ofSeconds(3), ofSeconds(30), 0.1d)
+                .withStatusObserver(projectionProgress);
+    }
+
+    private Projection<EventEnvelope<ShowEvent>> groupedExactlyOnce(String tag, SourceProvider<Offset, EventEnvelope<ShowEvent>> sourceProvider,
+                                                                    TransactionalShowViewRepository transactionalShowViewRepository) {
+        var showViewJdbcEventHandler = new ShowViewJdbcEventHandler(transactionalShowViewRepository, metrics);
+        return JdbcProjection.groupedWithin(
+                        ProjectionId.of(PROJECTION_NAME, tag),
+                        sourceProvider,
+                        () -> new DataSourceJdbcSession(dataSource),
+                        () -> showViewJdbcEventHandler,
+                        actorSystem)
+                .withGroup(properties.getGroupAfterEnvelopes(), properties.getGroupAfterDuration())
+                .withRecoveryStrategy(retryAndFail(4, ofSeconds(5)))
+                .withRestartBackoff(ofSeconds(3), ofSeconds(30), 0.1d)
+                .withStatusObserver(projectionProgress);
     }
 }
@@ -0,0 +1,36 @@
+package io.github.joamik.cinema.reservation.application.projection;
+
+import java.time.Duration;
+
+/**
+ * Batching of the show view projection, events are handled in groups and their offset is stored once per group.
+ */
+public class ShowViewProjectionProperties {
+
+    private final int groupAfterEnvelopes;
+    private final Duration groupAfterDuration;
+
+    /**
+     * @param groupAfterEnvelopes    maximum number of envelopes in a group, {@code 1} handles every envelope on its own
+     * @param groupAfterMilliseconds maximum time to wait for a group to fill up
+     */
+    public ShowViewProjectionProperties(int groupAfterEnvelopes, long groupAfterMilliseconds) {
+        if (groupAfterEnvelopes < 1 || groupAfterMilliseconds < 0) {
+            throw new IllegalArgumentException(STR."Invalid grouping, after \{groupAfterEnvelopes} envelopes or \{groupAfterMilliseconds} ms");
+        }
+        this.groupAfterEnvelopes = groupAfterEnvelopes;
+        this.groupAfterDuration = Duration.ofMillis(groupAfterMilliseconds);
+    }
+
+    public boolean isGrouped() {
+        return groupAfterEnvelopes > 1;
+    }
+
+    public int getGroupAfterEnvelopes() {
+        return groupAfterEnvelopes;
+    }
+
+    public Duration getGroupAfterDuration() {
+        return groupAfterDuration;
+    }
+}
@@ -1,18 +1,50 @@
 package io.github.joamik.cinema.reservation.application.projection;
 
 import akka.Done;
+import akka.NotUsed;
+import akka.japi.Pair;
+import akka.stream.javadsl.Source;
 import io.github.joamik.cinema.reservation.domain.ShowId;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.CompletionStage;
 
 public interface ShowViewRepository {
 
+    int STREAM_PAGE_SIZE = 200;
+
     CompletionStage<List<ShowView>> findAvailable();
 
+    /**
+     * Page of shows with available seats, fewest available seats first, then by show id.
+     *
+     * @param after last show view of the previous page, empty for the first page
+     */
+    CompletionStage<List<ShowView>> findAvailable(Optional<ShowView> after, int limit);
+
+    /**
+     * All shows with available seats in the order of {@link #findAvailable(Optional, int)}, read page by page
+     * as the stream is pulled.
+     */
+    default Source<ShowView, NotUsed> streamAvailable() {
+        return Source.unfoldAsync(Optional.<ShowView>empty(), after -> findAvailable(after, STREAM_PAGE_SIZE)
+                        .thenApply(page -> page.isEmpty()
+                                ? Optional.<Pair<Optional<ShowView>, List<ShowView>>>empty()
+                                : Optional.of(Pair.create(Optional.of(page.getLast()), page))))
+                .mapConcat(page -> page);
+    }
+
+    /**
+     * Shows with the fewest available seats left, sold out shows excluded.
+     */
+    default CompletionStage<List<ShowView>> findAlmostSoldOut(int limit) {
+        return findAvailable(Optional.empty(), limit);
+    }
+
     CompletionStage<Done> save(ShowId showId, int availableSeats);
 
-    CompletionStage<Done> decrementAvailability(ShowId showId);
+    CompletionStage<Done> decrementAvailability(ShowId showId, int seats);
 
-    CompletionStage<Done> incrementAvailability(ShowId showId);
+    CompletionStage<Done> incrementAvailability(ShowId showId, int seats);
 }
@@ -0,0 +1,18 @@
+package io.github.joamik.cinema.reservation.application.projection;
+
+import io.github.joamik.cinema.reservation.domain.ShowEvent;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Seat map repository stored next to the projection offsets, like {@link TransactionalShowViewRepository}.
+ */
+public interface TransactionalSeatMapRepository extends SeatMapRepository {
+
+    /**
+     * @return to be run once the transaction has committed, so that nothing rolled back is served
+     */
+    Runnable apply(Connection connection, List<ShowEvent> showEvents) throws SQLException;
+}
@@ -0,0 +1,14 @@
+package io.github.joamik.cinema.reservation.application.projection;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Show view repository stored next to the projection offsets, its changes are written with the connection of
+ * the projection's transaction, so the view and the offset are committed together.
+ */
+public interface TransactionalShowViewRepository extends ShowViewRepository {
+
+    void apply(Connection connection, List<ShowViewChange> changes) throws SQLException;
+}
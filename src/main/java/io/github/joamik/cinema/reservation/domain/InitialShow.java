@@ -1,8 +1,10 @@
 package io.github.joamik.cinema.reservation.domain;
 
 import java.io.Serializable;
-import java.util.Map;
 
-public record InitialShow(ShowId showId, String title, Map<SeatNumber, Seat> seats) implements Serializable {
+/**
+ * Everything a show is created from. Seats are not stored, they are derived from the layout by {@link Show#create}.
+ */
+public record InitialShow(ShowId showId, String title, SeatLayout layout) implements Serializable {
 
 }
@@ -0,0 +1,113 @@
+package io.github.joamik.cinema.reservation.domain;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+/**
+ * Describes the seats of a show as sections of rows, each row priced by one of the price zones.
+ * Seats are numbered continuously across all rows, starting from 1 in the first row of the first section.
+ */
+public record SeatLayout(List<PriceZone> priceZones, List<Section> sections) implements Serializable {
+
+    public static final int MAX_PRICE_ZONES = 256;
+    public static final int MAX_SEATS = 100_000;
+
+    private static final String DEFAULT_PRICE_ZONE = "standard";
+
+    public SeatLayout {
+        priceZones = List.copyOf(priceZones);
+        sections = List.copyOf(sections);
+    }
+
+    public static SeatLayout singleRow(int seats, BigDecimal price) {
+        return new SeatLayout(
+                List.of(new PriceZone(DEFAULT_PRICE_ZONE, price)),
+                List.of(new Section("1", List.of(new Row("1", seats, DEFAULT_PRICE_ZONE)))));
+    }
+
+    /**
+     * @return number of seats, {@link Integer#MAX_VALUE} when they do not fit an {@code int}
+     */
+    public int capacity() {
+        long capacity = 0;
+        for (Section section : sections) {
+            for (Row row : section.rows()) {
+                capacity += row.seats();
+            }
+        }
+        return (int) Math.min(capacity, Integer.MAX_VALUE);
+    }
+
+    public boolean isValid() {
+        if (priceZones.isEmpty() || priceZones.size() > MAX_PRICE_ZONES || sections.isEmpty()) {
+            return false;
+        }
+        var zoneNames = new HashSet<String>();
+        for (PriceZone priceZone : priceZones) {
+            if (priceZone.name() == null || priceZone.price() == null || priceZone.price().signum() < 0 || !zoneNames.add(priceZone.name())) {
+                return false;
+            }
+        }
+        for (Section section : sections) {
+            if (section.name() == null || section.rows().isEmpty()) {
+                return false;
+            }
+            for (Row row : section.rows()) {
+                if (row.name() == null || row.seats() < 1 || row.seats() > MAX_SEATS || !zoneNames.contains(row.priceZone())) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    public int priceZoneIndex(String priceZoneName) {
+        for (int index = 0; index < priceZones.size(); index++) {
+            if (priceZones.get(index).name().equals(priceZoneName)) {
+                return index;
+            }
+        }
+        throw new IllegalArgumentException(STR."Unknown price zone \{priceZoneName}");
+    }
+
+    /**
+     * @return every row with the range of seat numbers it covers, in seat number order
+     */
+    public List<SeatRange> seatRanges() {
+        var seatRanges = new ArrayList<SeatRange>();
+        int firstSeat = 1;
+        for (Section section : sections) {
+            for (Row row : section.rows()) {
+                int lastSeat = firstSeat + row.seats() - 1;
+                seatRanges.add(new SeatRange(section.name(), row.name(), firstSeat, lastSeat, priceZoneIndex(row.priceZone())));
+                firstSeat = lastSeat + 1;
+            }
+        }
+        return seatRanges;
+    }
+
+    public record PriceZone(String name, BigDecimal price) implements Serializable {
+
+    }
+
+    public record Section(String name, List<Row> rows) implements Serializable {
+
+        public Section {
+            rows = List.copyOf(rows);
+        }
+    }
+
+    public record Row(String name, int seats, String priceZone) implements Serializable {
+
+    }
+
+    public record SeatRange(String section, String row, int firstSeat, int lastSeat, int priceZone) {
+
+        public int size() {
+            return lastSeat - firstSeat + 1;
+        }
+    }
+}
@@ -0,0 +1,256 @@
+package io.github.joamik.cinema.reservation.domain;
+
+import io.github.joamik.cinema.base.domain.PersistentBitSet;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static java.lang.StringTemplate.STR;
+
+/**
+ * Compact, immutable seat state of a show. Seats are numbered densely from 1 to {@link #size()}.
+ * Reservation status is kept as a persistent bitset and prices as a per-seat index into a small table of price tiers,
+ * so no object is kept per seat and a reservation change shares all untouched status chunks with the previous state.
+ * Rows are indexed once per layout in seat preference order (price zones in declaration order, then layout order),
+ * which is what the best available seats search walks.
+ */
+public final class Seats implements Serializable {
+
+    private final PersistentBitSet reserved;
+    private final byte[] priceTierBySeat;
+    private final BigDecimal[] priceTiers;
+    /**
+     * Pairs of first seat index (inclusive) and last seat index (exclusive) of each row, best row first.
+     */
+    private final int[] rowsByPreference;
+
+    private Seats(PersistentBitSet reserved, byte[] priceTierBySeat, BigDecimal[] priceTiers, int[] rowsByPreference) {
+        this.reserved = reserved;
+        this.priceTierBySeat = priceTierBySeat;
+        this.priceTiers = priceTiers;
+        this.rowsByPreference = rowsByPreference;
+    }
+
+    public static Seats allAvailable(BigDecimal price, int size) {
+        return new Seats(PersistentBitSet.empty(size), new byte[size], new BigDecimal[]{price}, singleRow(size));
+    }
+
+    public static Seats allAvailable(SeatLayout layout) {
+        byte[] priceTierBySeat = new byte[layout.capacity()];
+        for (SeatLayout.SeatRange seatRange : layout.seatRanges()) {
+            Arrays.fill(priceTierBySeat, seatRange.firstSeat() - 1, seatRange.lastSeat(), (byte) seatRange.priceZone());
+        }
+        BigDecimal[] priceTiers = layout.priceZones().stream()
+                .map(SeatLayout.PriceZone::price)
+                .toArray(BigDecimal[]::new);
+        return new Seats(PersistentBitSet.empty(priceTierBySeat.length), priceTierBySeat, priceTiers, rowsByPreference(layout));
+    }
+
+    private static int[] rowsByPreference(SeatLayout layout) {
+        List<SeatLayout.SeatRange> seatRanges = new ArrayList<>(layout.seatRanges());
+        seatRanges.sort(Comparator.comparingInt(SeatLayout.SeatRange::priceZone));
+        int[] rows = new int[seatRanges.size() * 2];
+        for (int row = 0; row < seatRanges.size(); row++) {
+            rows[2 * row] = seatRanges.get(row).firstSeat() - 1;
+            rows[2 * row + 1] = seatRanges.get(row).lastSeat();
+        }
+        return rows;
+    }
+
+    private static int[] singleRow(int size) {
+        return new int[]{0, size};
+    }
+
+    /**
+     * Seats of the layout with the given reservations, the inverse of {@link #reservations()}.
+     */
+    public static Seats restore(SeatLayout layout, PersistentBitSet reservations) {
+        var seats = allAvailable(layout);
+        if (reservations.size() != seats.size()) {
+            throw new IllegalArgumentException(STR."Reservations of \{reservations.size()} seats do not match layout of \{seats.size()} seats");
+        }
+        return seats.withReserved(reservations);
+    }
+
+    public int size() {
+        return priceTierBySeat.length;
+    }
+
+    /**
+     * @return reservation status of all seats, bit {@code n - 1} is set when seat {@code n} is reserved
+     */
+    public PersistentBitSet reservations() {
+        return reserved;
+    }
+
+    /**
+     * @return number of seats in the longest row, the most adjacent seats that can be found
+     */
+    public int longestRow() {
+        int longestRow = 0;
+        for (int row = 0; row < rowsByPreference.length; row += 2) {
+            longestRow = Math.max(longestRow, rowsByPreference[row + 1] - rowsByPreference[row]);
+        }
+        return longestRow;
+    }
+
+    public int availableCount() {
+        return size() - reserved.cardinality();
+    }
+
+    public boolean contains(SeatNumber seatNumber) {
+        int index = seatNumber.number() - 1;
+        return index >= 0 && index < size();
+    }
+
+    public boolean isReserved(SeatNumber seatNumber) {
+        return isReserved(indexOf(seatNumber));
+    }
+
+    public boolean isAvailable(SeatNumber seatNumber) {
+        return !isReserved(indexOf(seatNumber));
+    }
+
+    public BigDecimal price(SeatNumber seatNumber) {
+        return priceOf(indexOf(seatNumber));
+    }
+
+    public Seat get(SeatNumber seatNumber) {
+        return seatAt(indexOf(seatNumber));
+    }
+
+    public Seats reserve(SeatNumber seatNumber) {
+        return withReserved(reserved.set(indexOf(seatNumber)));
+    }
+
+    public Seats cancelReservation(SeatNumber seatNumber) {
+        return withReserved(reserved.clear(indexOf(seatNumber)));
+    }
+
+    public Seats reserveAll(List<SeatNumber> seatNumbers) {
+        PersistentBitSet newReserved = reserved;
+        for (SeatNumber seatNumber : seatNumbers) {
+            newReserved = newReserved.set(indexOf(seatNumber));
+        }
+        return withReserved(newReserved);
+    }
+
+    public Seats cancelAllReservations(List<SeatNumber> seatNumbers) {
+        PersistentBitSet newReserved = reserved;
+        for (SeatNumber seatNumber : seatNumbers) {
+            newReserved = newReserved.clear(indexOf(seatNumber));
+        }
+        return withReserved(newReserved);
+    }
+
+    /**
+     * @return numbers of the first {@code count} adjacent available seats in the best row that has them,
+     * or an empty list if no row has that many adjacent available seats
+     */
+    public List<SeatNumber> findBestAvailable(int count) {
+        if (count < 1 || count > longestRow()) {
+            return List.of();
+        }
+        for (int row = 0; row < rowsByPreference.length; row += 2) {
+            int first = findAvailableRun(rowsByPreference[row], rowsByPreference[row + 1], count);
+            if (first >= 0) {
+                List<SeatNumber> seatNumbers = new ArrayList<>(count);
+                for (int index = first; index < first + count; index++) {
+                    seatNumbers.add(SeatNumber.of(index + 1));
+                }
+                return seatNumbers;
+            }
+        }
+        return List.of();
+    }
+
+    /**
+     * Jumps between free and reserved runs of the row a whole bitset word at a time.
+     */
+    private int findAvailableRun(int from, int to, int count) {
+        int position = from;
+        while (count <= to - position) {
+            int firstAvailable = reserved.nextClearBit(position);
+            if (count > to - firstAvailable) {
+                return -1;
+            }
+            int firstReserved = reserved.nextSetBit(firstAvailable);
+            if (firstReserved - firstAvailable >= count) {
+                return firstAvailable;
+            }
+            position = firstReserved + 1;
+        }
+        return -1;
+    }
+
+    private Seats withReserved(PersistentBitSet newReserved) {
+        return newReserved == reserved ? this : new Seats(newReserved, priceTierBySeat, priceTiers, rowsByPreference);
+    }
+
+    public Stream<Seat> stream() {
+        return IntStream.range(0, size()).mapToObj(this::seatAt);
+    }
+
+    public List<Seat> toList() {
+        List<Seat> seats = new ArrayList<>(size());
+        for (int index = 0; index < size(); index++) {
+            seats.add(seatAt(index));
+        }
+        return seats;
+    }
+
+    private Seat seatAt(int index) {
+        var status = isReserved(index) ? SeatStatus.RESERVED : SeatStatus.AVAILABLE;
+        return new Seat(SeatNumber.of(index + 1), status, priceOf(index));
+    }
+
+    private boolean isReserved(int index) {
+        return reserved.get(index);
+    }
+
+    private BigDecimal priceOf(int index) {
+        return priceTiers[priceTierBySeat[index] & 0xFF];
+    }
+
+    private int indexOf(SeatNumber seatNumber) {
+        if (!contains(seatNumber)) {
+            throw new IllegalStateException(STR."Seat does not exist \{seatNumber}");
+        }
+        return seatNumber.number() - 1;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof Seats seats)) {
+            return false;
+        }
+        if (size() != seats.size() || !reserved.equals(seats.reserved)) {
+            return false;
+        }
+        for (int index = 0; index < size(); index++) {
+            if (priceOf(index).compareTo(seats.priceOf(index)) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        return reserved.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return STR."Seats[size=\{size()}, available=\{availableCount()}]";
+    }
+}
@@ -3,65 +3,110 @@ package io.github.joamik.cinema.reservation.domain;
 import io.github.joamik.cinema.base.domain.Result;
 import io.github.joamik.cinema.base.domain.Clock;
 import io.github.joamik.cinema.reservation.domain.ShowCommand.CancelSeatReservation;
+import io.github.joamik.cinema.reservation.domain.ShowCommand.CancelSeatsReservation;
 import io.github.joamik.cinema.reservation.domain.ShowCommand.CreateShow;
+import io.github.joamik.cinema.reservation.domain.ShowCommand.ReserveBestSeats;
 import io.github.joamik.cinema.reservation.domain.ShowCommand.ReserveSeat;
+import io.github.joamik.cinema.reservation.domain.ShowCommand.ReserveSeats;
 import io.github.joamik.cinema.reservation.domain.ShowEvent.SeatReservationCancelled;
 import io.github.joamik.cinema.reservation.domain.ShowEvent.SeatReserved;
+import io.github.joamik.cinema.reservation.domain.ShowEvent.SeatsReservationCancelled;
+import io.github.joamik.cinema.reservation.domain.ShowEvent.SeatsReserved;
 import io.github.joamik.cinema.reservation.domain.ShowEvent.ShowCreated;
 
 import java.io.Serializable;
-import java.util.Collections;
-import java.util.HashMap;
+import java.time.Instant;
 import java.util.List;
-import java.util.Map;
-import java.util.Optional;
-import java.util.Set;
 
-import static java.lang.StringTemplate.STR;
-
-public record Show(ShowId id, String title, Map<SeatNumber, Seat> seats) implements Serializable {
-
-    public Set<SeatNumber> seatNumbers() {
-        return seats.keySet();
-    }
+public record Show(ShowId id, String title, SeatLayout layout, Seats seats) implements Serializable {
 
     public static Show create(ShowCreated showCreated) {
         var initialShow = showCreated.initialShow();
-        return new Show(initialShow.showId(), initialShow.title(), initialShow.seats());
+        return new Show(initialShow.showId(), initialShow.title(), initialShow.layout(), SeatsCreator.createSeats(initialShow.layout()));
+    }
+
+    public Result<ShowCommandError, ShowEvent> process(ShowCommand command, Clock clock) {
+        return process(command, clock.now());
     }
 
-    public Result<ShowCommandError, List<ShowEvent>> process(ShowCommand command, Clock clock) {
+    /**
+     * @param now time of the processed command, stamped on the resulting event
+     */
+    public Result<ShowCommandError, ShowEvent> process(ShowCommand command, Instant now) {
         return switch (command) {
-            case CreateShow _ -> Result.failure(ShowCommandError.SHOW_ALREADY_EXISTS);
-            case ReserveSeat reserveSeat -> handleReservation(reserveSeat, clock);
-            case CancelSeatReservation cancelSeatReservation -> handleReservationCancellation(cancelSeatReservation, clock);
+            case CreateShow _ -> ShowCommandError.SHOW_ALREADY_EXISTS.toFailure();
+            case ReserveSeat reserveSeat -> handleReservation(reserveSeat, now);
+            case CancelSeatReservation cancelSeatReservation -> handleReservationCancellation(cancelSeatReservation, now);
+            case ReserveSeats reserveSeats -> handleReservations(reserveSeats, now);
+            case CancelSeatsReservation cancelSeatsReservation -> handleReservationsCancellation(cancelSeatsReservation, now);
+            case ReserveBestSeats reserveBestSeats -> handleBestSeatsReservation(reserveBestSeats, now);
         };
     }
 
-    private Result<ShowCommandError, List<ShowEvent>> handleReservation(ReserveSeat reserveSeat, Clock clock) {
+    private Result<ShowCommandError, ShowEvent> handleReservation(ReserveSeat reserveSeat, Instant now) {
         SeatNumber seatNumber = reserveSeat.seatNumber();
-        return getSeat(seatNumber)
-                .<Result<ShowCommandError, List<ShowEvent>>>map(seat -> {
-                    if (seat.isAvailable()) {
-                        return Result.success(List.of(new SeatReserved(id, clock.now(), seatNumber)));
-                    } else {
-                        return Result.failure(ShowCommandError.SEAT_NOT_AVAILABLE);
-                    }
-                })
-                .orElseGet(() -> Result.failure(ShowCommandError.SEAT_NOT_EXISTS));
+        if (!seats.contains(seatNumber)) {
+            return ShowCommandError.SEAT_NOT_EXISTS.toFailure();
+        } else if (seats.isAvailable(seatNumber)) {
+            return Result.success(new SeatReserved(id, now, seatNumber));
+        } else {
+            return ShowCommandError.SEAT_NOT_AVAILABLE.toFailure();
+        }
     }
 
-    private Result<ShowCommandError, List<ShowEvent>> handleReservationCancellation(CancelSeatReservation cancelSeatReservation, Clock clock) {
+    private Result<ShowCommandError, ShowEvent> handleReservationCancellation(CancelSeatReservation cancelSeatReservation, Instant now) {
         SeatNumber seatNumber = cancelSeatReservation.seatNumber();
-        return getSeat(seatNumber)
-                .<Result<ShowCommandError, List<ShowEvent>>>map(seat -> {
-                    if (seat.isReserved()) {
-                        return Result.success(List.of(new SeatReservationCancelled(id, clock.now(), seatNumber)));
-                    } else {
-                        return Result.failure(ShowCommandError.SEAT_NOT_RESERVED);
-                    }
-                })
-                .orElseGet(() -> Result.failure(ShowCommandError.SEAT_NOT_EXISTS));
+        if (!seats.contains(seatNumber)) {
+            return ShowCommandError.SEAT_NOT_EXISTS.toFailure();
+        } else if (seats.isReserved(seatNumber)) {
+            return Result.success(new SeatReservationCancelled(id, now, seatNumber));
+        } else {
+            return ShowCommandError.SEAT_NOT_RESERVED.toFailure();
+        }
+    }
+
+    private Result<ShowCommandError, ShowEvent> handleReservations(ReserveSeats reserveSeats, Instant now) {
+        List<SeatNumber> seatNumbers = reserveSeats.seatNumbers().stream().distinct().toList();
+        if (seatNumbers.isEmpty()) {
+            return ShowCommandError.TOO_FEW_SEATS.toFailure();
+        }
+        for (SeatNumber seatNumber : seatNumbers) {
+            if (!seats.contains(seatNumber)) {
+                return ShowCommandError.SEAT_NOT_EXISTS.toFailure();
+            } else if (seats.isReserved(seatNumber)) {
+                return ShowCommandError.SEAT_NOT_AVAILABLE.toFailure();
+            }
+        }
+        return Result.success(new SeatsReserved(id, now, seatNumbers));
+    }
+
+    private Result<ShowCommandError, ShowEvent> handleReservationsCancellation(CancelSeatsReservation cancelSeatsReservation, Instant now) {
+        List<SeatNumber> seatNumbers = cancelSeatsReservation.seatNumbers().stream().distinct().toList();
+        if (seatNumbers.isEmpty()) {
+            return ShowCommandError.TOO_FEW_SEATS.toFailure();
+        }
+        for (SeatNumber seatNumber : seatNumbers) {
+            if (!seats.contains(seatNumber)) {
+                return ShowCommandError.SEAT_NOT_EXISTS.toFailure();
+            } else if (seats.isAvailable(seatNumber)) {
+                return ShowCommandError.SEAT_NOT_RESERVED.toFailure();
+            }
+        }
+        return Result.success(new SeatsReservationCancelled(id, now, seatNumbers));
+    }
+
+    private Result<ShowCommandError, ShowEvent> handleBestSeatsReservation(ReserveBestSeats reserveBestSeats, Instant now) {
+        if (reserveBestSeats.count() < 1) {
+            return ShowCommandError.TOO_FEW_SEATS.toFailure();
+        }
+        if (reserveBestSeats.count() > seats.longestRow()) {
+            return ShowCommandError.TOO_MANY_SEATS.toFailure();
+        }
+        List<SeatNumber> seatNumbers = seats.findBestAvailable(reserveBestSeats.count());
+        if (seatNumbers.isEmpty()) {
+            return ShowCommandError.NOT_ENOUGH_ADJACENT_SEATS.toFailure();
+        }
+        return Result.success(new SeatsReserved(id, now, seatNumbers));
     }
 
     public Show apply(ShowEvent showEvent) {
@@ -69,35 +114,17 @@ public record Show(ShowId id, String title, Map<SeatNumber, Seat> seats) impleme
             case ShowCreated _ -> throw new IllegalStateException("Show already created, use Show::create");
             case SeatReserved seatReserved -> applyReservation(seatReserved);
             case SeatReservationCancelled seatReservationCancelled -> applyReservationCancellation(seatReservationCancelled);
+            case SeatsReserved seatsReserved -> new Show(id, title, layout, seats.reserveAll(seatsReserved.seatNumbers()));
+            case SeatsReservationCancelled seatsReservationCancelled ->
+                    new Show(id, title, layout, seats.cancelAllReservations(seatsReservationCancelled.seatNumbers()));
         };
     }
 
     private Show applyReservationCancellation(SeatReservationCancelled seatReservationCancelled) {
-        SeatNumber seatNumber = seatReservationCancelled.seatNumber();
-        Seat seat = getSeatOrElseThrow(seatNumber);
-
-        Map<SeatNumber, Seat> newSeats = new HashMap<>(seats);
-        newSeats.put(seatNumber, seat.available());
-
-        return new Show(id, title, Collections.unmodifiableMap(newSeats));
+        return new Show(id, title, layout, seats.cancelReservation(seatReservationCancelled.seatNumber()));
     }
 
     private Show applyReservation(SeatReserved seatReserved) {
-        SeatNumber seatNumber = seatReserved.seatNumber();
-        Seat seat = getSeatOrElseThrow(seatNumber);
-
-        Map<SeatNumber, Seat> newSeats = new HashMap<>(seats);
-        newSeats.put(seatNumber, seat.reserved());
-
-        return new Show(id, title, Collections.unmodifiableMap(newSeats));
-    }
-
-    private Seat getSeatOrElseThrow(SeatNumber seatNumber) {
-        return getSeat(seatNumber)
-                .orElseThrow(() -> new IllegalStateException(STR."Seat does not exist \{seatNumber}"));
-    }
-
-    private Optional<Seat> getSeat(SeatNumber seatNumber) {
-        return Optional.ofNullable(seats.get(seatNumber));
+        return new Show(id, title, layout, seats.reserve(seatReserved.seatNumber()));
     }
 }
@@ -1,13 +1,24 @@
 package io.github.joamik.cinema.reservation.domain;
 
 import java.io.Serializable;
+import java.util.List;
 
 public sealed interface ShowCommand extends Serializable {
 
     ShowId showId();
 
-    record CreateShow(ShowId showId, String title, int maxSeats) implements ShowCommand {
+    /**
+     * @param layout seat layout of the show, when {@code null} a single row of {@code maxSeats} seats is created
+     */
+    record CreateShow(ShowId showId, String title, int maxSeats, SeatLayout layout) implements ShowCommand {
 
+        public CreateShow(ShowId showId, String title, int maxSeats) {
+            this(showId, title, maxSeats, null);
+        }
+
+        public CreateShow(ShowId showId, String title, SeatLayout layout) {
+            this(showId, title, layout.capacity(), layout);
+        }
     }
 
     record ReserveSeat(ShowId showId, SeatNumber seatNumber) implements ShowCommand {
@@ -17,4 +28,25 @@ public sealed interface ShowCommand extends Serializable {
     record CancelSeatReservation(ShowId showId, SeatNumber seatNumber) implements ShowCommand {
 
     }
+
+    record ReserveSeats(ShowId showId, List<SeatNumber> seatNumbers) implements ShowCommand {
+
+        public ReserveSeats {
+            seatNumbers = List.copyOf(seatNumbers);
+        }
+    }
+
+    /**
+     * Reserves {@code count} adjacent seats in the best row that still has them, see {@link Seats#findBestAvailable(int)}.
+     */
+    record ReserveBestSeats(ShowId showId, int count) implements ShowCommand {
+
+    }
+
+    record CancelSeatsReservation(ShowId showId, List<SeatNumber> seatNumbers) implements ShowCommand {
+
+        public CancelSeatsReservation {
+            seatNumbers = List.copyOf(seatNumbers);
+        }
+    }
 }
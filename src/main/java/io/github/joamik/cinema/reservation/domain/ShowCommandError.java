@@ -1,5 +1,8 @@
 package io.github.joamik.cinema.reservation.domain;
 
+import io.github.joamik.cinema.base.domain.Result;
+import io.github.joamik.cinema.base.domain.Result.Failure;
+
 public enum ShowCommandError {
     SHOW_ALREADY_EXISTS,
     SHOW_NOT_EXISTS,
@@ -7,5 +10,18 @@ public enum ShowCommandError {
     SEAT_NOT_RESERVED,
     SEAT_NOT_EXISTS,
     TOO_FEW_SEATS,
-    TOO_MANY_SEATS
+    TOO_MANY_SEATS,
+    INVALID_SEAT_LAYOUT,
+    INVALID_TITLE,
+    NOT_ENOUGH_ADJACENT_SEATS;
+
+    private final Failure<ShowCommandError, ?> failure = Result.failure(this);
+
+    /**
+     * @return failure with this error, created once per error so rejecting a command allocates nothing
+     */
+    @SuppressWarnings("unchecked")
+    public <V> Failure<ShowCommandError, V> toFailure() {
+        return (Failure<ShowCommandError, V>) failure;
+    }
 }
@@ -6,29 +6,49 @@ import io.github.joamik.cinema.reservation.domain.ShowCommand.CreateShow;
 import io.github.joamik.cinema.reservation.domain.ShowEvent.ShowCreated;
 
 import java.math.BigDecimal;
+import java.time.Instant;
 
+import static io.github.joamik.cinema.reservation.domain.ShowCommandError.INVALID_SEAT_LAYOUT;
+import static io.github.joamik.cinema.reservation.domain.ShowCommandError.INVALID_TITLE;
 import static io.github.joamik.cinema.reservation.domain.ShowCommandError.TOO_FEW_SEATS;
 import static io.github.joamik.cinema.reservation.domain.ShowCommandError.TOO_MANY_SEATS;
 
 public class ShowCreator {
 
+    public static final int MAX_TITLE_LENGTH = 256;
+
     private static final int MIN_SEATS = 2;
-    private static final int MAX_SEATS = 100;
 
     private static final BigDecimal INITIAL_PRICE = BigDecimal.valueOf(100);
 
     public static Result<ShowCommandError, ShowCreated> create(CreateShow createShow, Clock clock) {
-        if (createShow.maxSeats() < MIN_SEATS) {
-            return Result.failure(TOO_FEW_SEATS);
+        return create(createShow, clock.now());
+    }
+
+    /**
+     * @param now time of the creation, stamped on the resulting event
+     */
+    public static Result<ShowCommandError, ShowCreated> create(CreateShow createShow, Instant now) {
+        if (createShow.title() == null || createShow.title().isBlank() || createShow.title().length() > MAX_TITLE_LENGTH) {
+            return INVALID_TITLE.toFailure();
+        }
+
+        if (createShow.layout() != null && !createShow.layout().isValid()) {
+            return INVALID_SEAT_LAYOUT.toFailure();
+        }
+
+        int seatCount = createShow.layout() != null ? createShow.layout().capacity() : createShow.maxSeats();
+        if (seatCount < MIN_SEATS) {
+            return TOO_FEW_SEATS.toFailure();
         }
 
-        if (createShow.maxSeats() > MAX_SEATS) {
-            return Result.failure(TOO_MANY_SEATS);
+        if (seatCount > SeatLayout.MAX_SEATS) {
+            return TOO_MANY_SEATS.toFailure();
         }
 
-        var seats = SeatsCreator.createSeats(INITIAL_PRICE, createShow.maxSeats());
-        var initialShow = new InitialShow(createShow.showId(), createShow.title(), seats);
-        var showCreated = new ShowCreated(createShow.showId(), clock.now(), initialShow);
+        var layout = createShow.layout() != null ? createShow.layout() : SeatLayout.singleRow(seatCount, INITIAL_PRICE);
+        var initialShow = new InitialShow(createShow.showId(), createShow.title(), layout);
+        var showCreated = new ShowCreated(createShow.showId(), now, initialShow);
         return Result.success(showCreated);
     }
 }
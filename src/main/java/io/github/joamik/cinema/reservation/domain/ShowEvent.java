@@ -2,6 +2,7 @@ package io.github.joamik.cinema.reservation.domain;
 
 import java.io.Serializable;
 import java.time.Instant;
+import java.util.List;
 
 public sealed interface ShowEvent extends Serializable {
 
@@ -20,4 +21,18 @@ public sealed interface ShowEvent extends Serializable {
     record SeatReservationCancelled(ShowId showId, Instant createdAt, SeatNumber seatNumber) implements ShowEvent {
 
     }
+
+    record SeatsReserved(ShowId showId, Instant createdAt, List<SeatNumber> seatNumbers) implements ShowEvent {
+
+        public SeatsReserved {
+            seatNumbers = List.copyOf(seatNumbers);
+        }
+    }
+
+    record SeatsReservationCancelled(ShowId showId, Instant createdAt, List<SeatNumber> seatNumbers) implements ShowEvent {
+
+        public SeatsReservationCancelled {
+            seatNumbers = List.copyOf(seatNumbers);
+        }
+    }
 }
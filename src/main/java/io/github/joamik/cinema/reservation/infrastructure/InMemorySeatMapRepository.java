@@ -0,0 +1,41 @@
+package io.github.joamik.cinema.reservation.infrastructure;
+
+import akka.Done;
+import io.github.joamik.cinema.reservation.application.projection.SeatMapRepository;
+import io.github.joamik.cinema.reservation.application.projection.SeatMapUpdate;
+import io.github.joamik.cinema.reservation.domain.Show;
+import io.github.joamik.cinema.reservation.domain.ShowEvent;
+import io.github.joamik.cinema.reservation.domain.ShowId;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.concurrent.CompletableFuture.completedStage;
+
+/**
+ * Keeps the immutable {@link Show} of every show, replaced while its map entry is locked,
+ * so reads get a consistent seat map without copying it.
+ */
+public class InMemorySeatMapRepository implements SeatMapRepository {
+
+    private static final CompletionStage<Done> DONE = completedStage(Done.done());
+
+    private final Map<ShowId, Show> showsById = new ConcurrentHashMap<>();
+
+    @Override
+    public CompletionStage<Optional<Show>> findBy(ShowId showId) {
+        return completedFuture(Optional.ofNullable(showsById.get(showId)));
+    }
+
+    @Override
+    public CompletionStage<Done> apply(List<ShowEvent> showEvents) {
+        for (var seatMapUpdate : SeatMapUpdate.group(showEvents)) {
+            showsById.compute(seatMapUpdate.showId(), (_, show) -> seatMapUpdate.applyTo(Optional.ofNullable(show)).orElse(null));
+        }
+        return DONE;
+    }
+}
@@ -1,50 +1,118 @@
 package io.github.joamik.cinema.reservation.infrastructure;
 
 import akka.Done;
+import akka.NotUsed;
+import akka.stream.javadsl.Source;
 import io.github.joamik.cinema.reservation.application.projection.ShowView;
 import io.github.joamik.cinema.reservation.application.projection.ShowViewRepository;
 import io.github.joamik.cinema.reservation.domain.ShowId;
 
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.UUID;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
 
 import static java.util.concurrent.CompletableFuture.completedFuture;
-import static java.util.concurrent.CompletableFuture.supplyAsync;
+import static java.util.concurrent.CompletableFuture.completedStage;
 
+/**
+ * Keeps the available seats of every show and an index of the available ones, fewest available seats first.
+ * Both are updated on the calling thread, the index entry of a show is replaced while its map entry is locked,
+ * so a sold out show leaves the index in O(log n) and reads never visit sold out shows.
+ * {@link ShowView}s are created only when read.
+ */
 public class InMemoryShowViewRepository implements ShowViewRepository {
 
-    private final Map<ShowId, ShowView> showViewById = new ConcurrentHashMap<>();
+    private static final CompletionStage<Done> DONE = completedStage(Done.done()); // todo JM: isn't using Done here leaking akka abstraction?
+
+    private final Map<ShowId, Availability> availabilityById = new ConcurrentHashMap<>();
+    private final NavigableSet<Availability> availableIndex = new ConcurrentSkipListSet<>(Availability.ORDER);
 
     @Override
     public CompletionStage<List<ShowView>> findAvailable() {
-        return completedFuture(showViewById.values().stream()
-                .filter(view -> view.availableSeats() > 0)
-                .toList());
+        return completedFuture(availableIndex.stream().map(Availability::toShowView).toList());
+    }
+
+    @Override
+    public CompletionStage<List<ShowView>> findAvailable(Optional<ShowView> after, int limit) {
+        var availabilities = after.map(showView -> availableIndex.tailSet(Availability.of(showView), false)).orElse(availableIndex);
+        return completedFuture(availabilities.stream().limit(limit).map(Availability::toShowView).toList());
+    }
+
+    /**
+     * Iterates the index directly, the stream reflects updates made while it is pulled.
+     */
+    @Override
+    public Source<ShowView, NotUsed> streamAvailable() {
+        return Source.fromIterator(availableIndex::iterator).map(Availability::toShowView);
     }
 
     @Override
     public CompletionStage<Done> save(ShowId showId, int availableSeats) {
-        return supplyAsync(() -> {
-            showViewById.putIfAbsent(showId, new ShowView(showId.id().toString(), availableSeats));
-            return Done.done(); // todo JM: isn't using Done here leaking akka abstraction?
+        availabilityById.computeIfAbsent(showId, _ -> {
+            var availability = new Availability(showId, availableSeats);
+            if (availability.isAvailable()) {
+                availableIndex.add(availability);
+            }
+            return availability;
         });
+        return DONE;
     }
 
     @Override
-    public CompletionStage<Done> decrementAvailability(ShowId showId) {
-        return supplyAsync(() -> {
-            showViewById.computeIfPresent(showId, ((_, view) -> new ShowView(view.showId(), view.availableSeats() - 1)));
-            return Done.done();
-        });
+    public CompletionStage<Done> decrementAvailability(ShowId showId, int seats) {
+        return changeAvailability(showId, -seats);
     }
 
     @Override
-    public CompletionStage<Done> incrementAvailability(ShowId showId) {
-        return supplyAsync(() -> {
-            showViewById.computeIfPresent(showId, ((_, view) -> new ShowView(view.showId(), view.availableSeats() + 1)));
-            return Done.done();
+    public CompletionStage<Done> incrementAvailability(ShowId showId, int seats) {
+        return changeAvailability(showId, seats);
+    }
+
+    private CompletionStage<Done> changeAvailability(ShowId showId, int delta) {
+        availabilityById.computeIfPresent(showId, (_, availability) -> {
+            var changed = new Availability(showId, availability.seats() + delta);
+            if (availability.isAvailable()) {
+                availableIndex.remove(availability);
+            }
+            if (changed.isAvailable()) {
+                availableIndex.add(changed);
+            }
+            return changed;
         });
+        return DONE;
+    }
+
+    /**
+     * Ordered by seats, then by show id compared as unsigned, the order of the {@code uuid} type in Postgres.
+     */
+    private record Availability(ShowId showId, int seats) {
+
+        private static final Comparator<Availability> ORDER = Comparator.comparingInt(Availability::seats)
+                .thenComparing(availability -> availability.showId().id(), Availability::compareUnsigned);
+
+        static Availability of(ShowView showView) {
+            return new Availability(ShowId.of(UUID.fromString(showView.showId())), showView.availableSeats());
+        }
+
+        boolean isAvailable() {
+            return seats > 0;
+        }
+
+        ShowView toShowView() {
+            return new ShowView(showId.id().toString(), seats);
+        }
+
+        private static int compareUnsigned(UUID first, UUID second) {
+            int mostSignificant = Long.compareUnsigned(first.getMostSignificantBits(), second.getMostSignificantBits());
+            return mostSignificant != 0
+                    ? mostSignificant
+                    : Long.compareUnsigned(first.getLeastSignificantBits(), second.getLeastSignificantBits());
+        }
     }
 }
@@ -0,0 +1,98 @@
+package io.github.joamik.cinema.reservation.infrastructure;
+
+import akka.projection.ProjectionId;
+import io.github.joamik.cinema.reservation.application.projection.ProjectionPositions;
+
+import javax.sql.DataSource;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Optional;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+
+import static java.util.concurrent.CompletableFuture.supplyAsync;
+
+/**
+ * Positions read from the {@code event_journal} and {@code event_tag} tables of the journal and the {@code akka_projection_offset_store} table,
+ * only sequence offsets are supported.
+ */
+public class JdbcProjectionPositions implements ProjectionPositions {
+
+    private static final String SELECT_LATEST_ORDERING = "SELECT coalesce(max(event_id), 0) FROM event_tag WHERE tag = ?";
+    private static final String COUNT_EVENTS = "SELECT count(*) FROM event_tag WHERE tag = ? AND event_id > ? AND event_id <= ?";
+    private static final String SELECT_OFFSET = """
+            SELECT current_offset FROM akka_projection_offset_store
+            WHERE projection_name = ? AND projection_key = ? AND manifest = 'SEQ'""";
+    private static final String SELECT_ORDERING = "SELECT ordering FROM event_journal WHERE persistence_id = ? AND sequence_number = ?";
+
+    private final DataSource dataSource;
+    private final Executor executor;
+
+    /**
+     * @param executor executor for the blocking reads
+     */
+    public JdbcProjectionPositions(DataSource dataSource, Executor executor) {
+        this.dataSource = dataSource;
+        this.executor = executor;
+    }
+
+    @Override
+    public CompletionStage<Long> latestOrdering(String tag) {
+        return query(SELECT_LATEST_ORDERING, statement -> statement.setString(1, tag), resultSet -> resultSet.getLong(1));
+    }
+
+    @Override
+    public CompletionStage<Long> countEvents(String tag, long afterOrdering, long toOrdering) {
+        return query(COUNT_EVENTS, statement -> {
+            statement.setString(1, tag);
+            statement.setLong(2, afterOrdering);
+            statement.setLong(3, toOrdering);
+        }, resultSet -> resultSet.getLong(1));
+    }
+
+    @Override
+    public CompletionStage<Optional<Long>> storedOffset(ProjectionId projectionId) {
+        return query(SELECT_OFFSET, statement -> {
+            statement.setString(1, projectionId.name());
+            statement.setString(2, projectionId.key());
+        }, resultSet -> Optional.of(Long.parseLong(resultSet.getString(1))), Optional.empty());
+    }
+
+    @Override
+    public CompletionStage<Optional<Long>> ordering(String persistenceId, long sequenceNr) {
+        return query(SELECT_ORDERING, statement -> {
+            statement.setString(1, persistenceId);
+            statement.setLong(2, sequenceNr);
+        }, resultSet -> Optional.of(resultSet.getLong(1)), Optional.empty());
+    }
+
+    private <T> CompletionStage<T> query(String sql, ParameterSetter parameterSetter, RowMapper<T> rowMapper) {
+        return query(sql, parameterSetter, rowMapper, null);
+    }
+
+    private <T> CompletionStage<T> query(String sql, ParameterSetter parameterSetter, RowMapper<T> rowMapper, T noRow) {
+        return supplyAsync(() -> {
+            try (var connection = dataSource.getConnection();
+                 var statement = connection.prepareStatement(sql)) {
+                parameterSetter.set(statement);
+                try (var resultSet = statement.executeQuery()) {
+                    return resultSet.next() ? rowMapper.map(resultSet) : noRow;
+                }
+            } catch (SQLException e) {
+                throw new CompletionException(e);
+            }
+        }, executor);
+    }
+
+    private interface ParameterSetter {
+
+        void set(PreparedStatement statement) throws SQLException;
+    }
+
+    private interface RowMapper<T> {
+
+        T map(ResultSet resultSet) throws SQLException;
+    }
+}
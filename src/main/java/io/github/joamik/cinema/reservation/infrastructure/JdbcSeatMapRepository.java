@@ -0,0 +1,210 @@
+package io.github.joamik.cinema.reservation.infrastructure;
+
+import akka.Done;
+import akka.actor.typed.ActorSystem;
+import akka.actor.typed.javadsl.Adapter;
+import akka.serialization.Serialization;
+import akka.serialization.SerializationExtension;
+import akka.serialization.Serializers;
+import io.github.joamik.cinema.base.domain.Clock;
+import io.github.joamik.cinema.reservation.application.projection.SeatMapUpdate;
+import io.github.joamik.cinema.reservation.application.projection.TransactionalSeatMapRepository;
+import io.github.joamik.cinema.reservation.domain.Show;
+import io.github.joamik.cinema.reservation.domain.ShowEvent;
+import io.github.joamik.cinema.reservation.domain.ShowId;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.concurrent.CompletableFuture.supplyAsync;
+
+/**
+ * Seat map kept in the {@code show_seat_map} table, one row per show holding the show serialized like a snapshot,
+ * so the seat status of a show is stored as its layout plus the reservation bitset.
+ * Shows changed by a projection group are locked, read and written back once each.
+ * <p>
+ * Reads are served from memory: the shows written by the projections on this node are kept there once their
+ * transaction commits, other shows are loaded from the table on the first read. A show not written by this node within
+ * the time to live is loaded again, which bounds the staleness left by the projections running on other nodes.
+ * A load overlapping a write of the show is not kept, the written show is. At most {@code capacity} shows are kept,
+ * every insert above it evicts the least recently used show, and an expired least recently used show as well.
+ */
+public class JdbcSeatMapRepository implements TransactionalSeatMapRepository {
+
+    private static final String SELECT = "SELECT show_id, show_payload, show_serial_id, show_serial_manifest FROM show_seat_map WHERE show_id = ANY (?)";
+    private static final String UPSERT = """
+            INSERT INTO show_seat_map (show_id, show_payload, show_serial_id, show_serial_manifest) VALUES (?, ?, ?, ?)
+            ON CONFLICT (show_id) DO UPDATE SET show_payload = EXCLUDED.show_payload,
+                show_serial_id = EXCLUDED.show_serial_id, show_serial_manifest = EXCLUDED.show_serial_manifest""";
+
+    private final DataSource dataSource;
+    private final Executor executor;
+    private final Serialization serialization;
+    private final Clock clock;
+    private final Duration timeToLive;
+    private final Map<ShowId, Entry> entries;
+
+    /**
+     * @param executor   executor for the blocking reads and the writes made outside a projection's transaction
+     * @param capacity   maximum number of shows kept in memory
+     * @param timeToLive how long a show is served from memory without being written by this node
+     */
+    public JdbcSeatMapRepository(DataSource dataSource, Executor executor, ActorSystem<?> actorSystem, Clock clock, int capacity,
+                                 Duration timeToLive) {
+        this.dataSource = dataSource;
+        this.executor = executor;
+        this.serialization = SerializationExtension.get(Adapter.toClassic(actorSystem));
+        this.clock = clock;
+        this.timeToLive = timeToLive;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<ShowId, Entry> eldest) {
+                return size() > capacity || eldest.getValue().isExpired(clock.now(), timeToLive);
+            }
+        };
+    }
+
+    @Override
+    public CompletionStage<Optional<Show>> findBy(ShowId showId) {
+        var now = clock.now();
+        synchronized (entries) {
+            var entry = entries.get(showId);
+            if (entry != null && !entry.isLoading() && !entry.isExpired(now, timeToLive)) {
+                return completedFuture(entry.show());
+            }
+        }
+        return load(showId, now);
+    }
+
+    /**
+     * Loads the show from the table, as a projection running on another node may have written it since it was kept in memory.
+     */
+    @Override
+    public CompletionStage<Optional<Show>> findLatestBy(ShowId showId) {
+        return load(showId, clock.now());
+    }
+
+    private CompletionStage<Optional<Show>> load(ShowId showId, Instant now) {
+        var loading = Entry.loading(now);
+        synchronized (entries) {
+            entries.put(showId, loading);
+        }
+        return supplyAsync(() -> {
+            try (var connection = dataSource.getConnection()) {
+                return Optional.ofNullable(select(connection, List.of(showId), "").get(showId));
+            } catch (SQLException e) {
+                synchronized (entries) {
+                    entries.remove(showId, loading);
+                }
+                throw new CompletionException(e);
+            }
+        }, executor).thenApply(show -> {
+            synchronized (entries) {
+                entries.computeIfPresent(showId, (_, current) -> current == loading ? new Entry(show, now) : current);
+            }
+            return show;
+        });
+    }
+
+    @Override
+    public CompletionStage<Done> apply(List<ShowEvent> showEvents) {
+        return supplyAsync(() -> {
+            try (var connection = dataSource.getConnection()) {
+                connection.setAutoCommit(false);
+                try {
+                    var committed = apply(connection, showEvents);
+                    connection.commit();
+                    committed.run();
+                } catch (SQLException e) {
+                    connection.rollback();
+                    throw e;
+                }
+                return Done.done();
+            } catch (SQLException e) {
+                throw new CompletionException(e);
+            }
+        }, executor);
+    }
+
+    /**
+     * @return keeps the written shows in memory, to be run once the transaction has committed
+     */
+    @Override
+    public Runnable apply(Connection connection, List<ShowEvent> showEvents) throws SQLException {
+        var seatMapUpdates = SeatMapUpdate.group(showEvents);
+        var shows = select(connection, seatMapUpdates.stream().map(SeatMapUpdate::showId).toList(), " FOR UPDATE");
+        var written = new HashMap<ShowId, Show>();
+        try (var upsert = connection.prepareStatement(UPSERT)) {
+            for (var seatMapUpdate : seatMapUpdates) {
+                var show = seatMapUpdate.applyTo(Optional.ofNullable(shows.get(seatMapUpdate.showId())));
+                if (show.isPresent()) {
+                    var serializer = serialization.findSerializerFor(show.get());
+                    upsert.setObject(1, seatMapUpdate.showId().id());
+                    upsert.setBytes(2, serializer.toBinary(show.get()));
+                    upsert.setInt(3, serializer.identifier());
+                    upsert.setString(4, Serializers.manifestFor(serializer, show.get()));
+                    upsert.addBatch();
+                    written.put(seatMapUpdate.showId(), show.get());
+                }
+            }
+            if (!written.isEmpty()) {
+                upsert.executeBatch();
+            }
+        }
+        return () -> {
+            var now = clock.now();
+            synchronized (entries) {
+                written.forEach((showId, show) -> entries.put(showId, new Entry(Optional.of(show), now)));
+            }
+        };
+    }
+
+    private Map<ShowId, Show> select(Connection connection, List<ShowId> showIds, String lock) throws SQLException {
+        try (var statement = connection.prepareStatement(SELECT + lock)) {
+            statement.setArray(1, connection.createArrayOf("uuid", showIds.stream().map(ShowId::id).toArray()));
+            try (var resultSet = statement.executeQuery()) {
+                var shows = new HashMap<ShowId, Show>();
+                while (resultSet.next()) {
+                    shows.put(ShowId.of((UUID) resultSet.getObject(1)), deserialize(resultSet));
+                }
+                return shows;
+            }
+        }
+    }
+
+    private Show deserialize(ResultSet resultSet) throws SQLException {
+        return (Show) serialization.deserialize(resultSet.getBytes(2), resultSet.getInt(3), resultSet.getString(4)).get();
+    }
+
+    /**
+     * @param show {@code null} while the show is being loaded, empty for a show not projected yet
+     */
+    private record Entry(Optional<Show> show, Instant refreshedAt) {
+
+        private static Entry loading(Instant now) {
+            return new Entry(null, now);
+        }
+
+        private boolean isLoading() {
+            return show == null;
+        }
+
+        private boolean isExpired(Instant now, Duration timeToLive) {
+            return !isLoading() && refreshedAt.plus(timeToLive).isBefore(now);
+        }
+    }
+}
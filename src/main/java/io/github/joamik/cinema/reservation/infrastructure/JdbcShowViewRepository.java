@@ -0,0 +1,142 @@
+package io.github.joamik.cinema.reservation.infrastructure;
+
+import akka.Done;
+import io.github.joamik.cinema.reservation.application.projection.ShowView;
+import io.github.joamik.cinema.reservation.application.projection.ShowViewChange;
+import io.github.joamik.cinema.reservation.application.projection.TransactionalShowViewRepository;
+import io.github.joamik.cinema.reservation.domain.ShowId;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+
+import static java.util.concurrent.CompletableFuture.supplyAsync;
+
+/**
+ * Show view kept in the {@code show_view} table, changes of a projection group are sent as two batches:
+ * inserts of created shows and updates of the availability of the others.
+ */
+public class JdbcShowViewRepository implements TransactionalShowViewRepository {
+
+    private static final String SELECT_AVAILABLE = "SELECT show_id, available_seats FROM show_view WHERE available_seats > 0";
+    private static final String ORDERED = " ORDER BY available_seats, show_id";
+    private static final String INSERT = "INSERT INTO show_view (show_id, available_seats) VALUES (?, ?) ON CONFLICT (show_id) DO NOTHING";
+    private static final String UPDATE_AVAILABILITY = "UPDATE show_view SET available_seats = available_seats + ? WHERE show_id = ?";
+
+    private final DataSource dataSource;
+    private final Executor executor;
+
+    /**
+     * @param executor executor for the blocking reads and the writes made outside a projection's transaction
+     */
+    public JdbcShowViewRepository(DataSource dataSource, Executor executor) {
+        this.dataSource = dataSource;
+        this.executor = executor;
+    }
+
+    @Override
+    public CompletionStage<List<ShowView>> findAvailable() {
+        return query(SELECT_AVAILABLE + ORDERED, _ -> {});
+    }
+
+    @Override
+    public CompletionStage<List<ShowView>> findAvailable(Optional<ShowView> after, int limit) {
+        return after
+                .map(showView -> query(SELECT_AVAILABLE + " AND (available_seats, show_id) > (?, ?)" + ORDERED + " LIMIT ?", statement -> {
+                    statement.setInt(1, showView.availableSeats());
+                    statement.setObject(2, UUID.fromString(showView.showId()));
+                    statement.setInt(3, limit);
+                }))
+                .orElseGet(() -> query(SELECT_AVAILABLE + ORDERED + " LIMIT ?", statement -> statement.setInt(1, limit)));
+    }
+
+    @Override
+    public CompletionStage<Done> save(ShowId showId, int availableSeats) {
+        return applyAsync(new ShowViewChange(showId, true, availableSeats, 0));
+    }
+
+    @Override
+    public CompletionStage<Done> decrementAvailability(ShowId showId, int seats) {
+        return applyAsync(new ShowViewChange(showId, false, 0, -seats));
+    }
+
+    @Override
+    public CompletionStage<Done> incrementAvailability(ShowId showId, int seats) {
+        return applyAsync(new ShowViewChange(showId, false, 0, seats));
+    }
+
+    /**
+     * A show created within the changes is inserted with its availability already adjusted,
+     * the offset committed in the same transaction guarantees its events are not applied again.
+     */
+    @Override
+    public void apply(Connection connection, List<ShowViewChange> changes) throws SQLException {
+        try (var insert = connection.prepareStatement(INSERT);
+             var update = connection.prepareStatement(UPDATE_AVAILABILITY)) {
+            int inserts = 0;
+            int updates = 0;
+            for (var change : changes) {
+                if (change.created()) {
+                    insert.setObject(1, change.showId().id());
+                    insert.setInt(2, change.capacity() + change.availabilityDelta());
+                    insert.addBatch();
+                    inserts++;
+                } else if (change.availabilityDelta() != 0) {
+                    update.setInt(1, change.availabilityDelta());
+                    update.setObject(2, change.showId().id());
+                    update.addBatch();
+                    updates++;
+                }
+            }
+            if (inserts > 0) {
+                insert.executeBatch();
+            }
+            if (updates > 0) {
+                update.executeBatch();
+            }
+        }
+    }
+
+    private CompletionStage<List<ShowView>> query(String sql, ParameterSetter parameterSetter) {
+        return supplyAsync(() -> {
+            try (var connection = dataSource.getConnection();
+                 var statement = connection.prepareStatement(sql)) {
+                parameterSetter.set(statement);
+                try (var resultSet = statement.executeQuery()) {
+                    var showViews = new ArrayList<ShowView>();
+                    while (resultSet.next()) {
+                        showViews.add(new ShowView(resultSet.getObject(1).toString(), resultSet.getInt(2)));
+                    }
+                    return showViews;
+                }
+            } catch (SQLException e) {
+                throw new CompletionException(e);
+            }
+        }, executor);
+    }
+
+    private CompletionStage<Done> applyAsync(ShowViewChange change) {
+        return supplyAsync(() -> {
+            try (var connection = dataSource.getConnection()) {
+                connection.setAutoCommit(true);
+                apply(connection, List.of(change));
+                return Done.done();
+            } catch (SQLException e) {
+                throw new CompletionException(e);
+            }
+        }, executor);
+    }
+
+    private interface ParameterSetter {
+
+        void set(PreparedStatement statement) throws SQLException;
+    }
+}
@@ -0,0 +1,83 @@
+package io.github.joamik.cinema.reservation.infrastructure;
+
+import akka.actor.ExtendedActorSystem;
+import akka.serialization.JSerializer;
+import io.github.joamik.cinema.reservation.infrastructure.legacy.InitialShow;
+import io.github.joamik.cinema.reservation.infrastructure.legacy.ShowEvent;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectStreamClass;
+import java.io.UncheckedIOException;
+import java.util.Map;
+
+/**
+ * Reads show events stored with Java serialization before {@link ShowSerializer}, registered in place of the Java
+ * serializer so journal rows with its identifier stay readable while Java serialization is off. Only the classes
+ * of the show domain and the JDK value types they are built of are deserialized, nothing is ever written.
+ * Stored classes that have changed since are read as their {@code legacy} counterparts.
+ */
+public class LegacyJavaSerializer extends JSerializer {
+
+    public static final int IDENTIFIER = 1;
+
+    private static final ObjectInputFilter FILTER = ObjectInputFilter.Config.createFilter(
+            "io.github.joamik.cinema.reservation.domain.*;io.github.joamik.cinema.reservation.infrastructure.legacy.*;"
+                    + "io.github.joamik.cinema.base.domain.*;"
+                    + "java.lang.*;java.util.*;java.time.*;java.math.*;!*");
+
+    private static final Map<String, Class<?>> LEGACY_CLASSES = Map.of(
+            "io.github.joamik.cinema.reservation.domain.ShowEvent$ShowCreated", ShowEvent.ShowCreated.class,
+            "io.github.joamik.cinema.reservation.domain.InitialShow", InitialShow.class);
+
+    private final ExtendedActorSystem system;
+
+    public LegacyJavaSerializer(ExtendedActorSystem system) {
+        this.system = system;
+    }
+
+    @Override
+    public int identifier() {
+        return IDENTIFIER;
+    }
+
+    @Override
+    public boolean includeManifest() {
+        return false;
+    }
+
+    @Override
+    public byte[] toBinary(Object object) {
+        throw new IllegalArgumentException(STR."Java serialization is off, cannot serialize \{object.getClass().getName()}");
+    }
+
+    @Override
+    public Object fromBinaryJava(byte[] bytes, Class<?> manifest) {
+        try (var in = new FilteredObjectInputStream(bytes, system.dynamicAccess().classLoader())) {
+            return in.readObject();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (ClassNotFoundException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    private static class FilteredObjectInputStream extends ObjectInputStream {
+
+        private final ClassLoader classLoader;
+
+        FilteredObjectInputStream(byte[] bytes, ClassLoader classLoader) throws IOException {
+            super(new ByteArrayInputStream(bytes));
+            this.classLoader = classLoader;
+            setObjectInputFilter(FILTER);
+        }
+
+        @Override
+        protected Class<?> resolveClass(ObjectStreamClass description) throws ClassNotFoundException {
+            var legacyClass = LEGACY_CLASSES.get(description.getName());
+            return legacyClass != null ? legacyClass : Class.forName(description.getName(), false, classLoader);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package io.github.joamik.cinema.reservation.infrastructure;
+
+import akka.persistence.journal.EventSeq;
+import akka.persistence.journal.ReadEventAdapter;
+import io.github.joamik.cinema.reservation.domain.InitialShow;
+import io.github.joamik.cinema.reservation.domain.Seat;
+import io.github.joamik.cinema.reservation.domain.SeatLayout;
+import io.github.joamik.cinema.reservation.domain.SeatLayout.PriceZone;
+import io.github.joamik.cinema.reservation.domain.SeatLayout.Row;
+import io.github.joamik.cinema.reservation.domain.SeatLayout.Section;
+import io.github.joamik.cinema.reservation.domain.SeatNumber;
+import io.github.joamik.cinema.reservation.domain.ShowEvent.ShowCreated;
+import io.github.joamik.cinema.reservation.infrastructure.legacy.ShowEvent;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Upcasts show creations stored with Java serialization, read by {@link LegacyJavaSerializer}, to {@link ShowCreated}.
+ * The seats become a layout of one section, with a row per run of equally priced seats and a price zone per price.
+ * The seat statuses are dropped, a show was always created with all seats available.
+ */
+public class LegacyShowCreatedAdapter implements ReadEventAdapter {
+
+    private static final String SECTION_NAME = "1";
+
+    @Override
+    public EventSeq fromJournal(Object event, String manifest) {
+        var legacyShowCreated = (ShowEvent.ShowCreated) event;
+        var legacyInitialShow = legacyShowCreated.initialShow();
+        var initialShow = new InitialShow(legacyInitialShow.showId(), legacyInitialShow.title(), layoutOf(legacyInitialShow.seats()));
+        return EventSeq.single(new ShowCreated(legacyShowCreated.showId(), legacyShowCreated.createdAt(), initialShow));
+    }
+
+    static SeatLayout layoutOf(Map<SeatNumber, Seat> seats) {
+        var priceZones = new LinkedHashMap<BigDecimal, PriceZone>();
+        var rows = new ArrayList<Row>();
+        PriceZone rowPriceZone = null;
+        int rowSeats = 0;
+        for (Seat seat : seats.values().stream().sorted(Comparator.comparingInt(seat -> seat.number().number())).toList()) {
+            var priceZone = priceZones.computeIfAbsent(seat.price(), price -> new PriceZone(price.toPlainString(), price));
+            if (priceZone != rowPriceZone && rowSeats > 0) {
+                rows.add(new Row(String.valueOf(rows.size() + 1), rowSeats, rowPriceZone.name()));
+                rowSeats = 0;
+            }
+            rowPriceZone = priceZone;
+            rowSeats++;
+        }
+        if (rowSeats > 0) {
+            rows.add(new Row(String.valueOf(rows.size() + 1), rowSeats, rowPriceZone.name()));
+        }
+        return new SeatLayout(List.copyOf(priceZones.values()), List.of(new Section(SECTION_NAME, rows)));
+    }
+}
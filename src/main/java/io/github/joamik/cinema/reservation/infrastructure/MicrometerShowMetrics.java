@@ -0,0 +1,78 @@
+package io.github.joamik.cinema.reservation.infrastructure;
+
+import io.github.joamik.cinema.reservation.application.ShowMetrics;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * Show metrics as Micrometer timers, each backed by a histogram publishing the median, p95 and p99.
+ * Timers are registered on first use and kept, so recording does not go through the registry.
+ */
+public class MicrometerShowMetrics implements ShowMetrics {
+
+    static final String ASK = "cinema.show.ask";
+    static final String PERSIST = "cinema.show.persist";
+    static final String RECOVERY = "cinema.show.recovery";
+    static final String PROJECTION = "cinema.projection.process";
+    static final String PROJECTION_GROUP = "cinema.projection.group";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<AskKey, Timer> askTimers = new ConcurrentHashMap<>();
+    private final Map<String, Timer> persistTimers = new ConcurrentHashMap<>();
+    private final Map<String, Timer> projectionTimers = new ConcurrentHashMap<>();
+    private final Map<String, DistributionSummary> projectionGroups = new ConcurrentHashMap<>();
+    private final Timer recoverySucceeded;
+    private final Timer recoveryFailed;
+
+    public MicrometerShowMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.recoverySucceeded = timer(RECOVERY, "outcome", "succeeded");
+        this.recoveryFailed = timer(RECOVERY, "outcome", "failed");
+    }
+
+    @Override
+    public void asked(String request, String outcome, long nanos) {
+        askTimers.computeIfAbsent(new AskKey(request, outcome), key -> timer(ASK, "request", key.request(), "outcome", key.outcome()))
+                .record(nanos, NANOSECONDS);
+    }
+
+    @Override
+    public void persisted(String event, long nanos) {
+        persistTimers.computeIfAbsent(event, _ -> timer(PERSIST, "event", event)).record(nanos, NANOSECONDS);
+    }
+
+    @Override
+    public void recovered(boolean succeeded, long nanos) {
+        (succeeded ? recoverySucceeded : recoveryFailed).record(nanos, NANOSECONDS);
+    }
+
+    /**
+     * Recorded once per group of envelopes, along with the size of the group.
+     */
+    @Override
+    public void projected(String projectionName, int envelopes, long nanos) {
+        projectionTimers.computeIfAbsent(projectionName, _ -> timer(PROJECTION, "projection", projectionName)).record(nanos, NANOSECONDS);
+        projectionGroups.computeIfAbsent(projectionName, _ -> DistributionSummary.builder(PROJECTION_GROUP)
+                        .baseUnit("envelopes")
+                        .tags("projection", projectionName)
+                        .register(meterRegistry))
+                .record(envelopes);
+    }
+
+    private Timer timer(String name, String... tags) {
+        return Timer.builder(name)
+                .tags(tags)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+    }
+
+    private record AskKey(String request, String outcome) {
+
+    }
+}
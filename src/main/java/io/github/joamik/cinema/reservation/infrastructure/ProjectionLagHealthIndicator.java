@@ -0,0 +1,45 @@
+package io.github.joamik.cinema.reservation.infrastructure;
+
+import io.github.joamik.cinema.reservation.application.projection.ProjectionLag;
+import io.github.joamik.cinema.reservation.application.projection.ProjectionLagMonitor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.actuate.health.Status;
+
+import java.util.Map;
+
+/**
+ * Degraded while any projection is more than the max lag behind the journal, unknown until the projections are checked.
+ */
+public class ProjectionLagHealthIndicator implements HealthIndicator {
+
+    public static final Status DEGRADED = new Status("DEGRADED", "Projection lag above the maximum");
+
+    private final ProjectionLagMonitor projectionLagMonitor;
+    private final long maxLag;
+
+    public ProjectionLagHealthIndicator(ProjectionLagMonitor projectionLagMonitor, long maxLag) {
+        this.projectionLagMonitor = projectionLagMonitor;
+        this.maxLag = maxLag;
+    }
+
+    @Override
+    public Health health() {
+        var lags = projectionLagMonitor.lags();
+        if (lags.isEmpty()) {
+            return Health.unknown().build();
+        }
+        var health = lags.stream().anyMatch(lag -> lag.lag() > maxLag) ? Health.status(DEGRADED) : Health.up();
+        lags.forEach(lag -> health.withDetail(lag.projectionId().id(), details(lag)));
+        return health.withDetail("maxLag", maxLag).build();
+    }
+
+    private static Map<String, Object> details(ProjectionLag lag) {
+        return Map.of(
+                "offset", lag.offset(),
+                "latestOrdering", lag.latestOrdering(),
+                "lag", lag.lag(),
+                "eventsPerSecond", lag.eventsPerSecond(),
+                "sinceLastProgress", lag.sinceLastProgress().toString());
+    }
+}
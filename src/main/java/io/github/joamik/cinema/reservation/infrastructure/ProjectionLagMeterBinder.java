@@ -0,0 +1,42 @@
+package io.github.joamik.cinema.reservation.infrastructure;
+
+import akka.projection.ProjectionId;
+import io.github.joamik.cinema.reservation.application.projection.ProjectionLag;
+import io.github.joamik.cinema.reservation.application.projection.ProjectionLagMonitor;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Gauges of the last lag check of each projection, {@code NaN} while its lag is unknown.
+ */
+public class ProjectionLagMeterBinder implements MeterBinder {
+
+    static final String LAG = "cinema.projection.lag";
+    static final String THROUGHPUT = "cinema.projection.throughput";
+    static final String SINCE_LAST_PROGRESS = "cinema.projection.since.last.progress";
+
+    private final ProjectionLagMonitor projectionLagMonitor;
+
+    public ProjectionLagMeterBinder(ProjectionLagMonitor projectionLagMonitor) {
+        this.projectionLagMonitor = projectionLagMonitor;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry meterRegistry) {
+        projectionLagMonitor.projectionIds().forEach(projectionId -> {
+            gauge(meterRegistry, LAG, "events", projectionId, ProjectionLag::lag);
+            gauge(meterRegistry, THROUGHPUT, "events/s", projectionId, ProjectionLag::eventsPerSecond);
+            gauge(meterRegistry, SINCE_LAST_PROGRESS, "seconds", projectionId, lag -> lag.sinceLastProgress().toMillis() / 1000d);
+        });
+    }
+
+    private void gauge(MeterRegistry meterRegistry, String name, String baseUnit, ProjectionId projectionId, ToDoubleFunction<ProjectionLag> value) {
+        Gauge.builder(name, projectionLagMonitor, monitor -> monitor.lag(projectionId).map(value::applyAsDouble).orElse(Double.NaN))
+                .baseUnit(baseUnit)
+                .tags("projection", projectionId.name(), "key", projectionId.key())
+                .register(meterRegistry);
+    }
+}
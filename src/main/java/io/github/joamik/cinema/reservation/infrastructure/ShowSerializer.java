@@ -0,0 +1,478 @@
+package io.github.joamik.cinema.reservation.infrastructure;
+
+import akka.actor.ExtendedActorSystem;
+import akka.actor.typed.ActorRef;
+import akka.actor.typed.ActorRefResolver;
+import akka.actor.typed.javadsl.Adapter;
+import akka.serialization.SerializerWithStringManifest;
+import io.github.joamik.cinema.base.domain.PersistentBitSet;
+import io.github.joamik.cinema.reservation.application.PersistedShowEvent;
+import io.github.joamik.cinema.reservation.application.ShowEntityCommand.GetShow;
+import io.github.joamik.cinema.reservation.application.ShowEntityCommand.ShowCommandEnvelope;
+import io.github.joamik.cinema.reservation.application.ShowEntityResponse.CommandProcessed;
+import io.github.joamik.cinema.reservation.application.ShowEntityResponse.CommandRejected;
+import io.github.joamik.cinema.reservation.application.ShowEntityResponse.SeatsAllocated;
+import io.github.joamik.cinema.reservation.application.ShowSnapshot;
+import io.github.joamik.cinema.reservation.domain.InitialShow;
+import io.github.joamik.cinema.reservation.domain.SeatLayout;
+import io.github.joamik.cinema.reservation.domain.SeatLayout.PriceZone;
+import io.github.joamik.cinema.reservation.domain.SeatLayout.Row;
+import io.github.joamik.cinema.reservation.domain.SeatLayout.Section;
+import io.github.joamik.cinema.reservation.domain.SeatNumber;
+import io.github.joamik.cinema.reservation.domain.Seats;
+import io.github.joamik.cinema.reservation.domain.Show;
+import io.github.joamik.cinema.reservation.domain.ShowCommand;
+import io.github.joamik.cinema.reservation.domain.ShowCommand.CancelSeatReservation;
+import io.github.joamik.cinema.reservation.domain.ShowCommand.CancelSeatsReservation;
+import io.github.joamik.cinema.reservation.domain.ShowCommand.CreateShow;
+import io.github.joamik.cinema.reservation.domain.ShowCommand.ReserveBestSeats;
+import io.github.joamik.cinema.reservation.domain.ShowCommand.ReserveSeat;
+import io.github.joamik.cinema.reservation.domain.ShowCommand.ReserveSeats;
+import io.github.joamik.cinema.reservation.domain.ShowCommandError;
+import io.github.joamik.cinema.reservation.domain.ShowEvent;
+import io.github.joamik.cinema.reservation.domain.ShowEvent.SeatReservationCancelled;
+import io.github.joamik.cinema.reservation.domain.ShowEvent.SeatReserved;
+import io.github.joamik.cinema.reservation.domain.ShowEvent.SeatsReservationCancelled;
+import io.github.joamik.cinema.reservation.domain.ShowEvent.SeatsReserved;
+import io.github.joamik.cinema.reservation.domain.ShowEvent.ShowCreated;
+import io.github.joamik.cinema.reservation.domain.ShowId;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.NotSerializableException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Binary format of show events, snapshots and the messages sent to and from show entities.
+ * Every payload starts with a format version byte, timestamps are stored as epoch millis, ids as two longs,
+ * and seat state as the layout plus the words of the reservation bitset, skipping words with no reservation.
+ * Payloads are read by their version, so events and snapshots stored in an older version stay readable.
+ */
+public class ShowSerializer extends SerializerWithStringManifest {
+
+    public static final int IDENTIFIER = 4100;
+
+    /**
+     * Differs from version 2 only in {@link ShowCreated}, which also stored the reservations of the created show.
+     */
+    private static final byte VERSION_1 = 1;
+    private static final byte VERSION_2 = 2;
+    private static final byte VERSION = VERSION_2;
+
+    private static final String SHOW_CREATED = "ShowCreated";
+    private static final String SEAT_RESERVED = "SeatReserved";
+    private static final String SEAT_RESERVATION_CANCELLED = "SeatReservationCancelled";
+    private static final String SEATS_RESERVED = "SeatsReserved";
+    private static final String SEATS_RESERVATION_CANCELLED = "SeatsReservationCancelled";
+    private static final String SHOW = "Show";
+    private static final String CREATE_SHOW = "CreateShow";
+    private static final String RESERVE_SEAT = "ReserveSeat";
+    private static final String CANCEL_SEAT_RESERVATION = "CancelSeatReservation";
+    private static final String RESERVE_SEATS = "ReserveSeats";
+    private static final String CANCEL_SEATS_RESERVATION = "CancelSeatsReservation";
+    private static final String RESERVE_BEST_SEATS = "ReserveBestSeats";
+    private static final String SHOW_COMMAND_ENVELOPE = "ShowCommandEnvelope";
+    private static final String GET_SHOW = "GetShow";
+    private static final String COMMAND_PROCESSED = "CommandProcessed";
+    private static final String COMMAND_REJECTED = "CommandRejected";
+    private static final String SEATS_ALLOCATED = "SeatsAllocated";
+    private static final String SHOW_SNAPSHOT = "ShowSnapshot";
+    private static final String PERSISTED_SHOW_EVENT = "PersistedShowEvent";
+
+    private final ExtendedActorSystem system;
+    private ActorRefResolver actorRefResolver;
+
+    public ShowSerializer(ExtendedActorSystem system) {
+        this.system = system;
+    }
+
+    @Override
+    public int identifier() {
+        return IDENTIFIER;
+    }
+
+    @Override
+    public String manifest(Object object) {
+        return switch (object) {
+            case ShowCreated _ -> SHOW_CREATED;
+            case SeatReserved _ -> SEAT_RESERVED;
+            case SeatReservationCancelled _ -> SEAT_RESERVATION_CANCELLED;
+            case SeatsReserved _ -> SEATS_RESERVED;
+            case SeatsReservationCancelled _ -> SEATS_RESERVATION_CANCELLED;
+            case Show _ -> SHOW;
+            case ShowCommand command -> commandManifest(command);
+            case ShowCommandEnvelope _ -> SHOW_COMMAND_ENVELOPE;
+            case GetShow _ -> GET_SHOW;
+            case CommandProcessed _ -> COMMAND_PROCESSED;
+            case CommandRejected _ -> COMMAND_REJECTED;
+            case SeatsAllocated _ -> SEATS_ALLOCATED;
+            case ShowSnapshot _ -> SHOW_SNAPSHOT;
+            case PersistedShowEvent _ -> PERSISTED_SHOW_EVENT;
+            default -> throw unsupported(object);
+        };
+    }
+
+    private static String commandManifest(ShowCommand command) {
+        return switch (command) {
+            case CreateShow _ -> CREATE_SHOW;
+            case ReserveSeat _ -> RESERVE_SEAT;
+            case CancelSeatReservation _ -> CANCEL_SEAT_RESERVATION;
+            case ReserveSeats _ -> RESERVE_SEATS;
+            case CancelSeatsReservation _ -> CANCEL_SEATS_RESERVATION;
+            case ReserveBestSeats _ -> RESERVE_BEST_SEATS;
+        };
+    }
+
+    @Override
+    public byte[] toBinary(Object object) {
+        var bytes = new ByteArrayOutputStream(64);
+        try (var out = new DataOutputStream(bytes)) {
+            out.writeByte(VERSION);
+            write(out, object);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private void write(DataOutputStream out, Object object) throws IOException {
+        switch (object) {
+            case ShowCreated showCreated -> {
+                writeShowId(out, showCreated.showId());
+                writeInstant(out, showCreated.createdAt());
+                writeInitialShow(out, showCreated.initialShow());
+            }
+            case SeatReserved seatReserved -> {
+                writeShowId(out, seatReserved.showId());
+                writeInstant(out, seatReserved.createdAt());
+                out.writeInt(seatReserved.seatNumber().number());
+            }
+            case SeatReservationCancelled seatReservationCancelled -> {
+                writeShowId(out, seatReservationCancelled.showId());
+                writeInstant(out, seatReservationCancelled.createdAt());
+                out.writeInt(seatReservationCancelled.seatNumber().number());
+            }
+            case SeatsReserved seatsReserved -> {
+                writeShowId(out, seatsReserved.showId());
+                writeInstant(out, seatsReserved.createdAt());
+                writeSeatNumbers(out, seatsReserved.seatNumbers());
+            }
+            case SeatsReservationCancelled seatsReservationCancelled -> {
+                writeShowId(out, seatsReservationCancelled.showId());
+                writeInstant(out, seatsReservationCancelled.createdAt());
+                writeSeatNumbers(out, seatsReservationCancelled.seatNumbers());
+            }
+            case Show show -> writeShow(out, show);
+            case ShowCommand command -> writeCommand(out, command);
+            case ShowCommandEnvelope envelope -> {
+                out.writeUTF(commandManifest(envelope.command()));
+                writeCommand(out, envelope.command());
+                writeInstant(out, envelope.deadline());
+                writeActorRef(out, envelope.replyTo());
+            }
+            case GetShow getShow -> {
+                writeInstant(out, getShow.deadline());
+                writeActorRef(out, getShow.replyTo());
+            }
+            case CommandProcessed commandProcessed -> out.writeLong(commandProcessed.sequenceNr());
+            case CommandRejected commandRejected -> out.writeUTF(commandRejected.error().name());
+            case SeatsAllocated seatsAllocated -> {
+                writeSeatNumbers(out, seatsAllocated.seatNumbers());
+                out.writeLong(seatsAllocated.sequenceNr());
+            }
+            case ShowSnapshot showSnapshot -> {
+                out.writeBoolean(showSnapshot.show().isPresent());
+                if (showSnapshot.show().isPresent()) {
+                    writeShow(out, showSnapshot.show().get());
+                }
+                out.writeLong(showSnapshot.sequenceNr());
+            }
+            case PersistedShowEvent persistedShowEvent -> {
+                out.writeUTF(manifest(persistedShowEvent.showEvent()));
+                write(out, persistedShowEvent.showEvent());
+                out.writeLong(persistedShowEvent.sequenceNr());
+            }
+            default -> throw unsupported(object);
+        }
+    }
+
+    private static void writeCommand(DataOutputStream out, ShowCommand command) throws IOException {
+        writeShowId(out, command.showId());
+        switch (command) {
+            case CreateShow createShow -> {
+                writeNullableString(out, createShow.title());
+                out.writeInt(createShow.maxSeats());
+                out.writeBoolean(createShow.layout() != null);
+                if (createShow.layout() != null) {
+                    writeLayout(out, createShow.layout());
+                }
+            }
+            case ReserveSeat reserveSeat -> out.writeInt(reserveSeat.seatNumber().number());
+            case CancelSeatReservation cancelSeatReservation -> out.writeInt(cancelSeatReservation.seatNumber().number());
+            case ReserveSeats reserveSeats -> writeSeatNumbers(out, reserveSeats.seatNumbers());
+            case CancelSeatsReservation cancelSeatsReservation -> writeSeatNumbers(out, cancelSeatsReservation.seatNumbers());
+            case ReserveBestSeats reserveBestSeats -> out.writeInt(reserveBestSeats.count());
+        }
+    }
+
+    @Override
+    public Object fromBinary(byte[] bytes, String manifest) throws NotSerializableException {
+        try (var in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+            byte version = in.readByte();
+            return switch (version) {
+                case VERSION_1 -> readVersion1(in, manifest);
+                case VERSION_2 -> read(in, manifest);
+                default -> throw new NotSerializableException(STR."Unsupported version \{version} of \{manifest}");
+            };
+        } catch (NotSerializableException e) {
+            throw e;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * The reservations stored with a created show are skipped, a show is created with none.
+     */
+    private Object readVersion1(DataInputStream in, String manifest) throws IOException {
+        if (manifest.equals(SHOW_CREATED)) {
+            var showCreated = new ShowCreated(readShowId(in), readInstant(in), readInitialShow(in));
+            readReservations(in);
+            return showCreated;
+        }
+        return read(in, manifest);
+    }
+
+    private Object read(DataInputStream in, String manifest) throws IOException {
+        return switch (manifest) {
+            case SHOW_CREATED -> new ShowCreated(readShowId(in), readInstant(in), readInitialShow(in));
+            case SEAT_RESERVED -> new SeatReserved(readShowId(in), readInstant(in), SeatNumber.of(in.readInt()));
+            case SEAT_RESERVATION_CANCELLED -> new SeatReservationCancelled(readShowId(in), readInstant(in), SeatNumber.of(in.readInt()));
+            case SEATS_RESERVED -> new SeatsReserved(readShowId(in), readInstant(in), readSeatNumbers(in));
+            case SEATS_RESERVATION_CANCELLED -> new SeatsReservationCancelled(readShowId(in), readInstant(in), readSeatNumbers(in));
+            case SHOW -> readShow(in);
+            case SHOW_COMMAND_ENVELOPE -> new ShowCommandEnvelope(readCommand(in, in.readUTF()), readInstant(in), readActorRef(in));
+            case GET_SHOW -> new GetShow(readInstant(in), readActorRef(in));
+            case COMMAND_PROCESSED -> new CommandProcessed(in.readLong());
+            case COMMAND_REJECTED -> CommandRejected.of(ShowCommandError.valueOf(in.readUTF()));
+            case SEATS_ALLOCATED -> new SeatsAllocated(readSeatNumbers(in), in.readLong());
+            case SHOW_SNAPSHOT -> new ShowSnapshot(in.readBoolean() ? Optional.of(readShow(in)) : Optional.empty(), in.readLong());
+            case PERSISTED_SHOW_EVENT -> new PersistedShowEvent((ShowEvent) read(in, in.readUTF()), in.readLong());
+            default -> readCommand(in, manifest);
+        };
+    }
+
+    private static ShowCommand readCommand(DataInputStream in, String manifest) throws IOException {
+        var showId = readShowId(in);
+        return switch (manifest) {
+            case CREATE_SHOW -> {
+                var title = readNullableString(in);
+                int maxSeats = in.readInt();
+                var layout = in.readBoolean() ? readLayout(in) : null;
+                yield new CreateShow(showId, title, maxSeats, layout);
+            }
+            case RESERVE_SEAT -> new ReserveSeat(showId, SeatNumber.of(in.readInt()));
+            case CANCEL_SEAT_RESERVATION -> new CancelSeatReservation(showId, SeatNumber.of(in.readInt()));
+            case RESERVE_SEATS -> new ReserveSeats(showId, readSeatNumbers(in));
+            case CANCEL_SEATS_RESERVATION -> new CancelSeatsReservation(showId, readSeatNumbers(in));
+            case RESERVE_BEST_SEATS -> new ReserveBestSeats(showId, in.readInt());
+            default -> throw new NotSerializableException(STR."Unknown manifest \{manifest}");
+        };
+    }
+
+    private static void writeInitialShow(DataOutputStream out, InitialShow initialShow) throws IOException {
+        writeShowId(out, initialShow.showId());
+        out.writeUTF(initialShow.title());
+        writeLayout(out, initialShow.layout());
+    }
+
+    private static InitialShow readInitialShow(DataInputStream in) throws IOException {
+        return new InitialShow(readShowId(in), in.readUTF(), readLayout(in));
+    }
+
+    private static void writeShow(DataOutputStream out, Show show) throws IOException {
+        writeShowId(out, show.id());
+        out.writeUTF(show.title());
+        writeLayout(out, show.layout());
+        writeReservations(out, show.seats().reservations());
+    }
+
+    private static Show readShow(DataInputStream in) throws IOException {
+        var showId = readShowId(in);
+        var title = in.readUTF();
+        var layout = readLayout(in);
+        return new Show(showId, title, layout, Seats.restore(layout, readReservations(in)));
+    }
+
+    private static void writeLayout(DataOutputStream out, SeatLayout layout) throws IOException {
+        out.writeShort(layout.priceZones().size());
+        for (PriceZone priceZone : layout.priceZones()) {
+            out.writeUTF(priceZone.name());
+            writeBigDecimal(out, priceZone.price());
+        }
+        out.writeInt(layout.sections().size());
+        for (Section section : layout.sections()) {
+            out.writeUTF(section.name());
+            out.writeInt(section.rows().size());
+            for (Row row : section.rows()) {
+                out.writeUTF(row.name());
+                out.writeInt(row.seats());
+                out.writeUTF(row.priceZone());
+            }
+        }
+    }
+
+    private static SeatLayout readLayout(DataInputStream in) throws IOException {
+        int priceZoneCount = in.readUnsignedShort();
+        var priceZones = new ArrayList<PriceZone>(priceZoneCount);
+        for (int i = 0; i < priceZoneCount; i++) {
+            priceZones.add(new PriceZone(in.readUTF(), readBigDecimal(in)));
+        }
+        int sectionCount = in.readInt();
+        var sections = new ArrayList<Section>(sectionCount);
+        for (int i = 0; i < sectionCount; i++) {
+            var sectionName = in.readUTF();
+            int rowCount = in.readInt();
+            var rows = new ArrayList<Row>(rowCount);
+            for (int j = 0; j < rowCount; j++) {
+                rows.add(new Row(in.readUTF(), in.readInt(), in.readUTF()));
+            }
+            sections.add(new Section(sectionName, rows));
+        }
+        return new SeatLayout(priceZones, sections);
+    }
+
+    /**
+     * Seat count, then the number of words with at least one reservation followed by each such word and its index.
+     */
+    private static void writeReservations(DataOutputStream out, PersistentBitSet reservations) throws IOException {
+        out.writeInt(reservations.size());
+        int nonEmptyWords = 0;
+        for (int wordIndex = 0; wordIndex < reservations.wordCount(); wordIndex++) {
+            if (reservations.word(wordIndex) != 0) {
+                nonEmptyWords++;
+            }
+        }
+        out.writeInt(nonEmptyWords);
+        for (int wordIndex = 0; wordIndex < reservations.wordCount(); wordIndex++) {
+            long word = reservations.word(wordIndex);
+            if (word != 0) {
+                out.writeInt(wordIndex);
+                out.writeLong(word);
+            }
+        }
+    }
+
+    private static PersistentBitSet readReservations(DataInputStream in) throws IOException {
+        int size = in.readInt();
+        long[] words = new long[(size + 63) >>> 6];
+        int nonEmptyWords = in.readInt();
+        for (int i = 0; i < nonEmptyWords; i++) {
+            words[in.readInt()] = in.readLong();
+        }
+        return PersistentBitSet.fromWords(size, words);
+    }
+
+    private static void writeSeatNumbers(DataOutputStream out, List<SeatNumber> seatNumbers) throws IOException {
+        out.writeInt(seatNumbers.size());
+        for (SeatNumber seatNumber : seatNumbers) {
+            out.writeInt(seatNumber.number());
+        }
+    }
+
+    private static List<SeatNumber> readSeatNumbers(DataInputStream in) throws IOException {
+        int count = in.readInt();
+        var seatNumbers = new ArrayList<SeatNumber>(count);
+        for (int i = 0; i < count; i++) {
+            seatNumbers.add(SeatNumber.of(in.readInt()));
+        }
+        return seatNumbers;
+    }
+
+    private static void writeShowId(DataOutputStream out, ShowId showId) throws IOException {
+        out.writeLong(showId.id().getMostSignificantBits());
+        out.writeLong(showId.id().getLeastSignificantBits());
+    }
+
+    private static ShowId readShowId(DataInputStream in) throws IOException {
+        return ShowId.of(new UUID(in.readLong(), in.readLong()));
+    }
+
+    private static void writeInstant(DataOutputStream out, Instant instant) throws IOException {
+        out.writeLong(instant.toEpochMilli());
+    }
+
+    private static Instant readInstant(DataInputStream in) throws IOException {
+        return Instant.ofEpochMilli(in.readLong());
+    }
+
+    /**
+     * Writes a string not validated yet, which unlike {@link DataOutputStream#writeUTF} may be null or longer than 64 KB.
+     */
+    private static void writeNullableString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readNullableString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeBigDecimal(DataOutputStream out, BigDecimal value) throws IOException {
+        byte[] unscaledValue = value.unscaledValue().toByteArray();
+        out.writeInt(value.scale());
+        out.writeShort(unscaledValue.length);
+        out.write(unscaledValue);
+    }
+
+    private static BigDecimal readBigDecimal(DataInputStream in) throws IOException {
+        int scale = in.readInt();
+        byte[] unscaledValue = new byte[in.readUnsignedShort()];
+        in.readFully(unscaledValue);
+        return new BigDecimal(new BigInteger(unscaledValue), scale);
+    }
+
+    private void writeActorRef(DataOutputStream out, ActorRef<?> actorRef) throws IOException {
+        out.writeUTF(actorRefResolver().toSerializationFormat(actorRef));
+    }
+
+    private <T> ActorRef<T> readActorRef(DataInputStream in) throws IOException {
+        return actorRefResolver().resolveActorRef(in.readUTF());
+    }
+
+    /**
+     * Resolved lazily, serializers are created while the actor system is still starting.
+     */
+    private ActorRefResolver actorRefResolver() {
+        if (actorRefResolver == null) {
+            actorRefResolver = ActorRefResolver.get(Adapter.toTyped(system));
+        }
+        return actorRefResolver;
+    }
+
+    private static IllegalArgumentException unsupported(Object object) {
+        return new IllegalArgumentException(STR."Cannot serialize \{object.getClass().getName()}");
+    }
+}
@@ -0,0 +1,15 @@
+package io.github.joamik.cinema.reservation.infrastructure.legacy;
+
+import io.github.joamik.cinema.reservation.domain.Seat;
+import io.github.joamik.cinema.reservation.domain.SeatNumber;
+import io.github.joamik.cinema.reservation.domain.ShowId;
+
+import java.io.Serializable;
+import java.util.Map;
+
+/**
+ * Initial show of {@link ShowEvent.ShowCreated} stored with Java serialization, with every seat instead of a layout.
+ */
+public record InitialShow(ShowId showId, String title, Map<SeatNumber, Seat> seats) implements Serializable {
+
+}
@@ -0,0 +1,23 @@
+package io.github.joamik.cinema.reservation.infrastructure.legacy;
+
+import io.github.joamik.cinema.reservation.domain.ShowId;
+
+import java.io.Serializable;
+import java.time.Instant;
+
+/**
+ * Show events stored with Java serialization that no longer match the domain events. Java serialization matches
+ * classes by their simple name, so the names mirror the domain ones.
+ */
+public final class ShowEvent {
+
+    private ShowEvent() {
+    }
+
+    /**
+     * Show creation with every seat of the show, before shows were created from a seat layout.
+     */
+    public record ShowCreated(ShowId showId, Instant createdAt, InitialShow initialShow) implements Serializable {
+
+    }
+}
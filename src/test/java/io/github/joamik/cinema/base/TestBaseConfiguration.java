@@ -1,6 +1,7 @@
 package io.github.joamik.cinema.base;
 
 import akka.persistence.testkit.PersistenceTestKitPlugin;
+import akka.persistence.testkit.PersistenceTestKitSnapshotPlugin;
 import com.typesafe.config.Config;
 import com.typesafe.config.ConfigFactory;
 import org.springframework.context.annotation.Bean;
@@ -13,6 +14,8 @@ public class TestBaseConfiguration {
     @Bean
     @Primary
     public Config testConfig() {
-        return PersistenceTestKitPlugin.config().withFallback(ConfigFactory.load());
+        return PersistenceTestKitPlugin.config()
+                .withFallback(PersistenceTestKitSnapshotPlugin.config())
+                .withFallback(ConfigFactory.load());
     }
 }
@@ -0,0 +1,120 @@
+package io.github.joamik.cinema.base.domain;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.BitSet;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+class PersistentBitSetTest {
+
+    private static final Random RANDOM = new Random();
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 100, 1024, 1025, 50_000, 40_000_000})
+    void shouldBehaveLikeBitSet(int size) {
+        // given
+        var expected = new BitSet(size);
+        var bitSet = PersistentBitSet.empty(size);
+
+        // when
+        for (int i = 0; i < 2_000; i++) {
+            int index = RANDOM.nextInt(size);
+            if (RANDOM.nextBoolean()) {
+                expected.set(index);
+                bitSet = bitSet.set(index);
+            } else {
+                expected.clear(index);
+                bitSet = bitSet.clear(index);
+            }
+        }
+
+        // then
+        assertThat(bitSet.cardinality()).isEqualTo(expected.cardinality());
+        for (int index = expected.nextSetBit(0); index >= 0; index = expected.nextSetBit(index + 1)) {
+            assertThat(bitSet.get(index)).isTrue();
+        }
+        for (int i = 0; i < 200; i++) {
+            int from = RANDOM.nextInt(size);
+            int expectedNextSet = expected.nextSetBit(from);
+            assertThat(bitSet.nextSetBit(from)).isEqualTo(expectedNextSet < 0 ? size : expectedNextSet);
+            assertThat(bitSet.nextClearBit(from)).isEqualTo(Math.min(expected.nextClearBit(from), size));
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 64, 100, 1024, 1025, 50_000})
+    void shouldRebuildFromWords(int size) {
+        // given
+        var bitSet = PersistentBitSet.empty(size);
+        for (int i = 0; size > 0 && i < 500; i++) {
+            bitSet = bitSet.set(RANDOM.nextInt(size));
+        }
+        var words = new long[bitSet.wordCount()];
+        for (int wordIndex = 0; wordIndex < words.length; wordIndex++) {
+            words[wordIndex] = bitSet.word(wordIndex);
+        }
+
+        // when
+        var rebuilt = PersistentBitSet.fromWords(size, words);
+
+        // then
+        assertThat(rebuilt).isEqualTo(bitSet);
+        assertThat(rebuilt.cardinality()).isEqualTo(bitSet.cardinality());
+        if (size > 0) {
+            assertThat(rebuilt.set(size - 1).get(size - 1)).isTrue();
+        }
+    }
+
+    @Test
+    void shouldNotChangePreviousVersion() {
+        // given
+        var bitSet = PersistentBitSet.empty(50_000).set(10);
+
+        // when
+        var updated = bitSet.set(40_000).clear(10);
+
+        // then
+        assertThat(bitSet.get(10)).isTrue();
+        assertThat(bitSet.get(40_000)).isFalse();
+        assertThat(updated.get(10)).isFalse();
+        assertThat(updated.get(40_000)).isTrue();
+    }
+
+    @Test
+    void shouldReturnSameInstanceWhenNothingChanges() {
+        // given
+        var bitSet = PersistentBitSet.empty(100).set(5);
+
+        // when // then
+        assertThat(bitSet.set(5)).isSameAs(bitSet);
+        assertThat(bitSet.clear(6)).isSameAs(bitSet);
+    }
+
+    @Test
+    void shouldCompareByContent() {
+        // given
+        var first = PersistentBitSet.empty(5_000).set(1).set(4_999);
+        var second = PersistentBitSet.empty(5_000).set(4_999).set(3).set(1).clear(3);
+
+        // when // then
+        assertThat(first).isEqualTo(second);
+        assertThat(first.hashCode()).isEqualTo(second.hashCode());
+    }
+
+    @Test
+    void shouldRejectIndexOutOfBounds() {
+        // given
+        var bitSet = PersistentBitSet.empty(64);
+
+        // when
+        var throwable = catchThrowable(() -> bitSet.set(64));
+
+        // then
+        assertThat(throwable).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+}
@@ -0,0 +1,28 @@
+package io.github.joamik.cinema.reservation;
+
+import io.github.joamik.cinema.reservation.application.ShowPersistenceMode;
+import io.github.joamik.cinema.reservation.application.projection.ReadModelStorage;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReservationPropertiesTest {
+
+    @Test
+    void shouldBindDefaultsOfEverySettingsGroup() {
+        // when
+        var properties = ReservationProperties.defaults();
+
+        // then
+        assertThat(properties.showService().toShowServiceProperties().getAskTimeout()).isEqualTo(Duration.ofMillis(500));
+        assertThat(properties.showService().cacheCapacity()).isEqualTo(10_000);
+        assertThat(properties.showService().toShowAdmissionProperties().getShowLimit()).isEqualTo(100);
+        assertThat(properties.showEntity().persistenceMode()).isEqualTo(ShowPersistenceMode.EVENT_SOURCED);
+        assertThat(properties.showEntity().toShowEntityProperties().getEventTagSlices()).isEqualTo(4);
+        assertThat(properties.showView().storage()).isEqualTo(ReadModelStorage.JDBC);
+        assertThat(properties.seatMap().timeToLive()).isEqualTo(Duration.ofSeconds(5));
+        assertThat(properties.projection().maxLag()).isEqualTo(1_000);
+    }
+}
@@ -0,0 +1,51 @@
+package io.github.joamik.cinema.reservation.api;
+
+import akka.actor.typed.ActorSystem;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.annotation.DirtiesContext.ClassMode;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+@SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT)
+@DirtiesContext(classMode = ClassMode.AFTER_EACH_TEST_METHOD)
+class ProjectionControllerItTest {
+
+    @Autowired
+    private WebTestClient webClient;
+
+    @Autowired
+    private ActorSystem<?> actorSystem;
+
+    @AfterEach
+    void tearDown() {
+        actorSystem.terminate();
+    }
+
+    @Test
+    void shouldNotPauseUnknownProjection() {
+        // when // then
+        webClient.post().uri("/admin/projections/show-view/{key}/pause", "ShowEvent-99")
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    void shouldNotPauseUnknownSeatMapProjection() {
+        // when // then
+        webClient.post().uri("/admin/projections/seat-map/{key}/pause", "ShowEvent-99")
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    void shouldNotListSlicesOfUnknownProjection() {
+        // when // then
+        webClient.get().uri("/admin/projections/{name}", "show-history")
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+}
@@ -1,6 +1,12 @@
 package io.github.joamik.cinema.reservation.api;
 
 import akka.actor.typed.ActorSystem;
+import io.github.joamik.cinema.reservation.application.projection.SeatMapRepository;
+import io.github.joamik.cinema.reservation.domain.InitialShow;
+import io.github.joamik.cinema.reservation.domain.SeatLayout;
+import io.github.joamik.cinema.reservation.domain.SeatNumber;
+import io.github.joamik.cinema.reservation.domain.ShowEvent.SeatReserved;
+import io.github.joamik.cinema.reservation.domain.ShowEvent.ShowCreated;
 import org.hamcrest.BaseMatcher;
 import org.hamcrest.Description;
 import org.junit.jupiter.api.AfterEach;
@@ -13,10 +19,20 @@ import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.annotation.DirtiesContext.ClassMode;
 import org.springframework.test.web.reactive.server.WebTestClient;
 
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+
+import static io.github.joamik.cinema.reservation.application.Await.await;
 import static io.github.joamik.cinema.reservation.domain.ShowFixture.randomSeatNumber;
 import static io.github.joamik.cinema.reservation.domain.ShowFixture.randomShowId;
+import static org.assertj.core.api.Assertions.assertThat;
 
-@SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT)
+@SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT, properties = {
+        "cinema.reservation.showService.askTimeMilliseconds=5000",
+        "cinema.reservation.seatMap.storage=IN_MEMORY",
+        "cinema.reservation.projection.awaitMilliseconds=100"})
 @DirtiesContext(classMode = ClassMode.AFTER_EACH_TEST_METHOD)
 class ShowControllerItTest {
 
@@ -26,6 +42,9 @@ class ShowControllerItTest {
     @Autowired
     private ActorSystem<?> actorSystem;
 
+    @Autowired
+    private SeatMapRepository seatMapRepository;
+
     @AfterEach
     void tearDown() {
         actorSystem.terminate();
@@ -40,6 +59,25 @@ class ShowControllerItTest {
         createShow(createShowRequest);
     }
 
+    @Test
+    void shouldCreateShowWithSeatLayout() {
+        // given
+        var layout = new CreateShowRequest.Layout(
+                List.of(new CreateShowRequest.PriceZone("standard", BigDecimal.valueOf(80))),
+                List.of(new CreateShowRequest.Section("A", List.of(new CreateShowRequest.Row("1", 20, "standard")))));
+        var createShowRequest = new CreateShowRequest(randomShowId().id(), "Title", 0, layout);
+        createShow(createShowRequest);
+
+        // when // then
+        webClient.get().uri("/shows/{showId}", createShowRequest.id())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.seats.length()").isEqualTo(20)
+                .jsonPath("$.seats[19].section").isEqualTo("A")
+                .jsonPath("$.seats[19].price").isEqualTo(80);
+    }
+
     @Test
     void shouldNotFindNotExistingShow() {
         // given
@@ -79,6 +117,52 @@ class ShowControllerItTest {
                 });
     }
 
+    @Test
+    void shouldGetShowFromSeatMapUnlessConsistentReadIsRequested() throws ExecutionException, InterruptedException {
+        // given
+        var showId = randomShowId();
+        await(seatMapRepository.apply(List.of(
+                new ShowCreated(showId, Instant.now(), new InitialShow(showId, "Title", SeatLayout.singleRow(10, BigDecimal.TEN))),
+                new SeatReserved(showId, Instant.now(), SeatNumber.of(1)))));
+
+        // when // then
+        webClient.get().uri("/shows/{showId}", showId.id())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.seats[0].status").isEqualTo("RESERVED");
+
+        // when // then
+        webClient.get().uri("/shows/{showId}?consistent=true", showId.id())
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    void shouldReadOwnReservationGivenItsSequenceNumber() {
+        // given
+        var createShowRequest = new CreateShowRequest(randomShowId().id(), "Title", 10);
+        createShow(createShowRequest);
+        var showId = createShowRequest.id().toString();
+
+        // when
+        var reserveResponse = webClient.patch().uri("/shows/{showId}/seats/{seatNumber}", showId, 1)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"action\": \"RESERVE\"}")
+                .exchange()
+                .expectStatus().isAccepted()
+                .expectBody(ReserveResponse.class)
+                .returnResult().getResponseBody();
+
+        // then
+        assertThat(reserveResponse.sequenceNr()).isEqualTo(2);
+        webClient.get().uri("/shows/{showId}?minSeq={minSeq}", showId, reserveResponse.sequenceNr())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.seats[0].status").isEqualTo("RESERVED");
+    }
+
     @Test
     void shouldReserveSeat() {
         // given
@@ -141,6 +225,74 @@ class ShowControllerItTest {
                 .expectStatus().isAccepted();
     }
 
+    @Test
+    void shouldReserveMultipleSeats() {
+        // given
+        var createShowRequest = new CreateShowRequest(randomShowId().id(), "Title", 10);
+        createShow(createShowRequest);
+        var showId = createShowRequest.id().toString();
+
+        // when // then
+        webClient.patch().uri("/shows/{showId}/seats", showId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"action\": \"RESERVE\", \"seatNumbers\": [1, 2, 3]}")
+                .exchange()
+                .expectStatus().isAccepted();
+
+        // when // then
+        webClient.patch().uri("/shows/{showId}/seats", showId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"action\": \"RESERVE\", \"seatNumbers\": [3, 4]}")
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    void shouldRejectMultipleSeatsRequestWithoutSeatNumbers() {
+        // given
+        var createShowRequest = new CreateShowRequest(randomShowId().id(), "Title", 10);
+        createShow(createShowRequest);
+        var showId = createShowRequest.id().toString();
+
+        // when // then
+        webClient.patch().uri("/shows/{showId}/seats", showId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"action\": \"RESERVE\"}")
+                .exchange()
+                .expectStatus().isBadRequest();
+
+        // when // then
+        webClient.patch().uri("/shows/{showId}/seats", showId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"action\": \"RESERVE\", \"seatNumbers\": [1, null]}")
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    void shouldReserveBestAvailableSeats() {
+        // given
+        var createShowRequest = new CreateShowRequest(randomShowId().id(), "Title", 10);
+        createShow(createShowRequest);
+        var showId = createShowRequest.id().toString();
+
+        // when // then
+        webClient.post().uri("/shows/{showId}/seats/best-available", showId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"count\": 3}")
+                .exchange()
+                .expectStatus().isAccepted()
+                .expectBody(BestSeatsResponse.class)
+                .value(response -> assertThat(response.seatNumbers()).containsExactly(1, 2, 3));
+
+        // when // then
+        webClient.post().uri("/shows/{showId}/seats/best-available", showId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"count\": 8}")
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
     private void createShow(CreateShowRequest createShowRequest) {
         webClient.post().uri("/shows")
                 .bodyValue(createShowRequest)
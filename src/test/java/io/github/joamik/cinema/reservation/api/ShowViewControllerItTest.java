@@ -0,0 +1,112 @@
+package io.github.joamik.cinema.reservation.api;
+
+import akka.actor.typed.ActorSystem;
+import io.github.joamik.cinema.reservation.application.projection.ShowViewRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.http.MediaType;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.annotation.DirtiesContext.ClassMode;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.util.concurrent.ExecutionException;
+import java.util.stream.IntStream;
+
+import static io.github.joamik.cinema.reservation.application.Await.await;
+import static io.github.joamik.cinema.reservation.domain.ShowFixture.randomShowId;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT, properties = "cinema.reservation.showView.storage=IN_MEMORY")
+@DirtiesContext(classMode = ClassMode.AFTER_EACH_TEST_METHOD)
+class ShowViewControllerItTest {
+
+    @Autowired
+    private WebTestClient webClient;
+
+    @Autowired
+    private ActorSystem<?> actorSystem;
+
+    @Autowired
+    private ShowViewRepository showViewRepository;
+
+    @AfterEach
+    void tearDown() {
+        actorSystem.terminate();
+    }
+
+    @Test
+    void shouldPageThroughAvailableShows() throws ExecutionException, InterruptedException {
+        // given
+        var soldOut = randomShowId();
+        var almostSoldOut = randomShowId();
+        var available = randomShowId();
+        await(showViewRepository.save(soldOut, 0));
+        await(showViewRepository.save(almostSoldOut, 1));
+        await(showViewRepository.save(available, 100));
+
+        // when
+        var firstPage = webClient.get().uri("/show-views?limit=1")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(ShowViewPageResponse.class)
+                .returnResult().getResponseBody();
+
+        // then
+        assertThat(firstPage.showViews()).containsExactly(new ShowViewResponse(almostSoldOut.id().toString(), 1));
+
+        // when // then
+        webClient.get().uri("/show-views?limit=1&after={next}", firstPage.next())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.showViews[0].showId").isEqualTo(available.id().toString())
+                .jsonPath("$.next").isNotEmpty();
+
+        // when // then
+        webClient.get().uri("/show-views/almost-sold-out?limit=5")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(2)
+                .jsonPath("$[0].showId").isEqualTo(almostSoldOut.id().toString());
+    }
+
+    @Test
+    void shouldStreamAvailableShowsAsNdjson() throws ExecutionException, InterruptedException {
+        // given
+        var showIds = IntStream.range(0, 300).mapToObj(_ -> randomShowId()).toList();
+        for (var showId : showIds) {
+            await(showViewRepository.save(showId, 10));
+        }
+
+        // when
+        var streamed = webClient.get().uri("/show-views")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .returnResult(ShowViewResponse.class)
+                .getResponseBody();
+
+        // then
+        assertThat(streamed.collectList().block())
+                .extracting(ShowViewResponse::showId)
+                .containsExactlyInAnyOrderElementsOf(showIds.stream().map(showId -> showId.id().toString()).toList());
+    }
+
+    @Test
+    void shouldRejectMalformedCursorAndMinSeqWithoutShow() {
+        // when // then
+        webClient.get().uri("/show-views?after={after}", "not-a-cursor")
+                .exchange()
+                .expectStatus().isBadRequest();
+
+        // when // then
+        webClient.get().uri("/show-views/almost-sold-out?minSeq=2")
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+}
@@ -0,0 +1,150 @@
+package io.github.joamik.cinema.reservation.application;
+
+import akka.actor.testkit.typed.javadsl.ActorTestKit;
+import akka.persistence.testkit.PersistenceTestKitDurableStateStorePlugin;
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+import io.github.joamik.cinema.base.domain.Clock;
+import io.github.joamik.cinema.reservation.application.ShowEntityCommand.GetShow;
+import io.github.joamik.cinema.reservation.application.ShowEntityCommand.ShowCommandEnvelope;
+import io.github.joamik.cinema.reservation.application.ShowEntityResponse.CommandProcessed;
+import io.github.joamik.cinema.reservation.application.ShowEntityResponse.CommandRejected;
+import io.github.joamik.cinema.reservation.application.ShowEntityResponse.SeatsAllocated;
+import io.github.joamik.cinema.reservation.domain.SeatNumber;
+import io.github.joamik.cinema.reservation.domain.ShowCommand.ReserveBestSeats;
+import io.github.joamik.cinema.reservation.domain.ShowCommandError;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static io.github.joamik.cinema.reservation.domain.ShowCommandFixture.randomCreateShow;
+import static io.github.joamik.cinema.reservation.domain.ShowCommandFixture.randomReserveSeat;
+import static io.github.joamik.cinema.reservation.domain.ShowFixture.randomShowId;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DurableShowEntityTest {
+
+    private static final Config UNIT_TEST_AKKA_CONFIGURATION = ConfigFactory.parseString("""
+                akka.actor.allow-java-serialization=off
+                akka.loglevel=INFO
+            """).withFallback(ConfigFactory.parseResources("serialization.conf"));
+
+    private static final ActorTestKit testKit = ActorTestKit.create(PersistenceTestKitDurableStateStorePlugin.config()
+            .withFallback(UNIT_TEST_AKKA_CONFIGURATION));
+
+    private final Clock clock = Clock.fixed(Instant.parse("2024-03-16T21:32:05Z"));
+
+    @AfterAll
+    public static void cleanUp() {
+        testKit.shutdownTestKit();
+    }
+
+    @Test
+    void shouldReserveSeatAndKeepStateAfterRestart() {
+        // given
+        var showId = randomShowId();
+        var showEntityRef = testKit.spawn(DurableShowEntity.create(showId, clock));
+        var commandResponseProbe = testKit.<ShowEntityResponse>createTestProbe();
+        var showResponseProbe = testKit.<ShowSnapshot>createTestProbe();
+        var reserveSeat = randomReserveSeat(showId);
+        showEntityRef.tell(new ShowCommandEnvelope(randomCreateShow(showId), commandResponseProbe.ref()));
+        commandResponseProbe.expectMessageClass(CommandProcessed.class);
+
+        // when
+        showEntityRef.tell(new ShowCommandEnvelope(reserveSeat, commandResponseProbe.ref()));
+
+        // then
+        commandResponseProbe.expectMessageClass(CommandProcessed.class);
+
+        // when
+        testKit.stop(showEntityRef);
+        var restartedEntityRef = testKit.spawn(DurableShowEntity.create(showId, clock));
+        restartedEntityRef.tell(new GetShow(showResponseProbe.ref()));
+
+        // then
+        var returnedShow = showResponseProbe.receiveMessage().show().orElseThrow();
+        assertThat(returnedShow.seats().isReserved(reserveSeat.seatNumber())).isTrue();
+        assertThat(returnedShow.seats().availableCount()).isEqualTo(returnedShow.seats().size() - 1);
+    }
+
+    @Test
+    void shouldRejectReservationOfReservedSeat() {
+        // given
+        var showId = randomShowId();
+        var showEntityRef = testKit.spawn(DurableShowEntity.create(showId, clock));
+        var commandResponseProbe = testKit.<ShowEntityResponse>createTestProbe();
+        var reserveSeat = randomReserveSeat(showId);
+        showEntityRef.tell(new ShowCommandEnvelope(randomCreateShow(showId), commandResponseProbe.ref()));
+        showEntityRef.tell(new ShowCommandEnvelope(reserveSeat, commandResponseProbe.ref()));
+        commandResponseProbe.expectMessageClass(CommandProcessed.class);
+        commandResponseProbe.expectMessageClass(CommandProcessed.class);
+
+        // when
+        showEntityRef.tell(new ShowCommandEnvelope(reserveSeat, commandResponseProbe.ref()));
+
+        // then
+        commandResponseProbe.expectMessage(CommandRejected.of(ShowCommandError.SEAT_NOT_AVAILABLE));
+    }
+
+    @Test
+    void shouldReplyWithAllocatedBestSeats() {
+        // given
+        var showId = randomShowId();
+        var showEntityRef = testKit.spawn(DurableShowEntity.create(showId, clock));
+        var commandResponseProbe = testKit.<ShowEntityResponse>createTestProbe();
+        showEntityRef.tell(new ShowCommandEnvelope(randomCreateShow(showId), commandResponseProbe.ref()));
+        commandResponseProbe.expectMessageClass(CommandProcessed.class);
+
+        // when
+        showEntityRef.tell(new ShowCommandEnvelope(new ReserveBestSeats(showId, 2), commandResponseProbe.ref()));
+
+        // then
+        var seatsAllocated = commandResponseProbe.expectMessageClass(SeatsAllocated.class);
+        assertThat(seatsAllocated.seatNumbers()).containsExactly(SeatNumber.of(1), SeatNumber.of(2));
+    }
+
+    @Test
+    void shouldRejectCommandForNotExistingShow() {
+        // given
+        var showId = randomShowId();
+        var showEntityRef = testKit.spawn(DurableShowEntity.create(showId, clock));
+        var commandResponseProbe = testKit.<ShowEntityResponse>createTestProbe();
+
+        // when
+        showEntityRef.tell(new ShowCommandEnvelope(randomReserveSeat(showId), commandResponseProbe.ref()));
+
+        // then
+        commandResponseProbe.expectMessage(CommandRejected.of(ShowCommandError.SHOW_NOT_EXISTS));
+    }
+
+    @Test
+    void shouldTimePersistOfEvents() {
+        // given
+        var showId = randomShowId();
+        var metrics = new RecordingShowMetrics();
+        var showEntityRef = testKit.spawn(DurableShowEntity.create(showId, clock, metrics));
+        var commandResponseProbe = testKit.<ShowEntityResponse>createTestProbe();
+
+        // when
+        showEntityRef.tell(new ShowCommandEnvelope(randomCreateShow(showId), commandResponseProbe.ref()));
+        commandResponseProbe.expectMessageClass(CommandProcessed.class);
+        showEntityRef.tell(new ShowCommandEnvelope(randomReserveSeat(showId), commandResponseProbe.ref()));
+        commandResponseProbe.expectMessageClass(CommandProcessed.class);
+
+        // then
+        assertThat(metrics.persistedEvents).containsExactly("ShowCreated", "SeatReserved");
+    }
+
+    private static class RecordingShowMetrics implements ShowMetrics {
+
+        private final List<String> persistedEvents = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void persisted(String event, long nanos) {
+            persistedEvents.add(event);
+        }
+    }
+}
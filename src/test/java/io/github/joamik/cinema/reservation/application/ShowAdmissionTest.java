@@ -0,0 +1,94 @@
+package io.github.joamik.cinema.reservation.application;
+
+import io.github.joamik.cinema.reservation.domain.ShowId;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static io.github.joamik.cinema.reservation.domain.ShowFixture.randomShowId;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ShowAdmissionTest {
+
+    private static final long FAST = Duration.ofMillis(10).toNanos();
+    private static final long SLOW = Duration.ofMillis(200).toNanos();
+
+    private final ShowAdmission showAdmission = new ShowAdmission(new ShowAdmissionProperties(5, 3, 1, 100));
+
+    @Test
+    void shouldRejectRequestsAboveShowLimit() {
+        // given
+        var showId = randomShowId();
+        var otherShowId = randomShowId();
+
+        // when
+        var admitted = acquire(showId, 4);
+
+        // then
+        assertThat(admitted).isEqualTo(3);
+        assertThat(showAdmission.tryAcquire(otherShowId)).isTrue();
+    }
+
+    @Test
+    void shouldRejectRequestsAboveNodeLimit() {
+        // given
+        acquire(randomShowId(), 3);
+        acquire(randomShowId(), 2);
+
+        // when // then
+        assertThat(showAdmission.tryAcquire(randomShowId())).isFalse();
+        assertThat(showAdmission.inFlight()).isEqualTo(5);
+    }
+
+    @Test
+    void shouldDecreaseLimitOfSlowShowAndRecoverWhenFastAgain() {
+        // given
+        var showId = randomShowId();
+        acquire(showId, 3);
+
+        // when
+        showAdmission.release(showId, SLOW, false);
+        showAdmission.release(showId, SLOW, false);
+        showAdmission.release(showId, FAST, true);
+
+        // then
+        assertThat(showAdmission.limit(showId)).isEqualTo(2);
+        assertThat(showAdmission.inFlight()).isZero();
+
+        // when
+        for (int i = 0; i < 3; i++) {
+            acquire(showId, 2);
+            showAdmission.release(showId, FAST, false);
+            showAdmission.release(showId, FAST, false);
+        }
+
+        // then
+        assertThat(showAdmission.limit(showId)).isEqualTo(3);
+    }
+
+    @Test
+    void shouldReleasePermitsOfRequestThrowingWhenSent() {
+        // given
+        var showId = randomShowId();
+
+        // when
+        var response = showAdmission.<String>admit(showId, () -> {
+            throw new IllegalStateException("Sharding not started");
+        });
+
+        // then
+        assertThat(response.toCompletableFuture()).isCompletedExceptionally();
+        assertThat(showAdmission.inFlight()).isZero();
+        assertThat(acquire(showId, 3)).isEqualTo(3);
+    }
+
+    private int acquire(ShowId showId, int requests) {
+        int admitted = 0;
+        for (int i = 0; i < requests; i++) {
+            if (showAdmission.tryAcquire(showId)) {
+                admitted++;
+            }
+        }
+        return admitted;
+    }
+}
@@ -0,0 +1,154 @@
+package io.github.joamik.cinema.reservation.application;
+
+import io.github.joamik.cinema.reservation.domain.SeatNumber;
+import io.github.joamik.cinema.reservation.domain.Show;
+import io.github.joamik.cinema.reservation.domain.ShowId;
+import io.github.joamik.cinema.reservation.domain.ShowEvent.SeatReserved;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Optional;
+
+import static io.github.joamik.cinema.reservation.domain.ShowFixture.randomShow;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ShowCacheTest {
+
+    private Instant now = Instant.now();
+    private final ShowCache showCache = new ShowCache(2, Duration.ofSeconds(5), () -> now);
+
+    @Test
+    void shouldApplyNextEventsToCachedShow() {
+        // given
+        var show = randomShow();
+        cache(show, 1);
+
+        // when
+        showCache.apply(seatReserved(show, 1, 2));
+        showCache.apply(seatReserved(show, 1, 2));
+
+        // then
+        var cachedShow = showCache.get(show.id(), 2).orElseThrow();
+        assertThat(cachedShow.seats().availableCount()).isEqualTo(show.seats().availableCount() - 1);
+    }
+
+    @Test
+    void shouldDropCachedShowOnMissedEvent() {
+        // given
+        var show = randomShow();
+        cache(show, 1);
+
+        // when
+        showCache.apply(seatReserved(show, 2, 3));
+
+        // then
+        assertThat(showCache.get(show.id(), 0)).isEmpty();
+    }
+
+    @Test
+    void shouldNotCacheSnapshotOlderThanEventPublishedWhileLoading() {
+        // given
+        var show = randomShow();
+        showCache.loading(show.id());
+        showCache.apply(seatReserved(show, 1, 2));
+
+        // when
+        showCache.loaded(show.id(), new ShowSnapshot(Optional.of(show), 1));
+
+        // then
+        assertThat(showCache.get(show.id(), 0)).isEmpty();
+    }
+
+    @Test
+    void shouldNotServeShowOlderThanRequestedOrExpired() {
+        // given
+        var show = randomShow();
+        cache(show, 1);
+
+        // when // then
+        assertThat(showCache.get(show.id(), 2)).isEmpty();
+        assertThat(showCache.get(show.id(), 1)).contains(show);
+
+        // when
+        now = now.plusSeconds(6);
+
+        // then
+        assertThat(showCache.get(show.id(), 1)).isEmpty();
+    }
+
+    @Test
+    void shouldKeepAtMostCapacityShows() {
+        // given
+        cache(randomShow(), 1);
+        cache(randomShow(), 1);
+
+        // when
+        cache(randomShow(), 1);
+
+        // then
+        assertThat(showCache.size()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsedShow() {
+        // given
+        var first = randomShow();
+        var second = randomShow();
+        cache(first, 1);
+        cache(second, 1);
+        showCache.get(first.id(), 1);
+
+        // when
+        var third = randomShow();
+        showCache.loading(third.id());
+
+        // then
+        assertThat(showCache.get(first.id(), 1)).contains(first);
+        assertThat(showCache.get(second.id(), 1)).isEmpty();
+        assertThat(showCache.size()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldFollowShowsWhileCached() {
+        // given
+        var followed = new ArrayList<ShowId>();
+        var followingShowCache = new ShowCache(1, Duration.ofSeconds(5), () -> now, new ShowEventSubscriptions() {
+            @Override
+            public void follow(ShowId showId) {
+                followed.add(showId);
+            }
+
+            @Override
+            public void unfollow(ShowId showId) {
+                followed.remove(showId);
+            }
+        });
+        var show = randomShow();
+        var otherShow = randomShow();
+
+        // when
+        followingShowCache.loading(show.id());
+        followingShowCache.loaded(show.id(), new ShowSnapshot(Optional.of(show), 1));
+
+        // then
+        assertThat(followed).containsExactly(show.id());
+
+        // when
+        followingShowCache.loading(otherShow.id());
+        followingShowCache.failed(otherShow.id());
+
+        // then
+        assertThat(followed).isEmpty();
+    }
+
+    private void cache(Show show, long sequenceNr) {
+        showCache.loading(show.id());
+        showCache.loaded(show.id(), new ShowSnapshot(Optional.of(show), sequenceNr));
+    }
+
+    private static PersistedShowEvent seatReserved(Show show, int seatNumber, long sequenceNr) {
+        return new PersistedShowEvent(new SeatReserved(show.id(), Instant.now(), SeatNumber.of(seatNumber)), sequenceNr);
+    }
+}
@@ -2,7 +2,10 @@ package io.github.joamik.cinema.reservation.application;
 
 import akka.actor.testkit.typed.javadsl.ActorTestKit;
 import akka.actor.typed.ActorRef;
+import akka.actor.typed.eventstream.EventStream;
+import akka.persistence.testkit.PersistenceTestKitSnapshotPlugin;
 import akka.persistence.testkit.javadsl.EventSourcedBehaviorTestKit;
+import akka.persistence.testkit.javadsl.SnapshotTestKit;
 import com.typesafe.config.Config;
 import com.typesafe.config.ConfigFactory;
 import io.github.joamik.cinema.base.domain.Clock;
@@ -13,14 +16,19 @@ import io.github.joamik.cinema.reservation.domain.ShowCommand;
 import io.github.joamik.cinema.reservation.domain.ShowEvent;
 import io.github.joamik.cinema.reservation.domain.ShowEvent.SeatReserved;
 import io.github.joamik.cinema.reservation.domain.ShowEvent.ShowCreated;
+import io.github.joamik.cinema.reservation.domain.ShowId;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.Test;
 
 import java.time.Instant;
-import java.util.Optional;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static io.github.joamik.cinema.reservation.domain.ShowCommandFixture.randomCreateShow;
 import static io.github.joamik.cinema.reservation.domain.ShowCommandFixture.randomReserveSeat;
+import static io.github.joamik.cinema.reservation.domain.ShowCommandFixture.reserveAllSeats;
 import static io.github.joamik.cinema.reservation.domain.ShowFixture.randomShowId;
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -28,14 +36,16 @@ class ShowEntityTest {
 
     private static final Config UNIT_TEST_AKKA_CONFIGURATION = ConfigFactory.parseString("""
                 akka.actor.enable-additional-serialization-bindings=on
-                akka.actor.allow-java-serialization=on
-                akka.actor.warn-about-java-serializer-usage=off
+                akka.actor.allow-java-serialization=off
                 akka.loglevel=INFO
-            """);
+            """).withFallback(ConfigFactory.parseResources("serialization.conf"));
 
     private static final ActorTestKit testKit = ActorTestKit.create(EventSourcedBehaviorTestKit.config()
+            .withFallback(PersistenceTestKitSnapshotPlugin.config())
             .withFallback(UNIT_TEST_AKKA_CONFIGURATION));
 
+    private final SnapshotTestKit snapshotTestKit = SnapshotTestKit.create(testKit.system());
+
     private final Clock clock = Clock.fixed(Instant.parse("2024-03-16T21:32:05Z"));
 
     @AfterAll
@@ -54,7 +64,7 @@ class ShowEntityTest {
         var result = showEntityKit.<ShowEntityResponse>runCommand(replyTo -> toEnvelope(createShow, replyTo));
 
         // then
-        assertThat(result.reply()).isInstanceOf(CommandProcessed.class);
+        assertThat(result.reply()).isEqualTo(new CommandProcessed(1));
         assertThat(result.event()).isInstanceOf(ShowCreated.class);
         var createdShow = result.state();
         assertThat(createdShow.id()).isEqualTo(showId);
@@ -66,7 +76,7 @@ class ShowEntityTest {
         var showId = randomShowId();
         var showEntityRef = testKit.spawn(ShowEntity.create(showId, clock));
         var commandResponseProbe = testKit.<ShowEntityResponse>createTestProbe();
-        var showResponseProbe = testKit.<Optional<Show>>createTestProbe();
+        var showResponseProbe = testKit.<ShowSnapshot>createTestProbe();
         var createShow = randomCreateShow(showId);
 
         // when
@@ -79,7 +89,7 @@ class ShowEntityTest {
         showEntityRef.tell(new ShowEntityCommand.GetShow(showResponseProbe.ref()));
 
         // then
-        var returnedShow = showResponseProbe.receiveMessage();
+        var returnedShow = showResponseProbe.receiveMessage().show();
         assertThat(returnedShow).isNotEmpty();
         assertThat(returnedShow.get().id()).isEqualTo(showId);
     }
@@ -98,7 +108,7 @@ class ShowEntityTest {
         var result = showEntityKit.<ShowEntityResponse>runCommand(replyTo -> toEnvelope(reserveSeat, replyTo));
 
         // then
-        assertThat(result.reply()).isInstanceOf(CommandProcessed.class);
+        assertThat(result.reply()).isEqualTo(new CommandProcessed(2));
         assertThat(result.event()).isInstanceOf(SeatReserved.class);
         var reservedSeat = result.state().seats().get(reserveSeat.seatNumber());
         assertThat(reservedSeat.isReserved()).isTrue();
@@ -110,7 +120,7 @@ class ShowEntityTest {
         var showId = randomShowId();
         var showEntityRef = testKit.spawn(ShowEntity.create(showId, clock));
         var commandResponseProbe = testKit.<ShowEntityResponse>createTestProbe();
-        var showResponseProbe = testKit.<Optional<Show>>createTestProbe();
+        var showResponseProbe = testKit.<ShowSnapshot>createTestProbe();
         var createShow = randomCreateShow(showId);
         var reserveSeat = randomReserveSeat(showId);
 
@@ -130,27 +140,159 @@ class ShowEntityTest {
         showEntityRef.tell(new ShowEntityCommand.GetShow(showResponseProbe.ref()));
 
         // then
-        var returnedShow = showResponseProbe.receiveMessage().orElseThrow();
+        var returnedShow = showResponseProbe.receiveMessage().show().orElseThrow();
         var reservedSeat = returnedShow.seats().get(reserveSeat.seatNumber());
         assertThat(reservedSeat.isReserved()).isTrue();
     }
 
+    @Test
+    void shouldPublishPersistedEvents() {
+        // given
+        var showId = randomShowId();
+        var showEntityRef = testKit.spawn(ShowEntity.create(showId, clock));
+        var commandResponseProbe = testKit.<ShowEntityResponse>createTestProbe();
+        var showEventProbe = testKit.<PersistedShowEvent>createTestProbe();
+        testKit.system().eventStream().tell(new EventStream.Subscribe<>(PersistedShowEvent.class, showEventProbe.ref()));
+        showEntityRef.tell(toEnvelope(randomCreateShow(showId), commandResponseProbe.ref()));
+        commandResponseProbe.expectMessageClass(CommandProcessed.class);
+        assertThat(showEventProbe.receiveMessage().showEvent()).isInstanceOf(ShowCreated.class);
+
+        // when
+        showEntityRef.tell(toEnvelope(randomReserveSeat(showId), commandResponseProbe.ref()));
+
+        // then
+        commandResponseProbe.expectMessageClass(CommandProcessed.class);
+        var persistedShowEvent = showEventProbe.receiveMessage();
+        assertThat(persistedShowEvent.showEvent()).isInstanceOf(SeatReserved.class);
+        assertThat(persistedShowEvent.showEvent().showId()).isEqualTo(showId);
+        assertThat(persistedShowEvent.sequenceNr()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldTimePersistOfEvents() {
+        // given
+        var showId = randomShowId();
+        var metrics = new RecordingShowMetrics();
+        var showEntityRef = testKit.spawn(ShowEntity.create(showId, clock, ShowEntityProperties.DEFAULT, metrics));
+        var commandResponseProbe = testKit.<ShowEntityResponse>createTestProbe();
+
+        // when
+        showEntityRef.tell(toEnvelope(randomCreateShow(showId), commandResponseProbe.ref()));
+        commandResponseProbe.expectMessageClass(CommandProcessed.class);
+        showEntityRef.tell(toEnvelope(randomReserveSeat(showId), commandResponseProbe.ref()));
+        commandResponseProbe.expectMessageClass(CommandProcessed.class);
+
+        // then
+        assertThat(metrics.persistedEvents).containsExactly("ShowCreated", "SeatReserved");
+    }
+
     @Test
     void shouldReturnEmptyShow_withProbe() {
         // given
         var showId = randomShowId();
         var showEntityRef = testKit.spawn(ShowEntity.create(showId, clock));
-        var showResponseProbe = testKit.<Optional<Show>>createTestProbe();
+        var showResponseProbe = testKit.<ShowSnapshot>createTestProbe();
 
         // when
         showEntityRef.tell(new ShowEntityCommand.GetShow(showResponseProbe.ref()));
 
         // then
-        var returnedShow = showResponseProbe.receiveMessage();
+        var returnedShow = showResponseProbe.receiveMessage().show();
         assertThat(returnedShow).isEmpty();
     }
 
+    @Test
+    void shouldDropCommandsPastTheirDeadline() {
+        // given
+        var showId = randomShowId();
+        var showEntityRef = testKit.spawn(ShowEntity.create(showId, clock));
+        var commandResponseProbe = testKit.<ShowEntityResponse>createTestProbe();
+        var showResponseProbe = testKit.<ShowSnapshot>createTestProbe();
+        var expired = clock.now().minusMillis(1);
+
+        // when
+        showEntityRef.tell(new ShowCommandEnvelope(randomCreateShow(showId), expired, commandResponseProbe.ref()));
+        showEntityRef.tell(new ShowEntityCommand.GetShow(expired, showResponseProbe.ref()));
+
+        // then
+        commandResponseProbe.expectNoMessage();
+        showResponseProbe.expectNoMessage();
+
+        // when
+        showEntityRef.tell(new ShowEntityCommand.GetShow(clock.now(), showResponseProbe.ref()));
+
+        // then
+        assertThat(showResponseProbe.receiveMessage().show()).isEmpty();
+    }
+
+    @Test
+    void shouldRecoverFromPeriodicSnapshot() {
+        // given
+        var showId = randomShowId();
+        var properties = new ShowEntityProperties(2, 1, true, false);
+        var showEntityKit = EventSourcedBehaviorTestKit.<ShowEntityCommand, ShowEvent, Show>create(testKit.system(), ShowEntity.create(showId, clock, properties));
+        var reserveSeat = randomReserveSeat(showId);
+        showEntityKit.<ShowEntityResponse>runCommand(replyTo -> toEnvelope(randomCreateShow(showId), replyTo));
+
+        // when
+        var result = showEntityKit.<ShowEntityResponse>runCommand(replyTo -> toEnvelope(reserveSeat, replyTo));
+
+        // then
+        var snapshot = snapshotTestKit.expectNextPersistedClass(ShowEntity.persistenceId(showId).id(), Show.class);
+        assertThat(snapshot).isEqualTo(result.state());
+
+        // when
+        var restarted = showEntityKit.restart();
+
+        // then
+        assertThat(restarted.state()).isEqualTo(result.state());
+        assertThat(restarted.state().seats().isReserved(reserveSeat.seatNumber())).isTrue();
+    }
+
+    @Test
+    void shouldSnapshotWhenShowIsSoldOut() {
+        // given
+        var showId = randomShowId();
+        var properties = new ShowEntityProperties(0, 1, false, true);
+        var showEntityKit = EventSourcedBehaviorTestKit.<ShowEntityCommand, ShowEvent, Show>create(testKit.system(), ShowEntity.create(showId, clock, properties));
+        var created = showEntityKit.<ShowEntityResponse>runCommand(replyTo -> toEnvelope(randomCreateShow(showId), replyTo));
+
+        // when
+        var result = showEntityKit.<ShowEntityResponse>runCommand(replyTo -> toEnvelope(reserveAllSeats(created.state()), replyTo));
+
+        // then
+        var snapshot = snapshotTestKit.expectNextPersistedClass(ShowEntity.persistenceId(showId).id(), Show.class);
+        assertThat(snapshot.seats().availableCount()).isZero();
+        assertThat(snapshot).isEqualTo(result.state());
+    }
+
+    @Test
+    void shouldSpreadShowsOverAllEventTagSlices() {
+        // given
+        int slices = 4;
+        var showIds = IntStream.range(0, 200).mapToObj(_ -> randomShowId()).toList();
+
+        // when
+        var tags = showIds.stream()
+                .map(showId -> ShowEntity.eventTag(ShowEntity.sliceOf(showId, slices)))
+                .collect(Collectors.toSet());
+
+        // then
+        assertThat(tags).containsExactlyInAnyOrder("ShowEvent-0", "ShowEvent-1", "ShowEvent-2", "ShowEvent-3");
+        assertThat(showIds).allMatch(showId -> ShowEntity.sliceOf(showId, slices) == ShowEntity.sliceOf(ShowId.of(showId.id()), slices));
+    }
+
     private ShowEntityCommand toEnvelope(ShowCommand command, ActorRef<ShowEntityResponse> replyTo) {
         return new ShowCommandEnvelope(command, replyTo);
     }
-}
\ No newline at end of file
+
+    private static class RecordingShowMetrics implements ShowMetrics {
+
+        private final List<String> persistedEvents = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void persisted(String event, long nanos) {
+            persistedEvents.add(event);
+        }
+    }
+}
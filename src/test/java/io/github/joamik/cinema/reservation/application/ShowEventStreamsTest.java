@@ -0,0 +1,72 @@
+package io.github.joamik.cinema.reservation.application;
+
+import akka.actor.testkit.typed.javadsl.ActorTestKit;
+import akka.stream.javadsl.Sink;
+import io.github.joamik.cinema.reservation.domain.SeatNumber;
+import io.github.joamik.cinema.reservation.domain.ShowEvent;
+import io.github.joamik.cinema.reservation.domain.ShowEvent.SeatReserved;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import static io.github.joamik.cinema.reservation.domain.ShowFixture.randomShowId;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+class ShowEventStreamsTest {
+
+    private static final ActorTestKit testKit = ActorTestKit.create();
+
+    private static final ShowEventStreams showEventStreams = new ShowEventStreams(testKit.system());
+
+    @AfterAll
+    public static void cleanUp() {
+        testKit.shutdownTestKit();
+    }
+
+    @Test
+    void shouldPushEventsOfWatchedShowToAllWatchers() {
+        // given
+        var showId = randomShowId();
+        var otherShowId = randomShowId();
+        var firstWatcher = showEventStreams.stream(showId).take(2).runWith(Sink.seq(), testKit.system()).toCompletableFuture();
+        var secondWatcher = showEventStreams.stream(showId).take(2).runWith(Sink.seq(), testKit.system()).toCompletableFuture();
+
+        // when
+        var seatNumber = new int[]{0};
+        await().atMost(10, SECONDS).until(() -> {
+            ShowEventStreams.publish(testKit.system(), new SeatReserved(otherShowId, Instant.now(), SeatNumber.of(1)), 1);
+            ShowEventStreams.publish(testKit.system(), new SeatReserved(showId, Instant.now(), SeatNumber.of(++seatNumber[0])), seatNumber[0]);
+            return firstWatcher.isDone() && secondWatcher.isDone();
+        });
+
+        // then
+        List<ShowEvent> firstEvents = firstWatcher.join();
+        assertThat(firstEvents).allMatch(showEvent -> showEvent.showId().equals(showId));
+        assertThat(secondWatcher.join()).allMatch(showEvent -> showEvent.showId().equals(showId));
+    }
+
+    @Test
+    void shouldPassEventsOfFollowedShowsToListeners() {
+        // given
+        var showId = randomShowId();
+        var otherShowId = randomShowId();
+        var listenedEvents = new ConcurrentLinkedQueue<PersistedShowEvent>();
+        showEventStreams.addListener(listenedEvents::add);
+
+        // when
+        showEventStreams.follow(showId);
+        await().atMost(10, SECONDS).until(() -> {
+            ShowEventStreams.publish(testKit.system(), new SeatReserved(otherShowId, Instant.now(), SeatNumber.of(1)), 1);
+            ShowEventStreams.publish(testKit.system(), new SeatReserved(showId, Instant.now(), SeatNumber.of(1)), 1);
+            return !listenedEvents.isEmpty();
+        });
+
+        // then
+        assertThat(listenedEvents).allMatch(persistedShowEvent -> persistedShowEvent.showEvent().showId().equals(showId));
+    }
+}
@@ -4,30 +4,44 @@ import akka.actor.ActorSystem;
 import akka.actor.typed.javadsl.Adapter;
 import akka.cluster.sharding.typed.javadsl.ClusterSharding;
 import akka.persistence.testkit.PersistenceTestKitPlugin;
+import akka.persistence.testkit.PersistenceTestKitSnapshotPlugin;
 import akka.testkit.javadsl.TestKit;
 import com.typesafe.config.Config;
 import com.typesafe.config.ConfigFactory;
 import io.github.joamik.cinema.base.domain.Clock;
 import io.github.joamik.cinema.reservation.application.ShowEntityResponse.CommandProcessed;
 import org.junit.jupiter.api.AfterAll;
+import io.github.joamik.cinema.reservation.domain.SeatNumber;
+import io.github.joamik.cinema.reservation.domain.ShowEvent.SeatReserved;
+import org.awaitility.Awaitility;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
 
 import static io.github.joamik.cinema.reservation.application.Await.await;
 import static io.github.joamik.cinema.reservation.domain.ShowFixture.randomSeatNumber;
 import static io.github.joamik.cinema.reservation.domain.ShowFixture.randomShowId;
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.assertj.core.api.Assertions.assertThat;
 
 class ShowServiceTest {
 
-    private static final Config config = PersistenceTestKitPlugin.config().withFallback(ConfigFactory.load());
+    private static final Config config = PersistenceTestKitPlugin.config()
+            .withFallback(PersistenceTestKitSnapshotPlugin.config())
+            .withFallback(ConfigFactory.load());
     private static final ActorSystem system = ActorSystem.create("es-cinema", config);
 
     private final ClusterSharding sharding = ClusterSharding.get(Adapter.toTyped(system));
     private final Clock clock = Clock.utc();
     private final ShowServiceProperties showServiceProperties = new ShowServiceProperties(5_000);
-    private final ShowService showService = new ShowService(sharding, clock, showServiceProperties);
+    private final ShowService showService = showService(ShowCache.disabled(), new ShowAdmission(ShowAdmissionProperties.DEFAULT), ShowMetrics.NONE);
 
     @AfterAll
     public static void cleanUp() {
@@ -80,6 +94,28 @@ class ShowServiceTest {
         assertThat(cancellationResponse).isInstanceOf(CommandProcessed.class);
     }
 
+    @Test
+    void shouldReserveAndCancelMultipleSeats() throws ExecutionException, InterruptedException {
+        // given
+        var showId = randomShowId();
+        await(showService.createShow(showId, "Title", 10));
+        var seatNumbers = List.of(SeatNumber.of(1), SeatNumber.of(2), SeatNumber.of(3));
+
+        // when
+        var reservationResponse = await(showService.reserveSeats(showId, seatNumbers));
+
+        // then
+        assertThat(reservationResponse).isInstanceOf(CommandProcessed.class);
+        assertThat(await(showService.findShowBy(showId)).orElseThrow().seats().availableCount()).isEqualTo(7);
+
+        // when
+        var cancellationResponse = await(showService.cancelReservations(showId, seatNumbers));
+
+        // then
+        assertThat(cancellationResponse).isInstanceOf(CommandProcessed.class);
+        assertThat(await(showService.findShowBy(showId)).orElseThrow().seats().availableCount()).isEqualTo(10);
+    }
+
     @Test
     void shouldFindShowById() throws ExecutionException, InterruptedException {
         // given
@@ -105,4 +141,103 @@ class ShowServiceTest {
         // then
         assertThat(show).isEmpty();
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldServeConcurrentReadsOfShow() throws ExecutionException, InterruptedException {
+        // given
+        var showId = randomShowId();
+        await(showService.createShow(showId, "Title", 10));
+
+        // when
+        var reads = IntStream.range(0, 100).mapToObj(_ -> showService.findShowBy(showId).toCompletableFuture()).toList();
+
+        // then
+        var shows = reads.stream().map(CompletableFuture::join).distinct().toList();
+        assertThat(shows).hasSize(1);
+        assertThat(shows.getFirst()).isPresent();
+
+        // when
+        await(showService.reserveSeat(showId, SeatNumber.of(1)));
+
+        // then
+        assertThat(await(showService.findShowBy(showId)).orElseThrow().seats().availableCount()).isEqualTo(9);
+    }
+
+    @Test
+    void shouldRejectRequestsAboveInFlightLimit() throws ExecutionException, InterruptedException {
+        // given
+        var limitedShowService = showService(ShowCache.disabled(), new ShowAdmission(new ShowAdmissionProperties(10, 1, 1, 100)), ShowMetrics.NONE);
+        var showId = randomShowId();
+
+        // when
+        var creation = limitedShowService.createShow(showId, "Title", 10);
+        var reservation = limitedShowService.reserveSeat(showId, SeatNumber.of(1));
+
+        // then
+        assertThat(await(creation)).isInstanceOf(CommandProcessed.class);
+        assertThat(reservation.toCompletableFuture()).failsWithin(Duration.ZERO).withThrowableOfType(ExecutionException.class)
+                .withCauseInstanceOf(ShowOverloadedException.class);
+        assertThat(await(limitedShowService.reserveSeat(showId, SeatNumber.of(1)))).isInstanceOf(CommandProcessed.class);
+    }
+
+    @Test
+    void shouldRecordAskLatencyByRequestAndOutcome() throws ExecutionException, InterruptedException {
+        // given
+        var asks = new CopyOnWriteArrayList<String>();
+        ShowMetrics metrics = new ShowMetrics() {
+            @Override
+            public void asked(String request, String outcome, long nanos) {
+                asks.add(STR."\{request}:\{outcome}");
+            }
+        };
+        var measuredShowService = showService(ShowCache.disabled(), new ShowAdmission(ShowAdmissionProperties.DEFAULT), metrics);
+        var showId = randomShowId();
+
+        // when
+        await(measuredShowService.createShow(showId, "Title", 10));
+        await(measuredShowService.reserveSeat(showId, SeatNumber.of(1)));
+        await(measuredShowService.reserveSeat(showId, SeatNumber.of(1)));
+        await(measuredShowService.findCurrentShowBy(showId));
+
+        // then
+        assertThat(asks).containsExactly("CreateShow:processed", "ReserveSeat:processed", "ReserveSeat:rejected", "GetShow:processed");
+    }
+
+    @Test
+    void shouldServeShowFromCacheKeptUpToDateByPublishedEvents() throws ExecutionException, InterruptedException {
+        // given
+        var showCache = cacheListeningToPublishedEvents();
+        var cachedShowService = showService(showCache, new ShowAdmission(ShowAdmissionProperties.DEFAULT), ShowMetrics.NONE);
+        var showId = randomShowId();
+        await(cachedShowService.createShow(showId, "Title", 10));
+        await(cachedShowService.findShowBy(showId));
+
+        // when
+        await(cachedShowService.reserveSeat(showId, SeatNumber.of(1)));
+
+        // then
+        Awaitility.await().atMost(10, SECONDS).until(() -> showCache.get(showId, 2).isPresent());
+        assertThat(await(cachedShowService.findShowBy(showId, 2)).orElseThrow().seats().availableCount()).isEqualTo(9);
+    }
+
+    private ShowCache cacheListeningToPublishedEvents() {
+        var showEventStreams = new ShowEventStreams(Adapter.toTyped(system));
+        var showCache = new ShowCache(100, Duration.ofMinutes(1), clock, showEventStreams);
+        var listening = new AtomicBoolean();
+        showEventStreams.addListener(showCache::apply);
+        showEventStreams.addListener(_ -> listening.set(true));
+        var followedShowId = randomShowId();
+        showEventStreams.follow(followedShowId);
+        Awaitility.await().atMost(10, SECONDS).until(() -> {
+            ShowEventStreams.publish(Adapter.toTyped(system), new SeatReserved(followedShowId, Instant.now(), SeatNumber.of(1)), 1);
+            return listening.get();
+        });
+        showEventStreams.unfollow(followedShowId);
+        return showCache;
+    }
+
+    private ShowService showService(ShowCache showCache, ShowAdmission showAdmission, ShowMetrics metrics) {
+        return new ShowService(sharding, clock, showServiceProperties, ShowEntityProperties.DEFAULT, ShowPersistenceMode.EVENT_SOURCED,
+                showCache, showAdmission, metrics);
+    }
+}
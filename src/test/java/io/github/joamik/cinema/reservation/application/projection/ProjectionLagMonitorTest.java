@@ -0,0 +1,133 @@
+package io.github.joamik.cinema.reservation.application.projection;
+
+import akka.actor.testkit.typed.javadsl.ActorTestKit;
+import akka.projection.ProjectionId;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.LongStream;
+
+import static io.github.joamik.cinema.reservation.application.Await.await;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.concurrent.CompletableFuture.failedFuture;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProjectionLagMonitorTest {
+
+    private static final ActorTestKit testKit = ActorTestKit.create();
+
+    private final ProjectionId slice0 = ProjectionId.of(ShowViewProjection.PROJECTION_NAME, "ShowEvent-0");
+    private final ProjectionId slice1 = ProjectionId.of(ShowViewProjection.PROJECTION_NAME, "ShowEvent-1");
+    private final InMemoryProjectionPositions positions = new InMemoryProjectionPositions();
+    private Instant now = Instant.now();
+    private final ProjectionLagMonitor projectionLagMonitor = new ProjectionLagMonitor(testKit.system(), List.of(slice0, slice1),
+            positions, () -> now, Duration.ofSeconds(10));
+
+    @AfterAll
+    public static void cleanUp() {
+        testKit.shutdownTestKit();
+    }
+
+    @Test
+    void shouldCountEventsOfTagNotProcessedYet() throws Exception {
+        // given
+        positions.tagged("ShowEvent-0", 1, 3, 5, 7);
+        positions.tagged("ShowEvent-1", 2, 4, 6);
+        positions.offsets.put(slice0, 3L);
+        positions.offsets.put(slice1, 6L);
+
+        // when
+        var lags = await(projectionLagMonitor.check());
+
+        // then
+        assertThat(lags).extracting(ProjectionLag::lag).containsExactly(2L, 0L);
+        assertThat(lags.getFirst().latestOrdering()).isEqualTo(7);
+    }
+
+    @Test
+    void shouldMeasureThroughputAndTimeSinceLastProgress() throws Exception {
+        // given
+        positions.tagged("ShowEvent-0", LongStream.rangeClosed(1, 100).map(i -> i * 2).toArray());
+        positions.offsets.put(slice0, 0L);
+        await(projectionLagMonitor.check());
+
+        // when
+        now = now.plusSeconds(10);
+        positions.offsets.put(slice0, 100L);
+        await(projectionLagMonitor.check());
+
+        // then
+        var lag = projectionLagMonitor.lag(slice0).orElseThrow();
+        assertThat(lag.lag()).isEqualTo(50);
+        assertThat(lag.eventsPerSecond()).isEqualTo(5);
+        assertThat(lag.sinceLastProgress()).isZero();
+
+        // when
+        now = now.plusSeconds(10);
+        await(projectionLagMonitor.check());
+
+        // then
+        assertThat(projectionLagMonitor.lag(slice0).orElseThrow().sinceLastProgress()).isEqualTo(Duration.ofSeconds(10));
+        assertThat(projectionLagMonitor.lag(slice0).orElseThrow().eventsPerSecond()).isZero();
+    }
+
+    @Test
+    void shouldForgetLagOfProjectionWhenCheckFails() throws Exception {
+        // given
+        positions.offsets.put(slice0, 0L);
+        positions.offsets.put(slice1, 0L);
+        await(projectionLagMonitor.check());
+
+        // when
+        positions.offsets.remove(slice1);
+        await(projectionLagMonitor.check());
+
+        // then
+        assertThat(projectionLagMonitor.lags()).extracting(ProjectionLag::projectionId).containsExactly(slice0);
+    }
+
+    /**
+     * A projection without an offset fails its check, as a projection whose offset cannot be read.
+     */
+    private static class InMemoryProjectionPositions implements ProjectionPositions {
+
+        private final Map<String, List<Long>> orderingsByTag = new ConcurrentHashMap<>();
+        private final Map<ProjectionId, Long> offsets = new ConcurrentHashMap<>();
+
+        void tagged(String tag, long... orderings) {
+            orderingsByTag.put(tag, LongStream.of(orderings).boxed().toList());
+        }
+
+        @Override
+        public CompletionStage<Long> latestOrdering(String tag) {
+            return completedFuture(orderings(tag).stream().mapToLong(Long::longValue).max().orElse(0));
+        }
+
+        @Override
+        public CompletionStage<Long> countEvents(String tag, long afterOrdering, long toOrdering) {
+            return completedFuture(orderings(tag).stream().filter(ordering -> ordering > afterOrdering && ordering <= toOrdering).count());
+        }
+
+        @Override
+        public CompletionStage<Optional<Long>> storedOffset(ProjectionId projectionId) {
+            var offset = offsets.get(projectionId);
+            return offset == null ? failedFuture(new IllegalStateException("Offset store unavailable")) : completedFuture(Optional.of(offset));
+        }
+
+        @Override
+        public CompletionStage<Optional<Long>> ordering(String persistenceId, long sequenceNr) {
+            return completedFuture(Optional.empty());
+        }
+
+        private List<Long> orderings(String tag) {
+            return orderingsByTag.getOrDefault(tag, List.of());
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package io.github.joamik.cinema.reservation.application.projection;
+
+import akka.projection.ProjectionId;
+import io.github.joamik.cinema.base.domain.Clock;
+import io.github.joamik.cinema.reservation.application.ShowEntity;
+import io.github.joamik.cinema.reservation.domain.ShowId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+
+import static io.github.joamik.cinema.reservation.application.Await.await;
+import static io.github.joamik.cinema.reservation.domain.ShowFixture.randomShowId;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProjectionProgressTest {
+
+    private static final int SLICES = 4;
+
+    private final InMemoryProjectionPositions positions = new InMemoryProjectionPositions();
+    private final ProjectionProgress projectionProgress = projectionProgress(100);
+
+    @BeforeEach
+    void startProjections() {
+        for (int slice = 0; slice < SLICES; slice++) {
+            projectionProgress.started(ProjectionId.of(ShowViewProjection.PROJECTION_NAME, ShowEntity.eventTag(slice)));
+        }
+    }
+
+    @Test
+    void shouldCompleteOnceShowIsProcessedUpToSequenceNumber() throws ExecutionException, InterruptedException {
+        // given
+        var showId = randomShowId();
+        var caughtUp = projectionProgress.awaitAtLeast(ShowViewProjection.PROJECTION_NAME, showId, 3).toCompletableFuture();
+
+        // when
+        projectionProgress.processed(ShowViewProjection.PROJECTION_NAME, showId, 2);
+
+        // then
+        assertThat(caughtUp).isNotDone();
+
+        // when
+        projectionProgress.processed(ShowViewProjection.PROJECTION_NAME, showId, 3);
+
+        // then
+        assertThat(await(caughtUp)).isTrue();
+        assertThat(await(projectionProgress.awaitAtLeast(ShowViewProjection.PROJECTION_NAME, showId, 1))).isTrue();
+    }
+
+    @Test
+    void shouldNotCompleteForProgressOfOtherProjection() throws ExecutionException, InterruptedException {
+        // given
+        var showId = randomShowId();
+        projectionProgress.started(projectionId(SeatMapProjection.PROJECTION_NAME, showId));
+        var caughtUp = projectionProgress.awaitAtLeast(SeatMapProjection.PROJECTION_NAME, showId, 1);
+
+        // when
+        projectionProgress.processed(ShowViewProjection.PROJECTION_NAME, showId, 1);
+
+        // then
+        assertThat(await(caughtUp)).isFalse();
+    }
+
+    @Test
+    void shouldCompleteOnceOffsetOfProjectionRunningOnOtherNodeIsStored() throws ExecutionException, InterruptedException {
+        // given
+        var showId = randomShowId();
+        var projectionId = projectionId(SeatMapProjection.PROJECTION_NAME, showId);
+        positions.persisted(showId, 2, 42);
+        positions.offsets.put(projectionId, 41L);
+        var caughtUp = projectionProgress.awaitAtLeast(SeatMapProjection.PROJECTION_NAME, showId, 2).toCompletableFuture();
+
+        // when
+        positions.offsets.put(projectionId, 42L);
+
+        // then
+        assertThat(await(caughtUp)).isTrue();
+    }
+
+    @Test
+    void shouldCompleteOnceOffsetIsStoredForShowWithoutProgressOnThisNode() throws ExecutionException, InterruptedException {
+        // given
+        var showId = randomShowId();
+        var projectionId = projectionId(ShowViewProjection.PROJECTION_NAME, showId);
+        positions.persisted(showId, 2, 42);
+        positions.offsets.put(projectionId, 42L);
+
+        // when
+        var caughtUp = projectionProgress.awaitAtLeast(ShowViewProjection.PROJECTION_NAME, showId, 2);
+
+        // then
+        assertThat(await(caughtUp)).isTrue();
+    }
+
+    @Test
+    void shouldDropProgressOfLeastRecentlyProcessedShowAboveCapacity() throws ExecutionException, InterruptedException {
+        // given
+        var projectionProgress = projectionProgress(1);
+        var showId = randomShowId();
+        projectionProgress.started(projectionId(ShowViewProjection.PROJECTION_NAME, showId));
+        projectionProgress.processed(ShowViewProjection.PROJECTION_NAME, showId, 1);
+
+        // when
+        projectionProgress.processed(ShowViewProjection.PROJECTION_NAME, randomShowId(), 1);
+
+        // then
+        assertThat(await(projectionProgress.awaitAtLeast(ShowViewProjection.PROJECTION_NAME, showId, 1))).isFalse();
+    }
+
+    @Test
+    void shouldDropProgressOfProjectionStartedAgain() throws ExecutionException, InterruptedException {
+        // given
+        var showId = randomShowId();
+        projectionProgress.processed(ShowViewProjection.PROJECTION_NAME, showId, 2);
+
+        // when
+        projectionProgress.started(projectionId(ShowViewProjection.PROJECTION_NAME, showId));
+
+        // then
+        assertThat(await(projectionProgress.awaitAtLeast(ShowViewProjection.PROJECTION_NAME, showId, 2))).isFalse();
+    }
+
+    @Test
+    void shouldNotCompleteBeforeOffsetOfProjectionRunningOnOtherNodeIsStored() throws ExecutionException, InterruptedException {
+        // given
+        var showId = randomShowId();
+        positions.persisted(showId, 2, 42);
+        positions.offsets.put(projectionId(SeatMapProjection.PROJECTION_NAME, showId), 41L);
+
+        // when
+        var caughtUp = projectionProgress.awaitAtLeast(SeatMapProjection.PROJECTION_NAME, showId, 2);
+
+        // then
+        assertThat(await(caughtUp)).isFalse();
+    }
+
+    private ProjectionProgress projectionProgress(int capacity) {
+        return new ProjectionProgress(Duration.ofMillis(300), SLICES, capacity, positions, Clock.utc());
+    }
+
+    private static ProjectionId projectionId(String projectionName, ShowId showId) {
+        return ProjectionId.of(projectionName, ShowEntity.eventTag(ShowEntity.sliceOf(showId, SLICES)));
+    }
+
+    private static class InMemoryProjectionPositions implements ProjectionPositions {
+
+        private final Map<String, Long> orderings = new ConcurrentHashMap<>();
+        private final Map<ProjectionId, Long> offsets = new ConcurrentHashMap<>();
+
+        void persisted(ShowId showId, long sequenceNr, long ordering) {
+            orderings.put(STR."\{ShowEntity.persistenceId(showId).id()}-\{sequenceNr}", ordering);
+        }
+
+        @Override
+        public CompletionStage<Long> latestOrdering(String tag) {
+            return completedFuture(0L);
+        }
+
+        @Override
+        public CompletionStage<Long> countEvents(String tag, long afterOrdering, long toOrdering) {
+            return completedFuture(0L);
+        }
+
+        @Override
+        public CompletionStage<Optional<Long>> storedOffset(ProjectionId projectionId) {
+            return completedFuture(Optional.ofNullable(offsets.get(projectionId)));
+        }
+
+        @Override
+        public CompletionStage<Optional<Long>> ordering(String persistenceId, long sequenceNr) {
+            return completedFuture(Optional.ofNullable(orderings.get(STR."\{persistenceId}-\{sequenceNr}")));
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package io.github.joamik.cinema.reservation.application.projection;
+
+import io.github.joamik.cinema.reservation.domain.InitialShow;
+import io.github.joamik.cinema.reservation.domain.SeatLayout;
+import io.github.joamik.cinema.reservation.domain.SeatNumber;
+import io.github.joamik.cinema.reservation.domain.Show;
+import io.github.joamik.cinema.reservation.domain.ShowEvent;
+import io.github.joamik.cinema.reservation.domain.ShowEvent.SeatReservationCancelled;
+import io.github.joamik.cinema.reservation.domain.ShowEvent.SeatReserved;
+import io.github.joamik.cinema.reservation.domain.ShowEvent.SeatsReserved;
+import io.github.joamik.cinema.reservation.domain.ShowEvent.ShowCreated;
+import io.github.joamik.cinema.reservation.domain.ShowId;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import static io.github.joamik.cinema.reservation.domain.ShowFixture.randomShowId;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SeatMapUpdateTest {
+
+    @Test
+    void shouldGroupEventsPerShowKeepingTheirOrder() {
+        // given
+        var showId1 = randomShowId();
+        var showId2 = randomShowId();
+        var showCreated = showCreated(showId1);
+        var seatReserved = new SeatReserved(showId2, Instant.now(), SeatNumber.of(1));
+        var seatReservationCancelled = new SeatReservationCancelled(showId1, Instant.now(), SeatNumber.of(1));
+
+        // when
+        var seatMapUpdates = SeatMapUpdate.group(List.of(showCreated, seatReserved, seatReservationCancelled));
+
+        // then
+        assertThat(seatMapUpdates).containsExactly(
+                new SeatMapUpdate(showId1, List.of(showCreated, seatReservationCancelled)),
+                new SeatMapUpdate(showId2, List.of(seatReserved)));
+    }
+
+    @Test
+    void shouldKeepSeatMapWhenEventsAreDeliveredAgain() {
+        // given
+        var showId = randomShowId();
+        List<ShowEvent> showEvents = List.of(showCreated(showId), new SeatsReserved(showId, Instant.now(), List.of(SeatNumber.of(1), SeatNumber.of(2))));
+        var seatMapUpdate = SeatMapUpdate.group(showEvents).getFirst();
+        var seatMap = seatMapUpdate.applyTo(Optional.empty());
+
+        // when
+        var redelivered = seatMapUpdate.applyTo(seatMap);
+
+        // then
+        assertThat(redelivered).isEqualTo(seatMap);
+        assertThat(redelivered).map(Show::seats).hasValueSatisfying(seats -> {
+            assertThat(seats.isReserved(SeatNumber.of(1))).isTrue();
+            assertThat(seats.isReserved(SeatNumber.of(2))).isTrue();
+            assertThat(seats.isAvailable(SeatNumber.of(3))).isTrue();
+        });
+    }
+
+    @Test
+    void shouldSkipEventsOfShowNotCreated() {
+        // given
+        var showId = randomShowId();
+        var seatMapUpdate = new SeatMapUpdate(showId, List.of(new SeatReserved(showId, Instant.now(), SeatNumber.of(1))));
+
+        // when
+        var seatMap = seatMapUpdate.applyTo(Optional.empty());
+
+        // then
+        assertThat(seatMap).isEmpty();
+    }
+
+    private static ShowCreated showCreated(ShowId showId) {
+        return new ShowCreated(showId, Instant.now(), new InitialShow(showId, "Title", SeatLayout.singleRow(10, BigDecimal.TEN)));
+    }
+}
@@ -0,0 +1,124 @@
+package io.github.joamik.cinema.reservation.application.projection;
+
+import akka.Done;
+import akka.persistence.query.Offset;
+import akka.projection.eventsourced.EventEnvelope;
+import io.github.joamik.cinema.reservation.application.ShowMetrics;
+import io.github.joamik.cinema.reservation.domain.InitialShow;
+import io.github.joamik.cinema.reservation.domain.SeatLayout;
+import io.github.joamik.cinema.reservation.domain.SeatNumber;
+import io.github.joamik.cinema.reservation.domain.ShowEvent;
+import io.github.joamik.cinema.reservation.domain.ShowEvent.SeatReservationCancelled;
+import io.github.joamik.cinema.reservation.domain.ShowEvent.SeatReserved;
+import io.github.joamik.cinema.reservation.domain.ShowEvent.SeatsReserved;
+import io.github.joamik.cinema.reservation.domain.ShowEvent.ShowCreated;
+import io.github.joamik.cinema.reservation.domain.ShowId;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+import java.util.stream.IntStream;
+
+import static io.github.joamik.cinema.reservation.application.Await.await;
+import static io.github.joamik.cinema.reservation.domain.ShowFixture.randomShowId;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ShowViewGroupedEventHandlerTest {
+
+    private final RecordingShowViewRepository showViewRepository = new RecordingShowViewRepository();
+    private final ShowViewGroupedEventHandler handler = new ShowViewGroupedEventHandler(showViewRepository, ShowMetrics.NONE);
+
+    @Test
+    void shouldCoalesceReservationsOfShowIntoSingleUpdate() throws Exception {
+        // given
+        var showId = randomShowId();
+        var envelopes = new ArrayList<EventEnvelope<ShowEvent>>();
+        IntStream.rangeClosed(1, 1000).forEach(number -> envelopes.add(envelope(new SeatReserved(showId, Instant.now(), SeatNumber.of(number)))));
+        IntStream.rangeClosed(1, 10).forEach(number -> envelopes.add(envelope(new SeatReservationCancelled(showId, Instant.now(), SeatNumber.of(number)))));
+
+        // when
+        await(handler.process(envelopes));
+
+        // then
+        assertThat(showViewRepository.updates).containsExactly(STR."decrement \{showId} 990");
+    }
+
+    @Test
+    void shouldCreateShowViewBeforeApplyingReservations() throws Exception {
+        // given
+        var showId = randomShowId();
+        var envelopes = List.of(
+                envelope(new ShowCreated(showId, Instant.now(), new InitialShow(showId, "Title", SeatLayout.singleRow(10, BigDecimal.TEN)))),
+                envelope(new SeatsReserved(showId, Instant.now(), List.of(SeatNumber.of(1), SeatNumber.of(2)))),
+                envelope(new SeatReserved(showId, Instant.now(), SeatNumber.of(3))));
+
+        // when
+        await(handler.process(envelopes));
+
+        // then
+        assertThat(showViewRepository.updates).containsExactly(STR."save \{showId} 10", STR."decrement \{showId} 3");
+    }
+
+    @Test
+    void shouldUpdateEveryShowOfGroupOnce() throws Exception {
+        // given
+        var showId1 = randomShowId();
+        var showId2 = randomShowId();
+        var envelopes = List.of(
+                envelope(new SeatReserved(showId1, Instant.now(), SeatNumber.of(1))),
+                envelope(new SeatReserved(showId2, Instant.now(), SeatNumber.of(1))),
+                envelope(new SeatReservationCancelled(showId2, Instant.now(), SeatNumber.of(1))),
+                envelope(new SeatReservationCancelled(showId1, Instant.now(), SeatNumber.of(2))),
+                envelope(new SeatReservationCancelled(showId1, Instant.now(), SeatNumber.of(3))));
+
+        // when
+        await(handler.process(envelopes));
+
+        // then
+        assertThat(showViewRepository.updates).containsExactly(STR."increment \{showId1} 1");
+    }
+
+    private static EventEnvelope<ShowEvent> envelope(ShowEvent showEvent) {
+        return EventEnvelope.create(Offset.noOffset(), "Show|" + showEvent.showId().id(), 1, showEvent, 0);
+    }
+
+    private static class RecordingShowViewRepository implements ShowViewRepository {
+
+        private final List<String> updates = new ArrayList<>();
+
+        @Override
+        public CompletionStage<List<ShowView>> findAvailable() {
+            return completedFuture(List.of());
+        }
+
+        @Override
+        public CompletionStage<List<ShowView>> findAvailable(Optional<ShowView> after, int limit) {
+            return completedFuture(List.of());
+        }
+
+        @Override
+        public CompletionStage<Done> save(ShowId showId, int availableSeats) {
+            return record(STR."save \{showId} \{availableSeats}");
+        }
+
+        @Override
+        public CompletionStage<Done> decrementAvailability(ShowId showId, int seats) {
+            return record(STR."decrement \{showId} \{seats}");
+        }
+
+        @Override
+        public CompletionStage<Done> incrementAvailability(ShowId showId, int seats) {
+            return record(STR."increment \{showId} \{seats}");
+        }
+
+        private CompletionStage<Done> record(String update) {
+            updates.add(update);
+            return completedFuture(Done.done());
+        }
+    }
+}
@@ -10,8 +10,11 @@ import com.typesafe.config.ConfigFactory;
 import io.github.joamik.cinema.base.application.SpawningBehavior;
 import io.github.joamik.cinema.base.domain.Clock;
 import io.github.joamik.cinema.reservation.ReservationConfiguration;
+import io.github.joamik.cinema.reservation.ReservationProperties;
+import io.github.joamik.cinema.reservation.application.ShowMetrics;
 import io.github.joamik.cinema.reservation.application.ShowService;
 import io.github.joamik.cinema.reservation.domain.SeatNumber;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.awaitility.Awaitility;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Disabled;
@@ -34,10 +37,15 @@ class ShowViewProjectionTest {
     private final ClusterSharding sharding = ClusterSharding.get(system);
     private final Clock clock = Clock.utc();
 
-    private ReservationConfiguration reservationConfiguration = new ReservationConfiguration(system, sharding, clock);
-    private ShowService showService = reservationConfiguration.showService(5_000);
+    private ReservationConfiguration reservationConfiguration = new ReservationConfiguration(system, sharding, clock,
+            ReservationProperties.defaults());
+    private ShowMetrics showMetrics = reservationConfiguration.showMetrics(new SimpleMeterRegistry());
+    private ShowService showService = reservationConfiguration.showService(reservationConfiguration.showEventStreams(),
+            reservationConfiguration.showAdmission(), showMetrics);
     private ShowViewRepository showViewRepository = reservationConfiguration.showViewRepository();
-    private ProjectionLauncher projectionLauncher = reservationConfiguration.projectionLauncher(showViewRepository);
+    private SeatMapRepository seatMapRepository = reservationConfiguration.seatMapRepository();
+    private ProjectionLauncher projectionLauncher = reservationConfiguration.projectionLauncher(showViewRepository, seatMapRepository,
+            reservationConfiguration.projectionProgress(), showMetrics);
 
     @AfterEach
     public void cleanUp() {
@@ -61,13 +69,9 @@ class ShowViewProjectionTest {
         projectionLauncher.runProjections();
 
         // then
-        try {
-            Awaitility.await().atMost(10, SECONDS).untilAsserted(() -> {
-                List<ShowView> showViews = await(showViewRepository.findAvailable());
-                assertThat(showViews).containsOnly(new ShowView(showId2.id().toString(), 1));
-            });
-        } finally {
-            projectionLauncher.shutdownProjections();
-        }
+        Awaitility.await().atMost(10, SECONDS).untilAsserted(() -> {
+            List<ShowView> showViews = await(showViewRepository.findAvailable());
+            assertThat(showViews).containsOnly(new ShowView(showId2.id().toString(), 1));
+        });
     }
 }
\ No newline at end of file
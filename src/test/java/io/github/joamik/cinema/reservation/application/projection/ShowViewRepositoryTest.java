@@ -0,0 +1,86 @@
+package io.github.joamik.cinema.reservation.application.projection;
+
+import akka.Done;
+import akka.actor.testkit.typed.javadsl.ActorTestKit;
+import akka.stream.javadsl.Sink;
+import io.github.joamik.cinema.reservation.domain.ShowId;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+import java.util.stream.IntStream;
+
+import static io.github.joamik.cinema.reservation.application.Await.await;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ShowViewRepositoryTest {
+
+    private static final ActorTestKit testKit = ActorTestKit.create();
+
+    @AfterAll
+    public static void cleanUp() {
+        testKit.shutdownTestKit();
+    }
+
+    @Test
+    void shouldStreamAllAvailableShowsPageByPage() throws Exception {
+        // given
+        var showViews = IntStream.rangeClosed(1, ShowViewRepository.STREAM_PAGE_SIZE * 2 + 1)
+                .mapToObj(seats -> new ShowView(STR."show-\{seats}", seats))
+                .toList();
+        var showViewRepository = new PagedShowViewRepository(showViews);
+
+        // when
+        var streamed = await(showViewRepository.streamAvailable().runWith(Sink.seq(), testKit.system()));
+
+        // then
+        assertThat(streamed).containsExactlyElementsOf(showViews);
+        assertThat(showViewRepository.queries).isEqualTo(4);
+    }
+
+    private static class PagedShowViewRepository implements ShowViewRepository {
+
+        private static final Comparator<ShowView> ORDER = Comparator.comparingInt(ShowView::availableSeats);
+
+        private final List<ShowView> showViews;
+        private int queries;
+
+        PagedShowViewRepository(List<ShowView> showViews) {
+            this.showViews = new ArrayList<>(showViews);
+        }
+
+        @Override
+        public CompletionStage<List<ShowView>> findAvailable() {
+            return completedFuture(showViews);
+        }
+
+        @Override
+        public CompletionStage<List<ShowView>> findAvailable(Optional<ShowView> after, int limit) {
+            queries++;
+            return completedFuture(showViews.stream()
+                    .filter(showView -> after.map(last -> ORDER.compare(showView, last) > 0).orElse(true))
+                    .limit(limit)
+                    .toList());
+        }
+
+        @Override
+        public CompletionStage<Done> save(ShowId showId, int availableSeats) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public CompletionStage<Done> decrementAvailability(ShowId showId, int seats) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public CompletionStage<Done> incrementAvailability(ShowId showId, int seats) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
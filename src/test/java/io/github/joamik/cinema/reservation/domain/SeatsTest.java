@@ -0,0 +1,123 @@
+package io.github.joamik.cinema.reservation.domain;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+class SeatsTest {
+
+    private static final BigDecimal PRICE = BigDecimal.valueOf(100);
+
+    @Test
+    void shouldCreateAllAvailableSeats() {
+        // when
+        var seats = Seats.allAvailable(PRICE, 130);
+
+        // then
+        assertThat(seats.size()).isEqualTo(130);
+        assertThat(seats.availableCount()).isEqualTo(130);
+        assertThat(seats.stream()).allMatch(Seat::isAvailable);
+        assertThat(seats.stream()).allSatisfy(seat -> assertThat(seat.price()).isEqualTo(PRICE));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 63, 64, 65, 128, 130})
+    void shouldReserveSeatWithoutChangingPreviousState(int number) {
+        // given
+        var seats = Seats.allAvailable(PRICE, 130);
+        var seatNumber = SeatNumber.of(number);
+
+        // when
+        var updatedSeats = seats.reserve(seatNumber);
+
+        // then
+        assertThat(updatedSeats.isReserved(seatNumber)).isTrue();
+        assertThat(updatedSeats.availableCount()).isEqualTo(129);
+        assertThat(updatedSeats.stream().filter(Seat::isReserved)).containsOnly(new Seat(seatNumber, SeatStatus.RESERVED, PRICE));
+        assertThat(seats.isAvailable(seatNumber)).isTrue();
+        assertThat(seats.availableCount()).isEqualTo(130);
+    }
+
+    @Test
+    void shouldCancelSeatReservation() {
+        // given
+        var seatNumber = SeatNumber.of(70);
+        var seats = Seats.allAvailable(PRICE, 100).reserve(seatNumber);
+
+        // when
+        var updatedSeats = seats.cancelReservation(seatNumber);
+
+        // then
+        assertThat(updatedSeats.isAvailable(seatNumber)).isTrue();
+        assertThat(updatedSeats).isEqualTo(Seats.allAvailable(PRICE, 100));
+    }
+
+    @Test
+    void shouldNotChangeAvailableCountWhenReservingTwice() {
+        // given
+        var seatNumber = SeatNumber.of(3);
+        var seats = Seats.allAvailable(PRICE, 10).reserve(seatNumber);
+
+        // when
+        var updatedSeats = seats.reserve(seatNumber);
+
+        // then
+        assertThat(updatedSeats.availableCount()).isEqualTo(9);
+    }
+
+    @Test
+    void shouldKeepPriceOfEachSeat() {
+        // given
+        var cheap = new Seat(SeatNumber.of(1), SeatStatus.AVAILABLE, BigDecimal.valueOf(50));
+        var expensive = new Seat(SeatNumber.of(2), SeatStatus.RESERVED, BigDecimal.valueOf(150));
+        var layout = new SeatLayout(
+                List.of(new SeatLayout.PriceZone("cheap", cheap.price()), new SeatLayout.PriceZone("expensive", expensive.price())),
+                List.of(new SeatLayout.Section("A", List.of(new SeatLayout.Row("1", 1, "cheap"), new SeatLayout.Row("2", 1, "expensive")))));
+
+        // when
+        var seats = Seats.allAvailable(layout).reserve(expensive.number());
+
+        // then
+        assertThat(seats.toList()).containsExactly(cheap, expensive);
+        assertThat(seats.availableCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldFailForNotExistingSeat() {
+        // given
+        var seats = Seats.allAvailable(PRICE, 10);
+
+        // when
+        var throwable = catchThrowable(() -> seats.reserve(SeatNumber.of(11)));
+
+        // then
+        assertThat(seats.contains(SeatNumber.of(11))).isFalse();
+        assertThat(throwable).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void shouldFindAdjacentAvailableSeatsAcrossWordBoundary() {
+        // given
+        var reserved = new ArrayList<SeatNumber>();
+        for (int number = 1; number <= 62; number++) {
+            reserved.add(SeatNumber.of(number));
+        }
+        reserved.add(SeatNumber.of(66));
+        var seats = Seats.allAvailable(PRICE, 200).reserveAll(reserved);
+
+        // when
+        var seatNumbers = seats.findBestAvailable(4);
+
+        // then
+        assertThat(seatNumbers).containsExactly(SeatNumber.of(67), SeatNumber.of(68), SeatNumber.of(69), SeatNumber.of(70));
+        assertThat(seats.findBestAvailable(200)).isEmpty();
+        assertThat(seats.findBestAvailable(Integer.MAX_VALUE)).isEmpty();
+    }
+}
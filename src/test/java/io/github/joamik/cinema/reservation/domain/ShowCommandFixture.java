@@ -1,11 +1,16 @@
 package io.github.joamik.cinema.reservation.domain;
 
 import io.github.joamik.cinema.reservation.domain.ShowCommand.CancelSeatReservation;
+import io.github.joamik.cinema.reservation.domain.ShowCommand.CancelSeatsReservation;
 import io.github.joamik.cinema.reservation.domain.ShowCommand.CreateShow;
+import io.github.joamik.cinema.reservation.domain.ShowCommand.ReserveBestSeats;
 import io.github.joamik.cinema.reservation.domain.ShowCommand.ReserveSeat;
+import io.github.joamik.cinema.reservation.domain.ShowCommand.ReserveSeats;
 
+import java.util.Arrays;
+import java.util.List;
 import java.util.Random;
-import java.util.Set;
+import java.util.stream.IntStream;
 
 public class ShowCommandFixture {
 
@@ -41,19 +46,35 @@ public class ShowCommandFixture {
         return new CancelSeatReservation(show.id(), notExistingSeatNumber(show));
     }
 
+    public static ReserveSeats reserveSeats(Show show, int... seatNumbers) {
+        return new ReserveSeats(show.id(), toSeatNumbers(seatNumbers));
+    }
+
+    public static ReserveSeats reserveAllSeats(Show show) {
+        return new ReserveSeats(show.id(), IntStream.rangeClosed(1, show.seats().size()).mapToObj(SeatNumber::of).toList());
+    }
+
+    public static ReserveBestSeats reserveBestSeats(Show show, int count) {
+        return new ReserveBestSeats(show.id(), count);
+    }
+
+    public static CancelSeatsReservation cancelSeatsReservation(Show show, int... seatNumbers) {
+        return new CancelSeatsReservation(show.id(), toSeatNumbers(seatNumbers));
+    }
+
+    private static List<SeatNumber> toSeatNumbers(int... seatNumbers) {
+        return Arrays.stream(seatNumbers).mapToObj(SeatNumber::of).toList();
+    }
+
     private static SeatNumber randomSeatNumber() {
         return SeatNumber.of(RANDOM.nextInt(1, MAX_SEATS + 1));
     }
 
     private static SeatNumber randomSeatNumber(Show show) {
-        Set<SeatNumber> seatNumbers = show.seatNumbers();
-        int randomSeat = RANDOM.nextInt(seatNumbers.size());
-        return show.seatNumbers().toArray(new SeatNumber[seatNumbers.size()])[randomSeat];
+        return SeatNumber.of(RANDOM.nextInt(1, show.seats().size() + 1));
     }
 
     private static SeatNumber notExistingSeatNumber(Show show) {
-        Set<SeatNumber> seatNumbers = show.seatNumbers();
-        int notExistingSeatNumber = seatNumbers.stream().mapToInt(SeatNumber::number).max().orElse(0) + 1;
-        return SeatNumber.of(notExistingSeatNumber);
+        return SeatNumber.of(show.seats().size() + 1);
     }
 }
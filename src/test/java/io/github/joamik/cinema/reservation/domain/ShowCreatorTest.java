@@ -7,9 +7,12 @@ import io.github.joamik.cinema.base.domain.Result.Success;
 import io.github.joamik.cinema.reservation.domain.ShowEvent.ShowCreated;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
 import org.junit.jupiter.params.provider.ValueSource;
 
 import java.math.BigDecimal;
+import java.util.List;
+import java.util.stream.IntStream;
 
 import static io.github.joamik.cinema.reservation.domain.ShowCommandFixture.randomCreateShow;
 import static io.github.joamik.cinema.reservation.domain.ShowFixture.randomShowId;
@@ -22,7 +25,7 @@ class ShowCreatorTest {
     private final Clock clock = Clock.utc();
 
     @ParameterizedTest
-    @ValueSource(ints = {2, 10, 99, 100})
+    @ValueSource(ints = {2, 10, 99, 100, 60_000, 100_000})
     void shouldCreateShowWithExactlyMaxSeats(int maxSeats) {
         // given
         var createShow = randomCreateShow(randomShowId(), maxSeats);
@@ -32,12 +35,12 @@ class ShowCreatorTest {
 
         // then
         var showCreated = expectShowCreated(result);
-        var seats = showCreated.initialShow().seats().values();
+        var seats = Show.create(showCreated).seats().toList();
         assertThat(seats).hasSize(maxSeats);
     }
 
     @ParameterizedTest
-    @ValueSource(ints = {101, 102, 200})
+    @ValueSource(ints = {100_001, 100_002, 200_000})
     void shouldFailToCreateShowWithTooManySeats(int maxSeats) {
         // given
         var createShow = randomCreateShow(randomShowId(), maxSeats);
@@ -64,6 +67,34 @@ class ShowCreatorTest {
         assertThat(showCommandError).isEqualTo(ShowCommandError.TOO_FEW_SEATS);
     }
 
+    @ParameterizedTest
+    @NullAndEmptySource
+    @ValueSource(strings = {" ", "\t"})
+    void shouldFailToCreateShowWithoutTitle(String title) {
+        // given
+        var createShow = new ShowCommand.CreateShow(randomShowId(), title, 100);
+
+        // when
+        var result = ShowCreator.create(createShow, clock);
+
+        // then
+        var showCommandError = expectShowCommandError(result);
+        assertThat(showCommandError).isEqualTo(ShowCommandError.INVALID_TITLE);
+    }
+
+    @Test
+    void shouldFailToCreateShowWithTooLongTitle() {
+        // given
+        var createShow = new ShowCommand.CreateShow(randomShowId(), "a".repeat(ShowCreator.MAX_TITLE_LENGTH + 1), 100);
+
+        // when
+        var result = ShowCreator.create(createShow, clock);
+
+        // then
+        var showCommandError = expectShowCommandError(result);
+        assertThat(showCommandError).isEqualTo(ShowCommandError.INVALID_TITLE);
+    }
+
     @Test
     void shouldCreateShowWithAllAvailableSeats() {
         // given
@@ -74,7 +105,7 @@ class ShowCreatorTest {
 
         // then
         var showCreated = expectShowCreated(result);
-        var seats = showCreated.initialShow().seats().values();
+        var seats = Show.create(showCreated).seats().toList();
         assertThat(seats).allMatch(Seat::isAvailable);
     }
 
@@ -88,10 +119,103 @@ class ShowCreatorTest {
 
         // then
         var showCreated = expectShowCreated(result);
-        var seats = showCreated.initialShow().seats().values();
+        var seats = Show.create(showCreated).seats().toList();
         assertThat(seats).allSatisfy(seat -> assertThat(seat.price()).isEqualTo(EXPECTED_INITIAL_PRICE));
     }
 
+    @Test
+    void shouldCreateShowWithSectionedSeatLayout() {
+        // given
+        var layout = new SeatLayout(
+                List.of(new SeatLayout.PriceZone("vip", BigDecimal.valueOf(300)), new SeatLayout.PriceZone("standard", BigDecimal.valueOf(80))),
+                List.of(
+                        new SeatLayout.Section("A", List.of(new SeatLayout.Row("1", 20, "vip"), new SeatLayout.Row("2", 30, "standard"))),
+                        new SeatLayout.Section("B", List.of(new SeatLayout.Row("1", 50_000, "standard")))));
+        var createShow = new ShowCommand.CreateShow(randomShowId(), "Arena", layout);
+
+        // when
+        var result = ShowCreator.create(createShow, clock);
+
+        // then
+        var showCreated = expectShowCreated(result);
+        var seats = Show.create(showCreated).seats();
+        assertThat(showCreated.initialShow().layout()).isEqualTo(layout);
+        assertThat(seats.size()).isEqualTo(50_050);
+        assertThat(seats.price(SeatNumber.of(20))).isEqualTo(BigDecimal.valueOf(300));
+        assertThat(seats.price(SeatNumber.of(21))).isEqualTo(BigDecimal.valueOf(80));
+        assertThat(seats.price(SeatNumber.of(50_050))).isEqualTo(BigDecimal.valueOf(80));
+    }
+
+    @Test
+    void shouldFailToCreateShowWithRowInUnknownPriceZone() {
+        // given
+        var layout = new SeatLayout(
+                List.of(new SeatLayout.PriceZone("standard", BigDecimal.valueOf(80))),
+                List.of(new SeatLayout.Section("A", List.of(new SeatLayout.Row("1", 20, "vip")))));
+        var createShow = new ShowCommand.CreateShow(randomShowId(), "Arena", layout);
+
+        // when
+        var result = ShowCreator.create(createShow, clock);
+
+        // then
+        var showCommandError = expectShowCommandError(result);
+        assertThat(showCommandError).isEqualTo(ShowCommandError.INVALID_SEAT_LAYOUT);
+    }
+
+    @Test
+    void shouldFailToCreateShowWithRowsOverflowingCapacity() {
+        // given
+        var layout = new SeatLayout(
+                List.of(new SeatLayout.PriceZone("standard", BigDecimal.valueOf(80))),
+                List.of(new SeatLayout.Section("A", List.of(
+                        new SeatLayout.Row("1", Integer.MAX_VALUE, "standard"),
+                        new SeatLayout.Row("2", Integer.MAX_VALUE, "standard"),
+                        new SeatLayout.Row("3", 4, "standard")))));
+        var createShow = new ShowCommand.CreateShow(randomShowId(), "Arena", layout);
+
+        // when
+        var result = ShowCreator.create(createShow, clock);
+
+        // then
+        var showCommandError = expectShowCommandError(result);
+        assertThat(showCommandError).isEqualTo(ShowCommandError.INVALID_SEAT_LAYOUT);
+    }
+
+    @Test
+    void shouldFailToCreateShowWithMoreSeatsThanFitCapacity() {
+        // given
+        var rows = IntStream.range(0, 30_000)
+                .mapToObj(index -> new SeatLayout.Row(String.valueOf(index), SeatLayout.MAX_SEATS, "standard"))
+                .toList();
+        var layout = new SeatLayout(
+                List.of(new SeatLayout.PriceZone("standard", BigDecimal.valueOf(80))),
+                List.of(new SeatLayout.Section("A", rows)));
+        var createShow = new ShowCommand.CreateShow(randomShowId(), "Arena", layout);
+
+        // when
+        var result = ShowCreator.create(createShow, clock);
+
+        // then
+        var showCommandError = expectShowCommandError(result);
+        assertThat(showCommandError).isEqualTo(ShowCommandError.TOO_MANY_SEATS);
+    }
+
+    @Test
+    void shouldFailToCreateShowWithUnnamedRow() {
+        // given
+        var layout = new SeatLayout(
+                List.of(new SeatLayout.PriceZone("standard", BigDecimal.valueOf(80))),
+                List.of(new SeatLayout.Section("A", List.of(new SeatLayout.Row(null, 20, "standard")))));
+        var createShow = new ShowCommand.CreateShow(randomShowId(), "Arena", layout);
+
+        // when
+        var result = ShowCreator.create(createShow, clock);
+
+        // then
+        var showCommandError = expectShowCommandError(result);
+        assertThat(showCommandError).isEqualTo(ShowCommandError.INVALID_SEAT_LAYOUT);
+    }
+
     private static ShowCreated expectShowCreated(Result<ShowCommandError, ShowCreated> result) {
         assertThat(result).isInstanceOf(Success.class);
         return ((Success<ShowCommandError, ShowCreated>) result).value();
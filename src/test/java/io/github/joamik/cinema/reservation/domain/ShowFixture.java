@@ -1,9 +1,9 @@
 package io.github.joamik.cinema.reservation.domain;
 
 import java.math.BigDecimal;
-import java.util.Map;
 import java.util.Random;
 import java.util.UUID;
+import java.util.stream.IntStream;
 
 public class ShowFixture {
 
@@ -14,15 +14,18 @@ public class ShowFixture {
 
     public static Show randomShow() {
         var showId = randomShowId();
-        var seats = SeatsCreator.createSeats(randomPrice(), MAX_SEATS);
-        return new Show(showId, "Show title " + showId.id(), seats);
+        var layout = SeatLayout.singleRow(MAX_SEATS, randomPrice());
+        return new Show(showId, "Show title " + showId.id(), layout, Seats.allAvailable(layout));
     }
 
     public static Show randomShowWithReservedSeats() {
         var showId = randomShowId();
-        var seat = randomReservedSeat();
-        var seats = Map.of(seat.number(), seat);
-        return new Show(showId, "Show title " + showId.id(), seats);
+        var price = randomPrice();
+        var layout = SeatLayout.singleRow(MAX_SEATS, price);
+        var seats = Seats.allAvailable(layout).reserveAll(IntStream.rangeClosed(1, MAX_SEATS)
+                .mapToObj(SeatNumber::of)
+                .toList());
+        return new Show(showId, "Show title " + showId.id(), layout, seats);
     }
 
     public static ShowId randomShowId() {
@@ -37,10 +40,6 @@ public class ShowFixture {
         return SeatNumber.of(RANDOM.nextInt(1, maxSeats + 1));
     }
 
-    private static Seat randomReservedSeat() {
-        return new Seat(randomSeatNumber(), SeatStatus.RESERVED, randomPrice());
-    }
-
     private static BigDecimal randomPrice() {
         return BigDecimal.valueOf(RANDOM.nextInt(1, MAX_PRICE + 1));
     }
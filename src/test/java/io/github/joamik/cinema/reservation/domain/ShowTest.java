@@ -5,17 +5,25 @@ import io.github.joamik.cinema.base.domain.Result.Success;
 import io.github.joamik.cinema.base.domain.Clock;
 import io.github.joamik.cinema.reservation.domain.ShowEvent.SeatReservationCancelled;
 import io.github.joamik.cinema.reservation.domain.ShowEvent.SeatReserved;
+import io.github.joamik.cinema.reservation.domain.ShowEvent.SeatsReservationCancelled;
+import io.github.joamik.cinema.reservation.domain.ShowEvent.SeatsReserved;
 import io.github.joamik.cinema.reservation.domain.ShowEvent.ShowCreated;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
+import java.math.BigDecimal;
 import java.time.Instant;
 import java.util.List;
 
 import static io.github.joamik.cinema.reservation.domain.ShowCommandFixture.cancelNotExistingSeatReservation;
+import static io.github.joamik.cinema.reservation.domain.ShowCommandFixture.cancelSeatsReservation;
 import static io.github.joamik.cinema.reservation.domain.ShowCommandFixture.randomCancelSeatReservation;
 import static io.github.joamik.cinema.reservation.domain.ShowCommandFixture.randomCreateShow;
+import static io.github.joamik.cinema.reservation.domain.ShowCommandFixture.reserveBestSeats;
 import static io.github.joamik.cinema.reservation.domain.ShowCommandFixture.reserveNotExistingSeat;
 import static io.github.joamik.cinema.reservation.domain.ShowCommandFixture.randomReserveSeat;
+import static io.github.joamik.cinema.reservation.domain.ShowCommandFixture.reserveSeats;
 import static io.github.joamik.cinema.reservation.domain.ShowFixture.randomShow;
 import static io.github.joamik.cinema.reservation.domain.ShowFixture.randomShowId;
 import static io.github.joamik.cinema.reservation.domain.ShowFixture.randomShowWithReservedSeats;
@@ -39,7 +47,7 @@ class ShowTest {
         // then
         assertThat(show.id()).isEqualTo(showId);
         assertThat(show.title()).isEqualTo(createShow.title());
-        assertThat(show.seats()).hasSize(createShow.maxSeats());
+        assertThat(show.seats().size()).isEqualTo(createShow.maxSeats());
     }
 
     @Test
@@ -52,7 +60,7 @@ class ShowTest {
         var result = show.process(createShow, clock);
 
         // then
-        var error = ((Failure<ShowCommandError, List<ShowEvent>>) result).error();
+        var error = ((Failure<ShowCommandError, ShowEvent>) result).error();
         assertThat(error).isEqualTo(ShowCommandError.SHOW_ALREADY_EXISTS);
     }
 
@@ -83,8 +91,8 @@ class ShowTest {
         // then
         assertThat(result).isInstanceOf(Success.class);
 
-        var events = ((Success<ShowCommandError, List<ShowEvent>>) result).value();
-        assertThat(events).containsOnly(new SeatReserved(show.id(), clock.now(), reserveSeat.seatNumber()));
+        var event = ((Success<ShowCommandError, ShowEvent>) result).value();
+        assertThat(event).isEqualTo(new SeatReserved(show.id(), clock.now(), reserveSeat.seatNumber()));
     }
 
     @Test
@@ -94,8 +102,8 @@ class ShowTest {
         var reserveSeat = randomReserveSeat(show);
 
         // when
-        var events = ((Success<ShowCommandError, List<ShowEvent>>) show.process(reserveSeat, clock)).value();
-        var updatedShow = apply(show, events);
+        var event = ((Success<ShowCommandError, ShowEvent>) show.process(reserveSeat, clock)).value();
+        var updatedShow = show.apply(event);
 
         // then
         var reservedSeat = updatedShow.seats().get(reserveSeat.seatNumber());
@@ -109,8 +117,8 @@ class ShowTest {
         var reserveSeat = randomReserveSeat(show);
 
         // when
-        var events = ((Success<ShowCommandError, List<ShowEvent>>) show.process(reserveSeat, clock)).value();
-        var updatedShow = apply(show, events);
+        var event = ((Success<ShowCommandError, ShowEvent>) show.process(reserveSeat, clock)).value();
+        var updatedShow = show.apply(event);
 
         // then
         var reservedSeat = updatedShow.seats().get(reserveSeat.seatNumber());
@@ -122,7 +130,7 @@ class ShowTest {
         // then
         assertThat(result).isInstanceOf(Failure.class);
 
-        var error = ((Failure<ShowCommandError, List<ShowEvent>>) result).error();
+        var error = ((Failure<ShowCommandError, ShowEvent>) result).error();
         assertThat(error).isEqualTo(ShowCommandError.SEAT_NOT_AVAILABLE);
     }
 
@@ -138,7 +146,7 @@ class ShowTest {
         // then
         assertThat(result).isInstanceOf(Failure.class);
 
-        var error = ((Failure<ShowCommandError, List<ShowEvent>>) result).error();
+        var error = ((Failure<ShowCommandError, ShowEvent>) result).error();
         assertThat(error).isEqualTo(ShowCommandError.SEAT_NOT_EXISTS);
     }
 
@@ -154,8 +162,8 @@ class ShowTest {
         // then
         assertThat(result).isInstanceOf(Success.class);
 
-        var events = ((Success<ShowCommandError, List<ShowEvent>>) result).value();
-        assertThat(events).containsOnly(new SeatReservationCancelled(show.id(), clock.now(), cancelSeatReservation.seatNumber()));
+        var event = ((Success<ShowCommandError, ShowEvent>) result).value();
+        assertThat(event).isEqualTo(new SeatReservationCancelled(show.id(), clock.now(), cancelSeatReservation.seatNumber()));
     }
 
     @Test
@@ -165,8 +173,8 @@ class ShowTest {
         var cancelSeatReservation = randomCancelSeatReservation(show);
 
         // when
-        var events = ((Success<ShowCommandError, List<ShowEvent>>) show.process(cancelSeatReservation, clock)).value();
-        var updatedShow = apply(show, events);
+        var event = ((Success<ShowCommandError, ShowEvent>) show.process(cancelSeatReservation, clock)).value();
+        var updatedShow = show.apply(event);
 
         // then
         var canceledSeat = updatedShow.seats().get(cancelSeatReservation.seatNumber());
@@ -184,7 +192,7 @@ class ShowTest {
         // then
         assertThat(result).isInstanceOf(Failure.class);
 
-        var error = ((Failure<ShowCommandError, List<ShowEvent>>) result).error();
+        var error = ((Failure<ShowCommandError, ShowEvent>) result).error();
         assertThat(error).isEqualTo(ShowCommandError.SEAT_NOT_RESERVED);
     }
 
@@ -200,15 +208,151 @@ class ShowTest {
         // then
         assertThat(result).isInstanceOf(Failure.class);
 
-        var error = ((Failure<ShowCommandError, List<ShowEvent>>) result).error();
+        var error = ((Failure<ShowCommandError, ShowEvent>) result).error();
         assertThat(error).isEqualTo(ShowCommandError.SEAT_NOT_EXISTS);
     }
 
-    private Show apply(Show show, List<ShowEvent> events) {
-        var updatedShow = show;
-        for (var event : events) {
-            updatedShow = updatedShow.apply(event);
-        }
-        return updatedShow;
+    @Test
+    void shouldReserveMultipleSeatsWithSingleEvent() {
+        // given
+        var show = randomShow();
+        var reserveSeats = reserveSeats(show, 1, 2, 3, 2);
+
+        // when
+        var result = show.process(reserveSeats, clock);
+
+        // then
+        var event = ((Success<ShowCommandError, ShowEvent>) result).value();
+        assertThat(event).isEqualTo(new SeatsReserved(show.id(), clock.now(), List.of(SeatNumber.of(1), SeatNumber.of(2), SeatNumber.of(3))));
+
+        // when
+        var updatedShow = show.apply(event);
+
+        // then
+        assertThat(updatedShow.seats().availableCount()).isEqualTo(show.seats().size() - 3);
+        assertThat(updatedShow.seats().isReserved(SeatNumber.of(2))).isTrue();
+    }
+
+    @Test
+    void shouldNotReserveAnySeatWhenOneIsNotAvailable() {
+        // given
+        var show = randomShow();
+        var event = ((Success<ShowCommandError, ShowEvent>) show.process(reserveSeats(show, 2), clock)).value();
+        var updatedShow = show.apply(event);
+
+        // when
+        var result = updatedShow.process(reserveSeats(show, 1, 2, 3), clock);
+
+        // then
+        var error = ((Failure<ShowCommandError, ShowEvent>) result).error();
+        assertThat(error).isEqualTo(ShowCommandError.SEAT_NOT_AVAILABLE);
+    }
+
+    @Test
+    void shouldNotReserveAnySeatWhenOneDoesNotExist() {
+        // given
+        var show = randomShow();
+
+        // when
+        var result = show.process(reserveSeats(show, 1, show.seats().size() + 1), clock);
+
+        // then
+        var error = ((Failure<ShowCommandError, ShowEvent>) result).error();
+        assertThat(error).isEqualTo(ShowCommandError.SEAT_NOT_EXISTS);
+    }
+
+    @Test
+    void shouldCancelMultipleSeatReservationsWithSingleEvent() {
+        // given
+        var show = randomShowWithReservedSeats();
+        var cancelSeatsReservation = cancelSeatsReservation(show, 4, 5);
+
+        // when
+        var result = show.process(cancelSeatsReservation, clock);
+
+        // then
+        var event = ((Success<ShowCommandError, ShowEvent>) result).value();
+        assertThat(event).isEqualTo(new SeatsReservationCancelled(show.id(), clock.now(), List.of(SeatNumber.of(4), SeatNumber.of(5))));
+        assertThat(show.apply(event).seats().availableCount()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldNotCancelAnyReservationWhenOneSeatIsNotReserved() {
+        // given
+        var show = randomShow();
+
+        // when
+        var result = show.process(cancelSeatsReservation(show, 4, 5), clock);
+
+        // then
+        var error = ((Failure<ShowCommandError, ShowEvent>) result).error();
+        assertThat(error).isEqualTo(ShowCommandError.SEAT_NOT_RESERVED);
+    }
+
+    @Test
+    void shouldReserveBestAdjacentSeatsInFirstPriceZone() {
+        // given
+        var show = twoRowShow();
+
+        // when
+        var result = show.process(reserveBestSeats(show, 3), clock);
+
+        // then
+        var event = ((Success<ShowCommandError, ShowEvent>) result).value();
+        assertThat(event).isEqualTo(new SeatsReserved(show.id(), clock.now(), List.of(SeatNumber.of(5), SeatNumber.of(6), SeatNumber.of(7))));
+    }
+
+    @Test
+    void shouldReserveBestAdjacentSeatsInNextRowWhenPreferredRowIsFragmented() {
+        // given
+        var show = twoRowShow();
+        var updatedShow = show.apply(((Success<ShowCommandError, ShowEvent>) show.process(reserveSeats(show, 7), clock)).value());
+
+        // when
+        var result = updatedShow.process(reserveBestSeats(updatedShow, 3), clock);
+
+        // then
+        var event = ((Success<ShowCommandError, ShowEvent>) result).value();
+        assertThat(event).isEqualTo(new SeatsReserved(show.id(), clock.now(), List.of(SeatNumber.of(1), SeatNumber.of(2), SeatNumber.of(3))));
+    }
+
+    @Test
+    void shouldNotReserveBestSeatsWhenNoRowHasEnoughAdjacentSeats() {
+        // given
+        var show = twoRowShow();
+        var updatedShow = show.apply(((Success<ShowCommandError, ShowEvent>) show.process(reserveSeats(show, 2, 6), clock)).value());
+
+        // when
+        var result = updatedShow.process(reserveBestSeats(updatedShow, 3), clock);
+
+        // then
+        var error = ((Failure<ShowCommandError, ShowEvent>) result).error();
+        assertThat(error).isEqualTo(ShowCommandError.NOT_ENOUGH_ADJACENT_SEATS);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {5, Integer.MAX_VALUE})
+    void shouldNotReserveMoreBestSeatsThanLongestRow(int count) {
+        // given
+        var show = twoRowShow();
+
+        // when
+        var result = show.process(reserveBestSeats(show, count), clock);
+
+        // then
+        var error = ((Failure<ShowCommandError, ShowEvent>) result).error();
+        assertThat(error).isEqualTo(ShowCommandError.TOO_MANY_SEATS);
+    }
+
+    /**
+     * Seats 1-4 in the standard row, seats 5-8 in the premium row, premium zone preferred.
+     */
+    private Show twoRowShow() {
+        var layout = new SeatLayout(
+                List.of(new SeatLayout.PriceZone("premium", BigDecimal.valueOf(200)), new SeatLayout.PriceZone("standard", BigDecimal.TEN)),
+                List.of(new SeatLayout.Section("A", List.of(
+                        new SeatLayout.Row("1", 4, "standard"),
+                        new SeatLayout.Row("2", 4, "premium")))));
+        return new Show(randomShowId(), "Two rows", layout, Seats.allAvailable(layout));
     }
 }
\ No newline at end of file
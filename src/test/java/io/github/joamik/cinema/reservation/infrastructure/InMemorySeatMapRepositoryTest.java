@@ -0,0 +1,56 @@
+package io.github.joamik.cinema.reservation.infrastructure;
+
+import io.github.joamik.cinema.reservation.domain.InitialShow;
+import io.github.joamik.cinema.reservation.domain.SeatLayout;
+import io.github.joamik.cinema.reservation.domain.SeatNumber;
+import io.github.joamik.cinema.reservation.domain.ShowEvent.SeatReservationCancelled;
+import io.github.joamik.cinema.reservation.domain.ShowEvent.SeatReserved;
+import io.github.joamik.cinema.reservation.domain.ShowEvent.ShowCreated;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+
+import static io.github.joamik.cinema.reservation.application.Await.await;
+import static io.github.joamik.cinema.reservation.domain.ShowFixture.randomShowId;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InMemorySeatMapRepositoryTest {
+
+    private final InMemorySeatMapRepository seatMapRepository = new InMemorySeatMapRepository();
+
+    @Test
+    void shouldFindSeatStatusOfProjectedShow() throws ExecutionException, InterruptedException {
+        // given
+        var showId = randomShowId();
+        var layout = SeatLayout.singleRow(10, BigDecimal.TEN);
+        await(seatMapRepository.apply(List.of(new ShowCreated(showId, Instant.now(), new InitialShow(showId, "Title", layout)))));
+
+        // when
+        await(seatMapRepository.apply(List.of(
+                new SeatReserved(showId, Instant.now(), SeatNumber.of(1)),
+                new SeatReserved(showId, Instant.now(), SeatNumber.of(2)),
+                new SeatReservationCancelled(showId, Instant.now(), SeatNumber.of(1)))));
+
+        // then
+        var show = await(seatMapRepository.findBy(showId)).orElseThrow();
+        assertThat(show.title()).isEqualTo("Title");
+        assertThat(show.layout()).isEqualTo(layout);
+        assertThat(show.seats().isAvailable(SeatNumber.of(1))).isTrue();
+        assertThat(show.seats().isReserved(SeatNumber.of(2))).isTrue();
+    }
+
+    @Test
+    void shouldNotFindShowNotProjected() throws ExecutionException, InterruptedException {
+        // given
+        var showId = randomShowId();
+
+        // when
+        await(seatMapRepository.apply(List.of(new SeatReserved(showId, Instant.now(), SeatNumber.of(1)))));
+
+        // then
+        assertThat(await(seatMapRepository.findBy(showId))).isEmpty();
+    }
+}
@@ -0,0 +1,90 @@
+package io.github.joamik.cinema.reservation.infrastructure;
+
+import io.github.joamik.cinema.reservation.application.projection.ShowView;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+import static io.github.joamik.cinema.reservation.application.Await.await;
+import static io.github.joamik.cinema.reservation.domain.ShowFixture.randomShowId;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InMemoryShowViewRepositoryTest {
+
+    private final InMemoryShowViewRepository showViewRepository = new InMemoryShowViewRepository();
+
+    @Test
+    void shouldFindOnlyShowsWithAvailableSeats() throws ExecutionException, InterruptedException {
+        // given
+        var showId1 = randomShowId();
+        var showId2 = randomShowId();
+        await(showViewRepository.save(showId1, 2));
+        await(showViewRepository.save(showId2, 2));
+
+        // when
+        await(showViewRepository.decrementAvailability(showId1, 2));
+        await(showViewRepository.decrementAvailability(showId2, 2));
+        await(showViewRepository.incrementAvailability(showId2, 1));
+
+        // then
+        assertThat(await(showViewRepository.findAvailable())).containsOnly(new ShowView(showId2.id().toString(), 1));
+    }
+
+    @Test
+    void shouldNotLoseConcurrentUpdates() throws Exception {
+        // given
+        var showId = randomShowId();
+        await(showViewRepository.save(showId, 10_000));
+
+        // when
+        try (var executor = Executors.newFixedThreadPool(4)) {
+            IntStream.range(0, 10_000).forEach(_ -> executor.submit(() -> showViewRepository.decrementAvailability(showId, 1)));
+            IntStream.range(0, 5_000).forEach(_ -> executor.submit(() -> showViewRepository.incrementAvailability(showId, 1)));
+        }
+
+        // then
+        assertThat(await(showViewRepository.findAvailable())).containsOnly(new ShowView(showId.id().toString(), 5_000));
+    }
+
+    @Test
+    void shouldPageThroughShowsWithFewestAvailableSeatsFirst() throws ExecutionException, InterruptedException {
+        // given
+        var showIds = IntStream.rangeClosed(1, 5).mapToObj(_ -> randomShowId()).toList();
+        for (int i = 0; i < showIds.size(); i++) {
+            await(showViewRepository.save(showIds.get(i), 10 - i));
+        }
+        await(showViewRepository.decrementAvailability(showIds.getFirst(), 10));
+
+        // when
+        var firstPage = await(showViewRepository.findAvailable(Optional.empty(), 2));
+        var secondPage = await(showViewRepository.findAvailable(Optional.of(firstPage.getLast()), 2));
+        var lastPage = await(showViewRepository.findAvailable(Optional.of(secondPage.getLast()), 2));
+
+        // then
+        assertThat(firstPage).extracting(ShowView::availableSeats).containsExactly(6, 7);
+        assertThat(secondPage).extracting(ShowView::availableSeats).containsExactly(8, 9);
+        assertThat(lastPage).isEmpty();
+    }
+
+    @Test
+    void shouldFindAlmostSoldOutShows() throws ExecutionException, InterruptedException {
+        // given
+        var showId1 = randomShowId();
+        var showId2 = randomShowId();
+        var showId3 = randomShowId();
+        await(showViewRepository.save(showId1, 5));
+        await(showViewRepository.save(showId2, 5));
+        await(showViewRepository.save(showId3, 5));
+        await(showViewRepository.decrementAvailability(showId2, 4));
+        await(showViewRepository.decrementAvailability(showId3, 5));
+
+        // when
+        var almostSoldOut = await(showViewRepository.findAlmostSoldOut(2));
+
+        // then
+        assertThat(almostSoldOut).containsExactly(new ShowView(showId2.id().toString(), 1), new ShowView(showId1.id().toString(), 5));
+    }
+}
@@ -0,0 +1,129 @@
+package io.github.joamik.cinema.reservation.infrastructure;
+
+import akka.actor.testkit.typed.javadsl.ActorTestKit;
+import com.zaxxer.hikari.HikariDataSource;
+import io.github.joamik.cinema.reservation.domain.InitialShow;
+import io.github.joamik.cinema.reservation.domain.SeatLayout;
+import io.github.joamik.cinema.reservation.domain.SeatNumber;
+import io.github.joamik.cinema.reservation.domain.ShowEvent.SeatReserved;
+import io.github.joamik.cinema.reservation.domain.ShowEvent.ShowCreated;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static io.github.joamik.cinema.reservation.application.Await.await;
+import static io.github.joamik.cinema.reservation.domain.ShowFixture.randomShowId;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Disabled(value = "Before enabling, run: docker-compose -p cinema -f development/docker-compose-jdbc.yml up")
+class JdbcSeatMapRepositoryTest {
+
+    private static final HikariDataSource dataSource = new HikariDataSource();
+    private static final ActorTestKit testKit = ActorTestKit.create();
+
+    static {
+        dataSource.setJdbcUrl("jdbc:postgresql://localhost:5432/postgres");
+        dataSource.setUsername("admin");
+        dataSource.setPassword("admin");
+    }
+
+    private final AtomicReference<Instant> now = new AtomicReference<>(Instant.now());
+    private final JdbcSeatMapRepository seatMapRepository = new JdbcSeatMapRepository(dataSource, Executors.newSingleThreadExecutor(),
+            testKit.system(), now::get, 2, Duration.ofSeconds(5));
+
+    @AfterAll
+    public static void cleanUp() {
+        dataSource.close();
+        testKit.shutdownTestKit();
+    }
+
+    @Test
+    void shouldApplyEventsWithinTransaction() throws Exception {
+        // given
+        var showId = randomShowId();
+        var layout = SeatLayout.singleRow(10, BigDecimal.TEN);
+        await(seatMapRepository.apply(List.of(new ShowCreated(showId, Instant.now(), new InitialShow(showId, "Title", layout)))));
+
+        // when
+        try (var connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            var committed = seatMapRepository.apply(connection, List.of(new SeatReserved(showId, Instant.now(), SeatNumber.of(3))));
+            connection.commit();
+            committed.run();
+        }
+
+        // then
+        var show = await(seatMapRepository.findBy(showId)).orElseThrow();
+        assertThat(show.layout()).isEqualTo(layout);
+        assertThat(show.seats().isReserved(SeatNumber.of(3))).isTrue();
+    }
+
+    @Test
+    void shouldNotServeShowOfRolledBackTransaction() throws Exception {
+        // given
+        var showId = randomShowId();
+        var layout = SeatLayout.singleRow(10, BigDecimal.TEN);
+        await(seatMapRepository.apply(List.of(new ShowCreated(showId, Instant.now(), new InitialShow(showId, "Title", layout)))));
+
+        // when
+        try (var connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            seatMapRepository.apply(connection, List.of(new SeatReserved(showId, Instant.now(), SeatNumber.of(3))));
+            connection.rollback();
+        }
+
+        // then
+        var show = await(seatMapRepository.findBy(showId)).orElseThrow();
+        assertThat(show.seats().isReserved(SeatNumber.of(3))).isFalse();
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsedShowAboveCapacity() throws Exception {
+        // given
+        var layout = SeatLayout.singleRow(10, BigDecimal.TEN);
+        var showIds = List.of(randomShowId(), randomShowId(), randomShowId());
+        for (var showId : showIds) {
+            await(seatMapRepository.apply(List.of(new ShowCreated(showId, Instant.now(), new InitialShow(showId, "Title", layout)))));
+        }
+        try (var connection = dataSource.getConnection();
+             var delete = connection.prepareStatement("DELETE FROM show_seat_map WHERE show_id = ?")) {
+            delete.setObject(1, showIds.getFirst().id());
+            delete.executeUpdate();
+        }
+
+        // when
+        var evicted = await(seatMapRepository.findBy(showIds.getFirst()));
+
+        // then
+        assertThat(evicted).isEmpty();
+    }
+
+    @Test
+    void shouldServeShowFromMemoryUntilTimeToLivePasses() throws Exception {
+        // given
+        var showId = randomShowId();
+        var layout = SeatLayout.singleRow(10, BigDecimal.TEN);
+        await(seatMapRepository.apply(List.of(new ShowCreated(showId, Instant.now(), new InitialShow(showId, "Title", layout)))));
+        try (var connection = dataSource.getConnection();
+             var delete = connection.prepareStatement("DELETE FROM show_seat_map WHERE show_id = ?")) {
+            delete.setObject(1, showId.id());
+            delete.executeUpdate();
+        }
+
+        // when
+        var fromMemory = await(seatMapRepository.findBy(showId));
+        now.set(now.get().plusSeconds(6));
+        var fromTable = await(seatMapRepository.findBy(showId));
+
+        // then
+        assertThat(fromMemory).isPresent();
+        assertThat(fromTable).isEmpty();
+    }
+}
@@ -0,0 +1,72 @@
+package io.github.joamik.cinema.reservation.infrastructure;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.github.joamik.cinema.reservation.application.projection.ShowView;
+import io.github.joamik.cinema.reservation.application.projection.ShowViewChange;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+
+import static io.github.joamik.cinema.reservation.application.Await.await;
+import static io.github.joamik.cinema.reservation.domain.ShowFixture.randomShowId;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Disabled(value = "Before enabling, run: docker-compose -p cinema -f development/docker-compose-jdbc.yml up")
+class JdbcShowViewRepositoryTest {
+
+    private static final HikariDataSource dataSource = new HikariDataSource();
+
+    static {
+        dataSource.setJdbcUrl("jdbc:postgresql://localhost:5432/postgres");
+        dataSource.setUsername("admin");
+        dataSource.setPassword("admin");
+    }
+
+    private final JdbcShowViewRepository showViewRepository = new JdbcShowViewRepository(dataSource, Executors.newSingleThreadExecutor());
+
+    @AfterAll
+    public static void cleanUp() {
+        dataSource.close();
+    }
+
+    @Test
+    void shouldApplyChangesWithinTransaction() throws Exception {
+        // given
+        var showId1 = randomShowId();
+        var showId2 = randomShowId();
+        await(showViewRepository.save(showId2, 5));
+        var changes = List.of(
+                new ShowViewChange(showId1, true, 10, -3),
+                new ShowViewChange(showId2, false, 0, -2));
+
+        // when
+        try (var connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            showViewRepository.apply(connection, changes);
+            connection.commit();
+        }
+
+        // then
+        assertThat(await(showViewRepository.findAvailable()))
+                .contains(new ShowView(showId1.id().toString(), 7), new ShowView(showId2.id().toString(), 3));
+    }
+
+    @Test
+    void shouldNotFindSoldOutShow() throws ExecutionException, InterruptedException {
+        // given
+        var showId = randomShowId();
+        await(showViewRepository.save(showId, 2));
+
+        // when
+        await(showViewRepository.decrementAvailability(showId, 2));
+
+        // then
+        assertThat(await(showViewRepository.findAvailable()))
+                .extracting(ShowView::showId)
+                .doesNotContain(showId.id().toString());
+    }
+}
@@ -0,0 +1,128 @@
+package io.github.joamik.cinema.reservation.infrastructure;
+
+import akka.actor.testkit.typed.javadsl.ActorTestKit;
+import akka.persistence.journal.EventSeq;
+import akka.serialization.Serialization;
+import akka.serialization.SerializationExtension;
+import com.typesafe.config.ConfigFactory;
+import io.github.joamik.cinema.reservation.domain.InitialShow;
+import io.github.joamik.cinema.reservation.domain.SeatLayout;
+import io.github.joamik.cinema.reservation.domain.SeatLayout.PriceZone;
+import io.github.joamik.cinema.reservation.domain.SeatLayout.Row;
+import io.github.joamik.cinema.reservation.domain.SeatLayout.Section;
+import io.github.joamik.cinema.reservation.domain.SeatNumber;
+import io.github.joamik.cinema.reservation.domain.ShowId;
+import io.github.joamik.cinema.reservation.domain.ShowEvent.SeatReserved;
+import io.github.joamik.cinema.reservation.domain.ShowEvent.ShowCreated;
+import io.github.joamik.cinema.reservation.infrastructure.legacy.ShowEvent;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+import static io.github.joamik.cinema.reservation.domain.ShowFixture.randomShowId;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LegacyJavaSerializerTest {
+
+    private static final ActorTestKit testKit = ActorTestKit.create(ConfigFactory.parseString("""
+                akka.actor.allow-java-serialization=off
+                akka.loglevel=INFO
+            """).withFallback(ConfigFactory.parseResources("serialization.conf")));
+
+    private static final ShowId SHOW_ID = ShowId.of(UUID.fromString("16441a2e-7f04-432c-be9f-aa4e7377e4ce"));
+    private static final Instant CREATED_AT = Instant.parse("2024-03-16T21:32:05Z");
+
+    private final Serialization serialization = SerializationExtension.get(testKit.system().classicSystem());
+
+    @AfterAll
+    public static void cleanUp() {
+        testKit.shutdownTestKit();
+    }
+
+    @Test
+    void shouldReadEventStoredWithJavaSerialization() throws IOException {
+        // given
+        var seatReserved = new SeatReserved(randomShowId(), Instant.parse("2024-03-16T21:32:05Z"), SeatNumber.of(3));
+
+        // when
+        var event = serialization.deserialize(javaSerialized(seatReserved), LegacyJavaSerializer.IDENTIFIER, "").get();
+
+        // then
+        assertThat(event).isEqualTo(seatReserved);
+    }
+
+    @Test
+    void shouldUpcastShowCreatedStoredWithAllSeats() throws IOException {
+        // given
+        var bytes = resource("legacy/show-created.ser");
+
+        // when
+        var legacyShowCreated = serialization.deserialize(bytes, LegacyJavaSerializer.IDENTIFIER, "").get();
+        var eventSeq = new LegacyShowCreatedAdapter().fromJournal(legacyShowCreated, "");
+
+        // then
+        var expectedLayout = new SeatLayout(
+                List.of(new PriceZone("100", BigDecimal.valueOf(100))),
+                List.of(new Section("1", List.of(new Row("1", 5, "100")))));
+        assertThat(legacyShowCreated).isInstanceOf(ShowEvent.ShowCreated.class);
+        assertThat(eventSeq).isEqualTo(EventSeq.single(new ShowCreated(SHOW_ID, CREATED_AT, new InitialShow(SHOW_ID, "Chicago", expectedLayout))));
+    }
+
+    @Test
+    void shouldReadSeatReservationStoredBeforeShowSerializer() throws IOException {
+        // given
+        var bytes = resource("legacy/seat-reserved.ser");
+
+        // when
+        var event = serialization.deserialize(bytes, LegacyJavaSerializer.IDENTIFIER, "").get();
+
+        // then
+        assertThat(event).isEqualTo(new SeatReserved(SHOW_ID, CREATED_AT, SeatNumber.of(2)));
+    }
+
+    @Test
+    void shouldNotReadClassesOutsideShowDomain() throws IOException {
+        // given
+        var bytes = javaSerialized(new File("show"));
+
+        // when
+        var result = serialization.deserialize(bytes, LegacyJavaSerializer.IDENTIFIER, "");
+
+        // then
+        assertThat(result.isFailure()).isTrue();
+    }
+
+    @Test
+    void shouldNotWriteWithJavaSerialization() {
+        // given
+        var serializer = serialization.serializerByIdentity().apply(LegacyJavaSerializer.IDENTIFIER);
+
+        // when // then
+        assertThat(serializer).isInstanceOf(LegacyJavaSerializer.class);
+        assertThatThrownBy(() -> serializer.toBinary(new File("show"))).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static byte[] resource(String name) throws IOException {
+        try (var in = LegacyJavaSerializerTest.class.getClassLoader().getResourceAsStream(name)) {
+            return Objects.requireNonNull(in, name).readAllBytes();
+        }
+    }
+
+    private static byte[] javaSerialized(Object object) throws IOException {
+        var bytes = new ByteArrayOutputStream();
+        try (var out = new ObjectOutputStream(bytes)) {
+            out.writeObject(object);
+        }
+        return bytes.toByteArray();
+    }
+}
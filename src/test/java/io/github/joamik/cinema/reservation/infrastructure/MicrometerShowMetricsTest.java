@@ -0,0 +1,52 @@
+package io.github.joamik.cinema.reservation.infrastructure;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MicrometerShowMetricsTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final MicrometerShowMetrics showMetrics = new MicrometerShowMetrics(meterRegistry);
+
+    @Test
+    void shouldRecordAskLatencyByRequestAndOutcome() {
+        // when
+        showMetrics.asked("ReserveSeat", "processed", Duration.ofMillis(10).toNanos());
+        showMetrics.asked("ReserveSeat", "processed", Duration.ofMillis(30).toNanos());
+        showMetrics.asked("ReserveSeat", "rejected", Duration.ofMillis(5).toNanos());
+
+        // then
+        var processed = meterRegistry.get(MicrometerShowMetrics.ASK).tags("request", "ReserveSeat", "outcome", "processed").timer();
+        assertThat(processed.count()).isEqualTo(2);
+        assertThat(processed.max(MILLISECONDS)).isEqualTo(30);
+        assertThat(processed.takeSnapshot().percentileValues()).hasSize(3);
+        assertThat(meterRegistry.get(MicrometerShowMetrics.ASK).tags("outcome", "rejected").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldRecordPersistLatencyByEvent() {
+        // when
+        showMetrics.persisted("SeatReserved", Duration.ofMillis(3).toNanos());
+
+        // then
+        var persisted = meterRegistry.get(MicrometerShowMetrics.PERSIST).tags("event", "SeatReserved").timer();
+        assertThat(persisted.count()).isEqualTo(1);
+        assertThat(persisted.max(MILLISECONDS)).isEqualTo(3);
+    }
+
+    @Test
+    void shouldRecordProjectionLatencyAndGroupSize() {
+        // when
+        showMetrics.projected("show-view", 100, Duration.ofMillis(20).toNanos());
+        showMetrics.projected("show-view", 20, Duration.ofMillis(5).toNanos());
+
+        // then
+        assertThat(meterRegistry.get(MicrometerShowMetrics.PROJECTION).tags("projection", "show-view").timer().count()).isEqualTo(2);
+        assertThat(meterRegistry.get(MicrometerShowMetrics.PROJECTION_GROUP).summary().totalAmount()).isEqualTo(120);
+    }
+}
@@ -0,0 +1,82 @@
+package io.github.joamik.cinema.reservation.infrastructure;
+
+import akka.actor.testkit.typed.javadsl.ActorTestKit;
+import akka.projection.ProjectionId;
+import io.github.joamik.cinema.reservation.application.projection.ProjectionLagMonitor;
+import io.github.joamik.cinema.reservation.application.projection.ProjectionPositions;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.health.Status;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+class ProjectionLagHealthIndicatorTest {
+
+    private static final ActorTestKit testKit = ActorTestKit.create();
+
+    private final ProjectionId projectionId = ProjectionId.of("show-view", "ShowEvent-0");
+    private final AtomicLong latestOrdering = new AtomicLong();
+    private final ProjectionLagMonitor projectionLagMonitor = new ProjectionLagMonitor(testKit.system(), List.of(projectionId),
+            new FixedOffsetPositions(), Instant::now, Duration.ofMillis(50));
+    private final ProjectionLagHealthIndicator healthIndicator = new ProjectionLagHealthIndicator(projectionLagMonitor, 10);
+
+    @AfterAll
+    public static void cleanUp() {
+        testKit.shutdownTestKit();
+    }
+
+    @Test
+    void shouldDegradeWhenLagExceedsMaxLag() {
+        // given
+        assertThat(healthIndicator.health().getStatus()).isEqualTo(Status.UNKNOWN);
+        projectionLagMonitor.start();
+
+        // when
+        latestOrdering.set(10);
+
+        // then
+        await().untilAsserted(() -> assertThat(healthIndicator.health().getStatus()).isEqualTo(Status.UP));
+
+        // when
+        latestOrdering.set(11);
+
+        // then
+        await().untilAsserted(() -> assertThat(healthIndicator.health().getStatus()).isEqualTo(ProjectionLagHealthIndicator.DEGRADED));
+        assertThat(healthIndicator.health().getDetails()).containsKey(projectionId.id());
+    }
+
+    /**
+     * Every event ordered by one, the projection has not stored any offset yet.
+     */
+    private class FixedOffsetPositions implements ProjectionPositions {
+
+        @Override
+        public CompletionStage<Long> latestOrdering(String tag) {
+            return completedFuture(latestOrdering.get());
+        }
+
+        @Override
+        public CompletionStage<Long> countEvents(String tag, long afterOrdering, long toOrdering) {
+            return completedFuture(toOrdering - afterOrdering);
+        }
+
+        @Override
+        public CompletionStage<Optional<Long>> storedOffset(ProjectionId projectionId) {
+            return completedFuture(Optional.empty());
+        }
+
+        @Override
+        public CompletionStage<Optional<Long>> ordering(String persistenceId, long sequenceNr) {
+            return completedFuture(Optional.empty());
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package io.github.joamik.cinema.reservation.infrastructure;
+
+import akka.actor.testkit.typed.javadsl.ActorTestKit;
+import akka.actor.testkit.typed.javadsl.SerializationTestKit;
+import akka.serialization.SerializationExtension;
+import com.typesafe.config.ConfigFactory;
+import io.github.joamik.cinema.base.domain.Clock;
+import io.github.joamik.cinema.base.domain.Result.Success;
+import io.github.joamik.cinema.reservation.application.PersistedShowEvent;
+import io.github.joamik.cinema.reservation.application.ShowEntityCommand.GetShow;
+import io.github.joamik.cinema.reservation.application.ShowEntityCommand.ShowCommandEnvelope;
+import io.github.joamik.cinema.reservation.application.ShowEntityResponse;
+import io.github.joamik.cinema.reservation.application.ShowSnapshot;
+import io.github.joamik.cinema.reservation.application.ShowEntityResponse.CommandProcessed;
+import io.github.joamik.cinema.reservation.application.ShowEntityResponse.CommandRejected;
+import io.github.joamik.cinema.reservation.application.ShowEntityResponse.SeatsAllocated;
+import io.github.joamik.cinema.reservation.domain.SeatLayout;
+import io.github.joamik.cinema.reservation.domain.SeatLayout.PriceZone;
+import io.github.joamik.cinema.reservation.domain.SeatLayout.Row;
+import io.github.joamik.cinema.reservation.domain.SeatLayout.Section;
+import io.github.joamik.cinema.reservation.domain.SeatNumber;
+import io.github.joamik.cinema.reservation.domain.Show;
+import io.github.joamik.cinema.reservation.domain.ShowCommand.CreateShow;
+import io.github.joamik.cinema.reservation.domain.ShowCommandError;
+import io.github.joamik.cinema.reservation.domain.ShowCreator;
+import io.github.joamik.cinema.reservation.domain.ShowEvent;
+import io.github.joamik.cinema.reservation.domain.ShowEvent.SeatReservationCancelled;
+import io.github.joamik.cinema.reservation.domain.ShowEvent.SeatReserved;
+import io.github.joamik.cinema.reservation.domain.ShowEvent.SeatsReservationCancelled;
+import io.github.joamik.cinema.reservation.domain.ShowEvent.SeatsReserved;
+import io.github.joamik.cinema.reservation.domain.ShowEvent.ShowCreated;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import static io.github.joamik.cinema.reservation.domain.ShowCommandFixture.cancelSeatsReservation;
+import static io.github.joamik.cinema.reservation.domain.ShowCommandFixture.randomCancelSeatReservation;
+import static io.github.joamik.cinema.reservation.domain.ShowCommandFixture.randomCreateShow;
+import static io.github.joamik.cinema.reservation.domain.ShowCommandFixture.randomReserveSeat;
+import static io.github.joamik.cinema.reservation.domain.ShowCommandFixture.reserveBestSeats;
+import static io.github.joamik.cinema.reservation.domain.ShowCommandFixture.reserveSeats;
+import static io.github.joamik.cinema.reservation.domain.ShowFixture.randomShow;
+import static io.github.joamik.cinema.reservation.domain.ShowFixture.randomShowWithReservedSeats;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ShowSerializerTest {
+
+    private static final ActorTestKit testKit = ActorTestKit.create(ConfigFactory.parseString("""
+                akka.actor.allow-java-serialization=off
+                akka.loglevel=INFO
+            """).withFallback(ConfigFactory.parseResources("serialization.conf")));
+
+    private final SerializationTestKit serializationTestKit = new SerializationTestKit(testKit.system());
+
+    private final Clock clock = Clock.fixed(Instant.parse("2024-03-16T21:32:05Z"));
+
+    @AfterAll
+    public static void cleanUp() {
+        testKit.shutdownTestKit();
+    }
+
+    @Test
+    void shouldRoundTripEvents() {
+        // given
+        var show = randomShow();
+        var showCreated = ((Success<ShowCommandError, ShowCreated>) ShowCreator.create(new CreateShow(show.id(), "Arena", 0, arenaLayout()), clock)).value();
+        List<ShowEvent> events = List.of(
+                showCreated,
+                new SeatReserved(show.id(), clock.now(), SeatNumber.of(3)),
+                new SeatReservationCancelled(show.id(), clock.now(), SeatNumber.of(3)),
+                new SeatsReserved(show.id(), clock.now(), List.of(SeatNumber.of(1), SeatNumber.of(2))),
+                new SeatsReservationCancelled(show.id(), clock.now(), List.of(SeatNumber.of(2))));
+
+        // when // then
+        events.forEach(event -> serializationTestKit.verifySerialization(event, true));
+        events.forEach(event -> serializationTestKit.verifySerialization(new PersistedShowEvent(event, 3), true));
+    }
+
+    @Test
+    void shouldRoundTripShowSnapshots() {
+        // given
+        var arena = Show.create(((Success<ShowCommandError, ShowCreated>) ShowCreator.create(new CreateShow(randomShow().id(), "Arena", 0, arenaLayout()), clock)).value());
+        var partiallyReserved = arena.apply(new SeatsReserved(arena.id(), clock.now(), List.of(SeatNumber.of(1), SeatNumber.of(1500), SeatNumber.of(3000))));
+
+        // when // then
+        serializationTestKit.verifySerialization(randomShow(), true);
+        serializationTestKit.verifySerialization(randomShowWithReservedSeats(), true);
+        serializationTestKit.verifySerialization(partiallyReserved, true);
+        serializationTestKit.verifySerialization(Optional.of(partiallyReserved), true);
+        serializationTestKit.verifySerialization(Optional.empty(), true);
+        serializationTestKit.verifySerialization(new ShowSnapshot(Optional.of(partiallyReserved), 2), true);
+        serializationTestKit.verifySerialization(new ShowSnapshot(Optional.empty(), 0), true);
+    }
+
+    @Test
+    void shouldRoundTripCommandsAndResponses() {
+        // given
+        var show = randomShow();
+        var replyTo = testKit.<ShowEntityResponse>createTestProbe().ref();
+
+        // when // then
+        serializationTestKit.verifySerialization(randomCreateShow(show.id()), true);
+        serializationTestKit.verifySerialization(new CreateShow(show.id(), "Arena", 0, arenaLayout()), true);
+        serializationTestKit.verifySerialization(new CreateShow(show.id(), null, 10), true);
+        serializationTestKit.verifySerialization(new CreateShow(show.id(), "ż".repeat(70_000), 10), true);
+        serializationTestKit.verifySerialization(new ShowCommandEnvelope(randomReserveSeat(show), replyTo), true);
+        serializationTestKit.verifySerialization(new ShowCommandEnvelope(randomCancelSeatReservation(show), replyTo), true);
+        serializationTestKit.verifySerialization(new ShowCommandEnvelope(reserveSeats(show, 1, 2), replyTo), true);
+        serializationTestKit.verifySerialization(new ShowCommandEnvelope(cancelSeatsReservation(show, 1, 2), replyTo), true);
+        serializationTestKit.verifySerialization(new ShowCommandEnvelope(reserveBestSeats(show, 3), replyTo), true);
+        serializationTestKit.verifySerialization(new GetShow(testKit.<ShowSnapshot>createTestProbe().ref()), true);
+        serializationTestKit.verifySerialization(new ShowCommandEnvelope(randomReserveSeat(show), Instant.ofEpochMilli(1_710_624_725_000L), replyTo), true);
+        serializationTestKit.verifySerialization(new GetShow(Instant.ofEpochMilli(1_710_624_725_000L), testKit.<ShowSnapshot>createTestProbe().ref()), true);
+        serializationTestKit.verifySerialization(new CommandProcessed(7), true);
+        serializationTestKit.verifySerialization(CommandRejected.of(ShowCommandError.SEAT_NOT_AVAILABLE), true);
+        serializationTestKit.verifySerialization(new SeatsAllocated(List.of(SeatNumber.of(4), SeatNumber.of(5)), 8), true);
+    }
+
+    @Test
+    void shouldUseShowSerializerForShowMessages() {
+        // given
+        var serialization = SerializationExtension.get(testKit.system().classicSystem());
+
+        // when
+        var serializer = serialization.findSerializerFor(new SeatReserved(randomShow().id(), clock.now(), SeatNumber.of(1)));
+
+        // then
+        assertThat(serializer).isInstanceOf(ShowSerializer.class);
+    }
+
+    @Test
+    void shouldReadShowCreatedOfVersion1() throws Exception {
+        // given
+        var showCreated = ((Success<ShowCommandError, ShowCreated>) ShowCreator.create(new CreateShow(randomShow().id(), "Arena", 0, arenaLayout()), clock)).value();
+        var serializer = (ShowSerializer) SerializationExtension.get(testKit.system().classicSystem()).findSerializerFor(showCreated);
+        var version1 = new ByteArrayOutputStream();
+        try (var out = new DataOutputStream(version1)) {
+            byte[] version2 = serializer.toBinary(showCreated);
+            out.writeByte(1);
+            out.write(version2, 1, version2.length - 1);
+            out.writeInt(3000);
+            out.writeInt(0);
+        }
+
+        // when
+        var read = serializer.fromBinary(version1.toByteArray(), serializer.manifest(showCreated));
+
+        // then
+        assertThat(read).isEqualTo(showCreated);
+    }
+
+    @Test
+    void shouldStoreEmptyWordsOfLargeShowCompactly() {
+        // given
+        var arena = Show.create(((Success<ShowCommandError, ShowCreated>) ShowCreator.create(new CreateShow(randomShow().id(), "Arena", 0, arenaLayout()), clock)).value());
+        var serializer = (ShowSerializer) SerializationExtension.get(testKit.system().classicSystem()).findSerializerFor(arena);
+
+        // when
+        byte[] bytes = serializer.toBinary(arena.apply(new SeatReserved(arena.id(), clock.now(), SeatNumber.of(2000))));
+
+        // then
+        assertThat(bytes.length).isLessThan(200);
+    }
+
+    private static SeatLayout arenaLayout() {
+        return new SeatLayout(
+                List.of(new PriceZone("vip", new BigDecimal("120.50")), new PriceZone("standard", BigDecimal.TEN)),
+                List.of(
+                        new Section("A", List.of(new Row("1", 1000, "vip"), new Row("2", 1000, "standard"))),
+                        new Section("B", List.of(new Row("1", 1000, "standard")))));
+    }
+}